@@ -0,0 +1,56 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.benchmarks;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import java.nio.charset.StandardCharsets;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A per-thread {@link Document} writing to a {@link DiscardWriter}, so benchmarks measure only the cost of generating
+ * the markup.
+ *
+ * @author  AO Industries, Inc.
+ */
+@State(Scope.Thread)
+public class DocumentState {
+
+  @Param({"SGML", "XML"})
+  public Serialization serialization;
+
+  @Param({"HTML5"})
+  public Doctype doctype;
+
+  public Document document;
+
+  @Setup
+  public void setup() {
+    document = new Document(serialization, doctype, StandardCharsets.UTF_8, DiscardWriter.INSTANCE);
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.benchmarks;
+
+import com.aoapps.html.Document;
+import com.aoapps.html.FlowContent;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the element factories declared by {@link FlowContent}.
+ *
+ * <p>Each element is rendered in its fluent, lambda (<code>*__(IOConsumerE)</code>), and <code>*_c()</code>
+ * forms where the element supports them, always producing the same markup so the forms may be compared directly.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlowContentBenchmark {
+
+  // <editor-fold defaultstate="collapsed" desc="HR">
+  @Benchmark
+  public Document hr(DocumentState state) throws IOException {
+    return state.document.hr().__();
+  }
+  // </editor-fold>
+}
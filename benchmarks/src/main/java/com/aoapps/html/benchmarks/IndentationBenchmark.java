@@ -0,0 +1,115 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.benchmarks;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares rendering with {@linkplain Document#setAutonli(boolean) automatic newlines} and
+ * {@linkplain Document#setIndent(boolean) indentation} disabled and enabled, for measuring the cost of writing each
+ * newline and its spaces.
+ *
+ * <p>Each element writes its newline and indentation as a single precomputed slice, measured here with nested
+ * lists, JSON scripts, and scripts streamed from a reader.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IndentationBenchmark {
+
+  private static final String TEXT = "Cell";
+
+  private static final String SCRIPT = "console.log(\"Cell\");";
+
+  @Param({"100"})
+  public int scripts;
+
+  @Param({"false", "true"})
+  public boolean indent;
+
+  /**
+   * Writes to a {@link java.io.Writer} or, to include the direct copy of the slice bytes, an {@link OutputStream}.
+   */
+  @Param({"Writer", "OutputStream"})
+  public String output;
+
+  private Document document;
+
+  @Setup
+  public void setup() throws IOException {
+    document = new Document(Serialization.SGML, Doctype.HTML5, StandardCharsets.UTF_8, DiscardWriter.INSTANCE);
+    if ("OutputStream".equals(output)) {
+      document.setOut(OutputStream.nullOutputStream());
+    }
+    document.setAutonli(indent).setIndent(indent);
+  }
+
+  @Benchmark
+  public Document ul__() throws IOException {
+    return document.ul__(ul -> {
+      for (int i = 0; i < scripts; i++) {
+        ul.li__(li -> li.span__(TEXT));
+      }
+    });
+  }
+
+  @Benchmark
+  public Document json__() throws IOException {
+    for (int i = 0; i < scripts; i++) {
+      document.json__(json -> json.beginArray().value(TEXT).endArray());
+    }
+    return document;
+  }
+
+  @Benchmark
+  public Document script__() throws IOException {
+    for (int i = 0; i < scripts; i++) {
+      document.script__(new StringReader(SCRIPT));
+    }
+    return document;
+  }
+}
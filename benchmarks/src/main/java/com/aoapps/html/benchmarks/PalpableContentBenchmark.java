@@ -0,0 +1,266 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.benchmarks;
+
+import com.aoapps.html.Document;
+import com.aoapps.html.PalpableContent;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the element factories declared by {@link PalpableContent}.
+ *
+ * <p>Each element is rendered in its fluent, lambda (<code>*__(IOConsumerE)</code>), and <code>*_c()</code>
+ * forms where the element supports them, always producing the same markup so the forms may be compared directly.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PalpableContentBenchmark {
+
+  private static final String TEXT = "Benchmark text";
+
+  // <editor-fold defaultstate="collapsed" desc="ADDRESS">
+  @Benchmark
+  public Document address(DocumentState state) throws IOException {
+    return state.document.address().__(TEXT);
+  }
+
+  @Benchmark
+  public Document address__(DocumentState state) throws IOException {
+    return state.document.address__(address -> address.text(TEXT));
+  }
+
+  @Benchmark
+  public Document address_c(DocumentState state) throws IOException {
+    return state.document.address_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="BLOCKQUOTE">
+  @Benchmark
+  public Document blockquote(DocumentState state) throws IOException {
+    return state.document.blockquote().__(TEXT);
+  }
+
+  @Benchmark
+  public Document blockquote__(DocumentState state) throws IOException {
+    return state.document.blockquote__(blockquote -> blockquote.text(TEXT));
+  }
+
+  @Benchmark
+  public Document blockquote_c(DocumentState state) throws IOException {
+    return state.document.blockquote_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="DL">
+  @Benchmark
+  public Document dl(DocumentState state) throws IOException {
+    return state.document.dl().__();
+  }
+
+  @Benchmark
+  public Document dl__(DocumentState state) throws IOException {
+    return state.document.dl__(dl -> {
+      // Empty
+    });
+  }
+
+  @Benchmark
+  public Document dl_c(DocumentState state) throws IOException {
+    return state.document.dl_c().__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="FOOTER">
+  @Benchmark
+  public Document footer(DocumentState state) throws IOException {
+    return state.document.footer().__(TEXT);
+  }
+
+  @Benchmark
+  public Document footer__(DocumentState state) throws IOException {
+    return state.document.footer__(footer -> footer.text(TEXT));
+  }
+
+  @Benchmark
+  public Document footer_c(DocumentState state) throws IOException {
+    return state.document.footer_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="FORM">
+  @Benchmark
+  public Document form(DocumentState state) throws IOException {
+    return state.document.form().__(TEXT);
+  }
+
+  @Benchmark
+  public Document form__(DocumentState state) throws IOException {
+    return state.document.form__(form -> form.text(TEXT));
+  }
+
+  @Benchmark
+  public Document form_c(DocumentState state) throws IOException {
+    return state.document.form_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="HEADER">
+  @Benchmark
+  public Document header(DocumentState state) throws IOException {
+    return state.document.header().__(TEXT);
+  }
+
+  @Benchmark
+  public Document header__(DocumentState state) throws IOException {
+    return state.document.header__(header -> header.text(TEXT));
+  }
+
+  @Benchmark
+  public Document header_c(DocumentState state) throws IOException {
+    return state.document.header_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="MAIN">
+  @Benchmark
+  public Document main(DocumentState state) throws IOException {
+    return state.document.main().__(TEXT);
+  }
+
+  @Benchmark
+  public Document main__(DocumentState state) throws IOException {
+    return state.document.main__(main -> main.text(TEXT));
+  }
+
+  @Benchmark
+  public Document main_c(DocumentState state) throws IOException {
+    return state.document.main_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="OL">
+  @Benchmark
+  public Document ol(DocumentState state) throws IOException {
+    return state.document.ol().__();
+  }
+
+  @Benchmark
+  public Document ol__(DocumentState state) throws IOException {
+    return state.document.ol__(ol -> {
+      // Empty
+    });
+  }
+
+  @Benchmark
+  public Document ol_c(DocumentState state) throws IOException {
+    return state.document.ol_c().__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="P">
+  @Benchmark
+  public Document p(DocumentState state) throws IOException {
+    return state.document.p().__(TEXT);
+  }
+
+  @Benchmark
+  public Document p__(DocumentState state) throws IOException {
+    return state.document.p__(p -> p.text(TEXT));
+  }
+
+  @Benchmark
+  public Document p_c(DocumentState state) throws IOException {
+    return state.document.p_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="PRE">
+  @Benchmark
+  public Document pre(DocumentState state) throws IOException {
+    return state.document.pre().__(TEXT);
+  }
+
+  @Benchmark
+  public Document pre__(DocumentState state) throws IOException {
+    return state.document.pre__(pre -> pre.text(TEXT));
+  }
+
+  @Benchmark
+  public Document pre_c(DocumentState state) throws IOException {
+    return state.document.pre_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="TABLE">
+  @Benchmark
+  public Document table(DocumentState state) throws IOException {
+    return state.document.table().__();
+  }
+
+  @Benchmark
+  public Document table__(DocumentState state) throws IOException {
+    return state.document.table__(table -> {
+      // Empty
+    });
+  }
+
+  @Benchmark
+  public Document table_c(DocumentState state) throws IOException {
+    return state.document.table_c().__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="UL">
+  @Benchmark
+  public Document ul(DocumentState state) throws IOException {
+    return state.document.ul().__();
+  }
+
+  @Benchmark
+  public Document ul__(DocumentState state) throws IOException {
+    return state.document.ul__(ul -> {
+      // Empty
+    });
+  }
+
+  @Benchmark
+  public Document ul_c(DocumentState state) throws IOException {
+    return state.document.ul_c().__();
+  }
+  // </editor-fold>
+}
@@ -0,0 +1,106 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.benchmarks;
+
+import com.aoapps.html.Document;
+import com.aoapps.html.PhrasingContent;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the element factories declared by {@link PhrasingContent}.
+ *
+ * <p>Each element is rendered in its fluent, lambda (<code>*__(IOConsumerE)</code>), and <code>*_c()</code>
+ * forms where the element supports them, always producing the same markup so the forms may be compared directly.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PhrasingContentBenchmark {
+
+  private static final String TEXT = "Benchmark text";
+
+  // <editor-fold defaultstate="collapsed" desc="AREA">
+  @Benchmark
+  public Document area(DocumentState state) throws IOException {
+    return state.document.area().__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="BR">
+  @Benchmark
+  public Document br(DocumentState state) throws IOException {
+    return state.document.br().__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="DATALIST">
+  @Benchmark
+  public Document datalist(DocumentState state) throws IOException {
+    return state.document.datalist().__();
+  }
+
+  @Benchmark
+  public Document datalist__(DocumentState state) throws IOException {
+    return state.document.datalist__(datalist -> {
+      // Empty
+    });
+  }
+
+  @Benchmark
+  public Document datalist_c(DocumentState state) throws IOException {
+    return state.document.datalist_c().__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="DEL">
+  @Benchmark
+  public Document del(DocumentState state) throws IOException {
+    return state.document.del().__(del -> del.text(TEXT));
+  }
+
+  @Benchmark
+  public Document del_c(DocumentState state) throws IOException {
+    return state.document.del_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="WBR">
+  @Benchmark
+  public Document wbr(DocumentState state) throws IOException {
+    return state.document.wbr().__();
+  }
+  // </editor-fold>
+}
@@ -0,0 +1,125 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.benchmarks;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.CellRenderer;
+import com.aoapps.html.Document;
+import com.aoapps.html.TABLE_c;
+import com.aoapps.html.TBODY_c;
+import com.aoapps.html.TR_c;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares allocation with {@linkplain Document#setRecycleElements(boolean) element recycling} disabled and enabled
+ * while rendering a table.  Run with <code>-prof gc</code> to see the difference in <code>gc.alloc.rate.norm</code>.
+ *
+ * @author  AO Industries, Inc.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RecyclingBenchmark {
+
+  private static final String TEXT = "Cell";
+
+  @Param({"100"})
+  public int rows;
+
+  @Param({"10"})
+  public int columns;
+
+  @Param({"false", "true"})
+  public boolean recycleElements;
+
+  private Document document;
+
+  private List<Integer> rowIds;
+
+  private List<CellRenderer<Integer, RuntimeException>> cells;
+
+  @Setup
+  public void setup() {
+    document = new Document(Serialization.SGML, Doctype.HTML5, StandardCharsets.UTF_8, DiscardWriter.INSTANCE)
+        .setRecycleElements(recycleElements);
+    rowIds = new ArrayList<>(rows);
+    for (int row = 0; row < rows; row++) {
+      rowIds.add(row);
+    }
+    cells = Collections.nCopies(columns, (row, cell) -> cell.text(TEXT));
+  }
+
+  @Benchmark
+  public Document table_c() throws IOException {
+    TABLE_c<Document> table = document.table_c();
+    TBODY_c<TABLE_c<Document>> tbody = table.tbody_c();
+    for (int row = 0; row < rows; row++) {
+      TR_c<TBODY_c<TABLE_c<Document>>> tr = tbody.tr_c();
+      for (int column = 0; column < columns; column++) {
+        tr.td_c().text(TEXT).__();
+      }
+      tr.__();
+    }
+    tbody.__();
+    return table.__();
+  }
+
+  @Benchmark
+  public Document table__() throws IOException {
+    return document.table__(table -> table.tbody__(tbody -> {
+      for (int row = 0; row < rows; row++) {
+        tbody.tr__(tr -> {
+          for (int column = 0; column < columns; column++) {
+            tr.td__(td -> td.text(TEXT));
+          }
+        });
+      }
+    }));
+  }
+
+  @Benchmark
+  public Document table_rows() throws IOException {
+    return document.table_c().tbody__(rowIds.iterator(), 0, cells).__();
+  }
+}
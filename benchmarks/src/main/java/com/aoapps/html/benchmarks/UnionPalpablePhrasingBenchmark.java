@@ -0,0 +1,496 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.benchmarks;
+
+import com.aoapps.html.Document;
+import com.aoapps.html.Union_Palpable_Phrasing;
+import com.aoapps.html.any.attributes.enumeration.Dir;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the element factories declared by {@link Union_Palpable_Phrasing}.
+ *
+ * <p>Each element is rendered in its fluent, lambda (<code>*__(IOConsumerE)</code>), and <code>*_c()</code>
+ * forms where the element supports them, always producing the same markup so the forms may be compared directly.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnionPalpablePhrasingBenchmark {
+
+  private static final String TEXT = "Benchmark text";
+  private static final String VALUE = "value";
+  private static final String NAME = "name";
+
+  // <editor-fold defaultstate="collapsed" desc="ABBR">
+  @Benchmark
+  public Document abbr(DocumentState state) throws IOException {
+    return state.document.abbr().__(TEXT);
+  }
+
+  @Benchmark
+  public Document abbr__(DocumentState state) throws IOException {
+    return state.document.abbr__(abbr -> abbr.text(TEXT));
+  }
+
+  @Benchmark
+  public Document abbr_c(DocumentState state) throws IOException {
+    return state.document.abbr_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="B">
+  @Benchmark
+  public Document b(DocumentState state) throws IOException {
+    return state.document.b().__(TEXT);
+  }
+
+  @Benchmark
+  public Document b__(DocumentState state) throws IOException {
+    return state.document.b__(b -> b.text(TEXT));
+  }
+
+  @Benchmark
+  public Document b_c(DocumentState state) throws IOException {
+    return state.document.b_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="BDI">
+  @Benchmark
+  public Document bdi(DocumentState state) throws IOException {
+    return state.document.bdi().__(TEXT);
+  }
+
+  @Benchmark
+  public Document bdi__(DocumentState state) throws IOException {
+    return state.document.bdi__(bdi -> bdi.text(TEXT));
+  }
+
+  @Benchmark
+  public Document bdi_c(DocumentState state) throws IOException {
+    return state.document.bdi_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="BDO">
+  @Benchmark
+  public Document bdo(DocumentState state) throws IOException {
+    return state.document.bdo(Dir.Value.LTR).__(TEXT);
+  }
+
+  @Benchmark
+  public Document bdo__(DocumentState state) throws IOException {
+    return state.document.bdo__(Dir.Value.LTR, bdo -> bdo.text(TEXT));
+  }
+
+  @Benchmark
+  public Document bdo_c(DocumentState state) throws IOException {
+    return state.document.bdo_c(Dir.Value.LTR).text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="CITE">
+  @Benchmark
+  public Document cite(DocumentState state) throws IOException {
+    return state.document.cite().__(TEXT);
+  }
+
+  @Benchmark
+  public Document cite__(DocumentState state) throws IOException {
+    return state.document.cite__(cite -> cite.text(TEXT));
+  }
+
+  @Benchmark
+  public Document cite_c(DocumentState state) throws IOException {
+    return state.document.cite_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="CODE">
+  @Benchmark
+  public Document code(DocumentState state) throws IOException {
+    return state.document.code().__(TEXT);
+  }
+
+  @Benchmark
+  public Document code__(DocumentState state) throws IOException {
+    return state.document.code__(code -> code.text(TEXT));
+  }
+
+  @Benchmark
+  public Document code_c(DocumentState state) throws IOException {
+    return state.document.code_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="DATA">
+  @Benchmark
+  public Document data(DocumentState state) throws IOException {
+    return state.document.data(VALUE).__(TEXT);
+  }
+
+  @Benchmark
+  public Document data__(DocumentState state) throws IOException {
+    return state.document.data__(VALUE, data -> data.text(TEXT));
+  }
+
+  @Benchmark
+  public Document data_c(DocumentState state) throws IOException {
+    return state.document.data_c(VALUE).text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="DFN">
+  @Benchmark
+  public Document dfn(DocumentState state) throws IOException {
+    return state.document.dfn().__(TEXT);
+  }
+
+  @Benchmark
+  public Document dfn__(DocumentState state) throws IOException {
+    return state.document.dfn__(dfn -> dfn.text(TEXT));
+  }
+
+  @Benchmark
+  public Document dfn_c(DocumentState state) throws IOException {
+    return state.document.dfn_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="EM">
+  @Benchmark
+  public Document em(DocumentState state) throws IOException {
+    return state.document.em().__(TEXT);
+  }
+
+  @Benchmark
+  public Document em__(DocumentState state) throws IOException {
+    return state.document.em__(em -> em.text(TEXT));
+  }
+
+  @Benchmark
+  public Document em_c(DocumentState state) throws IOException {
+    return state.document.em_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="I">
+  @Benchmark
+  public Document i(DocumentState state) throws IOException {
+    return state.document.i().__(TEXT);
+  }
+
+  @Benchmark
+  public Document i__(DocumentState state) throws IOException {
+    return state.document.i__(i -> i.text(TEXT));
+  }
+
+  @Benchmark
+  public Document i_c(DocumentState state) throws IOException {
+    return state.document.i_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="INS">
+  @Benchmark
+  public Document ins_c(DocumentState state) throws IOException {
+    return state.document.ins_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="KBD">
+  @Benchmark
+  public Document kbd(DocumentState state) throws IOException {
+    return state.document.kbd().__(TEXT);
+  }
+
+  @Benchmark
+  public Document kbd__(DocumentState state) throws IOException {
+    return state.document.kbd__(kbd -> kbd.text(TEXT));
+  }
+
+  @Benchmark
+  public Document kbd_c(DocumentState state) throws IOException {
+    return state.document.kbd_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="MAP">
+  @Benchmark
+  public Document map_c(DocumentState state) throws IOException {
+    return state.document.map_c(NAME).text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="MARK">
+  @Benchmark
+  public Document mark(DocumentState state) throws IOException {
+    return state.document.mark().__(TEXT);
+  }
+
+  @Benchmark
+  public Document mark__(DocumentState state) throws IOException {
+    return state.document.mark__(mark -> mark.text(TEXT));
+  }
+
+  @Benchmark
+  public Document mark_c(DocumentState state) throws IOException {
+    return state.document.mark_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="METER">
+  @Benchmark
+  public Document meter(DocumentState state) throws IOException {
+    return state.document.meter().__(TEXT);
+  }
+
+  @Benchmark
+  public Document meter__(DocumentState state) throws IOException {
+    return state.document.meter__(meter -> meter.text(TEXT));
+  }
+
+  @Benchmark
+  public Document meter_c(DocumentState state) throws IOException {
+    return state.document.meter_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="OUTPUT">
+  @Benchmark
+  public Document output(DocumentState state) throws IOException {
+    return state.document.output().__(TEXT);
+  }
+
+  @Benchmark
+  public Document output__(DocumentState state) throws IOException {
+    return state.document.output__(output -> output.text(TEXT));
+  }
+
+  @Benchmark
+  public Document output_c(DocumentState state) throws IOException {
+    return state.document.output_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="PROGRESS">
+  @Benchmark
+  public Document progress(DocumentState state) throws IOException {
+    return state.document.progress().__(TEXT);
+  }
+
+  @Benchmark
+  public Document progress__(DocumentState state) throws IOException {
+    return state.document.progress__(progress -> progress.text(TEXT));
+  }
+
+  @Benchmark
+  public Document progress_c(DocumentState state) throws IOException {
+    return state.document.progress_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="Q">
+  @Benchmark
+  public Document q(DocumentState state) throws IOException {
+    return state.document.q().__(TEXT);
+  }
+
+  @Benchmark
+  public Document q__(DocumentState state) throws IOException {
+    return state.document.q__(q -> q.text(TEXT));
+  }
+
+  @Benchmark
+  public Document q_c(DocumentState state) throws IOException {
+    return state.document.q_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="S">
+  @Benchmark
+  public Document s(DocumentState state) throws IOException {
+    return state.document.s().__(TEXT);
+  }
+
+  @Benchmark
+  public Document s__(DocumentState state) throws IOException {
+    return state.document.s__(s -> s.text(TEXT));
+  }
+
+  @Benchmark
+  public Document s_c(DocumentState state) throws IOException {
+    return state.document.s_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="SAMP">
+  @Benchmark
+  public Document samp(DocumentState state) throws IOException {
+    return state.document.samp().__(TEXT);
+  }
+
+  @Benchmark
+  public Document samp__(DocumentState state) throws IOException {
+    return state.document.samp__(samp -> samp.text(TEXT));
+  }
+
+  @Benchmark
+  public Document samp_c(DocumentState state) throws IOException {
+    return state.document.samp_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="SMALL">
+  @Benchmark
+  public Document small(DocumentState state) throws IOException {
+    return state.document.small().__(TEXT);
+  }
+
+  @Benchmark
+  public Document small__(DocumentState state) throws IOException {
+    return state.document.small__(small -> small.text(TEXT));
+  }
+
+  @Benchmark
+  public Document small_c(DocumentState state) throws IOException {
+    return state.document.small_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="SPAN">
+  @Benchmark
+  public Document span(DocumentState state) throws IOException {
+    return state.document.span().__(TEXT);
+  }
+
+  @Benchmark
+  public Document span__(DocumentState state) throws IOException {
+    return state.document.span__(span -> span.text(TEXT));
+  }
+
+  @Benchmark
+  public Document span_c(DocumentState state) throws IOException {
+    return state.document.span_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="STRONG">
+  @Benchmark
+  public Document strong(DocumentState state) throws IOException {
+    return state.document.strong().__(TEXT);
+  }
+
+  @Benchmark
+  public Document strong__(DocumentState state) throws IOException {
+    return state.document.strong__(strong -> strong.text(TEXT));
+  }
+
+  @Benchmark
+  public Document strong_c(DocumentState state) throws IOException {
+    return state.document.strong_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="SUB">
+  @Benchmark
+  public Document sub(DocumentState state) throws IOException {
+    return state.document.sub().__(TEXT);
+  }
+
+  @Benchmark
+  public Document sub__(DocumentState state) throws IOException {
+    return state.document.sub__(sub -> sub.text(TEXT));
+  }
+
+  @Benchmark
+  public Document sub_c(DocumentState state) throws IOException {
+    return state.document.sub_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="SUP">
+  @Benchmark
+  public Document sup(DocumentState state) throws IOException {
+    return state.document.sup().__(TEXT);
+  }
+
+  @Benchmark
+  public Document sup__(DocumentState state) throws IOException {
+    return state.document.sup__(sup -> sup.text(TEXT));
+  }
+
+  @Benchmark
+  public Document sup_c(DocumentState state) throws IOException {
+    return state.document.sup_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="U">
+  @Benchmark
+  public Document u(DocumentState state) throws IOException {
+    return state.document.u().__(TEXT);
+  }
+
+  @Benchmark
+  public Document u__(DocumentState state) throws IOException {
+    return state.document.u__(u -> u.text(TEXT));
+  }
+
+  @Benchmark
+  public Document u_c(DocumentState state) throws IOException {
+    return state.document.u_c().text(TEXT).__();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="VAR">
+  @Benchmark
+  public Document var(DocumentState state) throws IOException {
+    return state.document.var().__(TEXT);
+  }
+
+  @Benchmark
+  public Document var__(DocumentState state) throws IOException {
+    return state.document.var__(var -> var.text(TEXT));
+  }
+
+  @Benchmark
+  public Document var_c(DocumentState state) throws IOException {
+    return state.document.var_c().text(TEXT).__();
+  }
+  // </editor-fold>
+}
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -49,7 +49,12 @@ public final class A<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenInline(TagTable.Tag.A);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseInline(TagTable.Tag.A, closeAttributes);
   }
 
   @Override
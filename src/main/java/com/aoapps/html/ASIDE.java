@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -44,6 +44,16 @@ public final class ASIDE<
     PC extends SectioningContent<PC>
     > extends AnyASIDE<Document, PC, ASIDE<PC>, ASIDE__<PC>, ASIDE_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private ASIDE__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private ASIDE_c<PC> recycledContentC;
+
   ASIDE(Document document, PC pc) {
     super(document, pc);
   }
@@ -51,16 +61,27 @@ public final class ASIDE<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.ASIDE);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseBlock(TagTable.Tag.ASIDE, closeAttributes);
   }
 
   @Override
   protected ASIDE__<PC> new__() {
-    return new ASIDE__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new ASIDE__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected ASIDE_c<PC> new_c() {
-    return new ASIDE_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new ASIDE_c<>(this);
+    }
+    return recycledContentC;
   }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class BDO<
     PC extends Union_Palpable_Phrasing<PC>
     > extends AnyBDO<Document, PC, BDO<PC>, BDO__<PC>, BDO_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private BDO__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private BDO_c<PC> recycledContentC;
+
   BDO(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class BDO<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenInline(TagTable.Tag.BDO);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseInline(TagTable.Tag.BDO, closeAttributes);
   }
 
   @Override
   protected BDO__<PC> new__() {
-    return new BDO__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new BDO__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected BDO_c<PC> new_c() {
-    return new BDO_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new BDO_c<>(this);
+    }
+    return recycledContentC;
   }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class BLOCKQUOTE<
     PC extends PalpableContent<PC>
     > extends AnyBLOCKQUOTE<Document, PC, BLOCKQUOTE<PC>, BLOCKQUOTE__<PC>, BLOCKQUOTE_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private BLOCKQUOTE__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private BLOCKQUOTE_c<PC> recycledContentC;
+
   BLOCKQUOTE(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class BLOCKQUOTE<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.BLOCKQUOTE);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseBlock(TagTable.Tag.BLOCKQUOTE, closeAttributes);
   }
 
   @Override
   protected BLOCKQUOTE__<PC> new__() {
-    return new BLOCKQUOTE__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new BLOCKQUOTE__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected BLOCKQUOTE_c<PC> new_c() {
-    return new BLOCKQUOTE_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new BLOCKQUOTE_c<>(this);
+    }
+    return recycledContentC;
   }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,11 @@ public final class BODY<
     PC extends HTML_content<PC>
     > extends AnyBODY<Document, PC, BODY<PC>, BODY__<PC>, BODY_c<PC>> {
 
+  /**
+   * The Flight Recorder event spanning this element, or {@code null} when not recording.
+   */
+  private Object event;
+
   BODY(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,7 +54,15 @@ public final class BODY<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    event = RenderEvents.beginElement("body");
+    document.writeOpenBlock(TagTable.Tag.BODY);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseBlock(TagTable.Tag.BODY, closeAttributes);
+    RenderEvents.end(event);
+    event = null;
   }
 
   @Override
@@ -0,0 +1,237 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * An unsynchronized, resettable buffer to render a {@link Document} into.  Unlike {@link java.io.StringWriter} and
+ * {@link java.io.CharArrayWriter}, no lock is acquired on each of the many small writes made by the elements.
+ *
+ * <p>The buffer may be reused for any number of renders on the same thread by calling {@link #reset()}, which retains
+ * the capacity from previous renders.</p>
+ *
+ * <pre>BufferWriter buffer = new BufferWriter();
+ * Document document = new Document(encodingContext, buffer);
+ * // Render ...
+ * String html = buffer.toString();
+ * buffer.reset();</pre>
+ *
+ * <p>This is not thread-safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class BufferWriter extends Writer implements CharSequence {
+
+  private static final int DEFAULT_CAPACITY = 256;
+
+  /**
+   * The maximum size of array to allocate, from {@link java.util.ArrayList}.
+   */
+  private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+  private char[] buf;
+  private int count;
+
+  public BufferWriter() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public BufferWriter(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("initialCapacity < 0: " + initialCapacity);
+    }
+    buf = new char[initialCapacity];
+  }
+
+  /**
+   * Ensures capacity for the given number of additional characters.
+   */
+  private void ensureCapacity(int additional) {
+    int required = count + additional;
+    if (required < 0 || required > MAX_ARRAY_SIZE) {
+      throw new OutOfMemoryError("Buffer too large: " + ((long) count + additional));
+    }
+    if (required > buf.length) {
+      int newCapacity = Math.max(required, (int) Math.min(MAX_ARRAY_SIZE, buf.length * 2L));
+      buf = Arrays.copyOf(buf, newCapacity);
+    }
+  }
+
+  @Override
+  public void write(int c) {
+    if (count == buf.length) {
+      ensureCapacity(1);
+    }
+    buf[count++] = (char) c;
+  }
+
+  @Override
+  public void write(char[] cbuf, int off, int len) {
+    if ((off | len | (off + len) | (cbuf.length - (off + len))) < 0) {
+      throw new IndexOutOfBoundsException();
+    }
+    ensureCapacity(len);
+    System.arraycopy(cbuf, off, buf, count, len);
+    count += len;
+  }
+
+  @Override
+  public void write(String str) {
+    write(str, 0, str.length());
+  }
+
+  @Override
+  public void write(String str, int off, int len) {
+    ensureCapacity(len);
+    str.getChars(off, off + len, buf, count);
+    count += len;
+  }
+
+  @Override
+  public BufferWriter append(CharSequence csq) {
+    if (csq == null) {
+      write("null");
+    } else {
+      append(csq, 0, csq.length());
+    }
+    return this;
+  }
+
+  @Override
+  public BufferWriter append(CharSequence csq, int start, int end) {
+    if (csq == null) {
+      csq = "null";
+    }
+    if ((start | end | (end - start) | (csq.length() - end)) < 0) {
+      throw new IndexOutOfBoundsException();
+    }
+    int len = end - start;
+    if (csq instanceof String) {
+      write((String) csq, start, len);
+    } else if (csq instanceof StringBuilder) {
+      ensureCapacity(len);
+      ((StringBuilder) csq).getChars(start, end, buf, count);
+      count += len;
+    } else if (csq instanceof BufferWriter) {
+      BufferWriter other = (BufferWriter) csq;
+      write(other.buf, start, len);
+    } else {
+      ensureCapacity(len);
+      for (int i = start; i < end; i++) {
+        buf[count++] = csq.charAt(i);
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public BufferWriter append(char c) {
+    write(c);
+    return this;
+  }
+
+  /**
+   * Does nothing.
+   */
+  @Override
+  public void flush() {
+    // Nothing to do
+  }
+
+  /**
+   * Does nothing.  The buffer remains usable.
+   */
+  @Override
+  public void close() {
+    // Nothing to do
+  }
+
+  /**
+   * Discards all characters, retaining the capacity for the next render.
+   *
+   * @return  {@code this} buffer
+   */
+  public BufferWriter reset() {
+    count = 0;
+    return this;
+  }
+
+  /**
+   * Gets the number of characters that may be written before the buffer grows.
+   *
+   * @see  StringBuilder#capacity()
+   */
+  public int capacity() {
+    return buf.length;
+  }
+
+  @Override
+  public int length() {
+    return count;
+  }
+
+  @Override
+  public char charAt(int index) {
+    if (index < 0 || index >= count) {
+      throw new IndexOutOfBoundsException(Integer.toString(index));
+    }
+    return buf[index];
+  }
+
+  /**
+   * Gets a copy of the given range of characters.
+   */
+  @Override
+  public String subSequence(int start, int end) {
+    if ((start | end | (end - start) | (count - end)) < 0) {
+      throw new IndexOutOfBoundsException();
+    }
+    return new String(buf, start, end - start);
+  }
+
+  /**
+   * Gets a copy of all characters.
+   */
+  @Override
+  public String toString() {
+    return new String(buf, 0, count);
+  }
+
+  /**
+   * Gets a copy of all characters.
+   */
+  public char[] toCharArray() {
+    return Arrays.copyOf(buf, count);
+  }
+
+  /**
+   * Writes all characters to the given writer in a single write.
+   */
+  public void writeTo(Writer out) throws IOException {
+    out.write(buf, 0, count);
+  }
+}
@@ -0,0 +1,528 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes characters directly into a byte buffer, which is written to an {@link OutputStream} or
+ * {@link WritableByteChannel} when full or flushed.
+ *
+ * <p>UTF-8 is encoded inline, with a tight loop for runs of ASCII, which covers all markup written by the elements.
+ * Other character encodings go through a reused {@link CharsetEncoder}.  In both cases, malformed or unmappable
+ * characters are replaced, matching {@link java.io.OutputStreamWriter}.</p>
+ *
+ * <p>This is not thread-safe and performs no synchronization.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class ByteSinkWriter extends Writer {
+
+  /**
+   * The default size of the byte buffer.
+   */
+  static final int DEFAULT_BUFFER_SIZE = 8192;
+
+  /**
+   * The size of the scratch buffer used to encode strings.
+   */
+  private static final int CHUNK_SIZE = 1024;
+
+  private static final byte REPLACEMENT = '?';
+
+  private final OutputStream out;
+  private final WritableByteChannel channel;
+
+  /**
+   * The buffer backing {@link #buf}, used to write to {@link #channel}.
+   */
+  private final ByteBuffer byteBuffer;
+  private final byte[] buf;
+  private final int bufStart;
+  private final int bufEnd;
+  private int pos;
+
+  /**
+   * The number of bytes written to the underlying stream or channel.
+   */
+  private long drained;
+
+  /**
+   * The encoder used when not UTF-8, or {@code null} to encode UTF-8 inline.
+   */
+  private final CharsetEncoder encoder;
+
+  private final Charset charset;
+
+  private final boolean asciiCompatible;
+
+  /**
+   * A high surrogate from the end of the previous write, or {@code 0} when none.
+   */
+  private char highSurrogate;
+
+  private char[] scratch;
+
+  private boolean closed;
+
+  private ByteSinkWriter(OutputStream out, WritableByteChannel channel, ByteBuffer byteBuffer, Charset charset) {
+    if (!byteBuffer.hasArray()) {
+      throw new IllegalArgumentException("ByteBuffer must be backed by an accessible array");
+    }
+    this.out = out;
+    this.channel = channel;
+    this.byteBuffer = byteBuffer;
+    this.buf = byteBuffer.array();
+    this.bufStart = byteBuffer.arrayOffset() + byteBuffer.position();
+    this.bufEnd = byteBuffer.arrayOffset() + byteBuffer.limit();
+    if (bufEnd - bufStart < 4) {
+      throw new IllegalArgumentException("ByteBuffer must have at least four bytes remaining");
+    }
+    this.pos = bufStart;
+    this.charset = charset;
+    this.encoder = StandardCharsets.UTF_8.equals(charset)
+        ? null
+        : charset.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    this.asciiCompatible = encoder == null
+        || StandardCharsets.US_ASCII.equals(charset)
+        || StandardCharsets.ISO_8859_1.equals(charset);
+  }
+
+  /**
+   * @param  byteBuffer  The buffer to encode into, which may be pooled by the caller.  Must be backed by an
+   *                     accessible array.  Only the region between its position and limit is used.
+   */
+  ByteSinkWriter(OutputStream out, ByteBuffer byteBuffer, Charset charset) {
+    this(out, null, byteBuffer, charset);
+  }
+
+  ByteSinkWriter(OutputStream out, Charset charset) {
+    this(out, ByteBuffer.allocate(DEFAULT_BUFFER_SIZE), charset);
+  }
+
+  /**
+   * @param  byteBuffer  The buffer to encode into, which may be pooled by the caller.  Must be backed by an
+   *                     accessible array.  Only the region between its position and limit is used.
+   */
+  ByteSinkWriter(WritableByteChannel channel, ByteBuffer byteBuffer, Charset charset) {
+    this(null, channel, byteBuffer, charset);
+  }
+
+  ByteSinkWriter(WritableByteChannel channel, Charset charset) {
+    this(channel, ByteBuffer.allocate(DEFAULT_BUFFER_SIZE), charset);
+  }
+
+  /**
+   * Writes all buffered bytes to the underlying stream or channel, without flushing it.
+   */
+  private void drain() throws IOException {
+    int len = pos - bufStart;
+    if (len > 0) {
+      if (out != null) {
+        out.write(buf, bufStart, len);
+      } else {
+        ByteBuffer bb = byteBuffer.duplicate();
+        bb.limit(pos - byteBuffer.arrayOffset());
+        bb.position(bufStart - byteBuffer.arrayOffset());
+        while (bb.hasRemaining()) {
+          channel.write(bb);
+        }
+      }
+      pos = bufStart;
+      drained += len;
+    }
+  }
+
+  /**
+   * Gets the total number of bytes encoded, including those still buffered.
+   */
+  long getByteCount() {
+    return drained + (pos - bufStart);
+  }
+
+  /**
+   * Gets the character encoding of this writer.
+   */
+  Charset getCharset() {
+    return charset;
+  }
+
+  /**
+   * Is the character encoding a superset of ASCII, where each ASCII character is a single byte of the same value?
+   * When so, ASCII markup may be written directly with {@link #writeBytes(byte[], int, int)}.
+   */
+  boolean isAsciiCompatible() {
+    return asciiCompatible;
+  }
+
+  /**
+   * Writes bytes that are already encoded in the character encoding of this writer, such as pre-encoded markup.
+   */
+  void writeBytes(byte[] b, int off, int len) throws IOException {
+    flushHighSurrogate();
+    while (len > 0) {
+      int space = bufEnd - pos;
+      if (space == 0) {
+        drain();
+        space = bufEnd - pos;
+      }
+      int count = Math.min(space, len);
+      System.arraycopy(b, off, buf, pos, count);
+      pos += count;
+      off += count;
+      len -= count;
+    }
+  }
+
+  /**
+   * Writes the remaining bytes of the given buffer, which are already encoded in the character encoding of this writer,
+   * such as a direct buffer.  The buffer's position is advanced to its limit.
+   */
+  void writeBytes(ByteBuffer src) throws IOException {
+    flushHighSurrogate();
+    int len = src.remaining();
+    while (len > 0) {
+      int space = bufEnd - pos;
+      if (space == 0) {
+        drain();
+        space = bufEnd - pos;
+      }
+      int count = Math.min(space, len);
+      src.get(buf, pos, count);
+      pos += count;
+      len -= count;
+    }
+  }
+
+  /**
+   * Writes characters along with their pre-encoded form.  The bytes are copied directly when writing to a
+   * {@link ByteSinkWriter} in an ASCII-compatible encoding and, when given, the same character encoding.  When
+   * writing through a {@link MinifyingWriter} or {@link MetricsWriter}, the bytes are passed along so this is still
+   * possible.  Otherwise, the characters are written.
+   *
+   * @param  charset  The encoding of the bytes or {@code null} when ASCII
+   */
+  static void write(Writer out, char[] chars, int off, int len, byte[] bytes, int byteOff, int byteLen, Charset charset)
+      throws IOException {
+    if (out instanceof ByteSinkWriter) {
+      ByteSinkWriter sink = (ByteSinkWriter) out;
+      if (sink.asciiCompatible && (charset == null || charset.equals(sink.charset))) {
+        sink.writeBytes(bytes, byteOff, byteLen);
+        return;
+      }
+    } else if (out instanceof MinifyingWriter) {
+      // The minifier writes runs of the characters, so requires one byte per character
+      if (len == byteLen) {
+        ((MinifyingWriter) out).write(chars, off, len, bytes, byteOff, charset);
+        return;
+      }
+    } else if (out instanceof MetricsWriter) {
+      ((MetricsWriter) out).write(chars, off, len, bytes, byteOff, byteLen, charset);
+      return;
+    }
+    out.write(chars, off, len);
+  }
+
+  /**
+   * Writes the replacement for a high surrogate that was not followed by a low surrogate.
+   */
+  private void flushHighSurrogate() throws IOException {
+    if (highSurrogate != 0) {
+      highSurrogate = 0;
+      writeReplacement();
+    }
+  }
+
+  /**
+   * Writes the replacement for a malformed character that was not seen by the encoder.
+   */
+  private void writeReplacement() throws IOException {
+    if (encoder == null) {
+      if (pos == bufEnd) {
+        drain();
+      }
+      buf[pos++] = REPLACEMENT;
+    } else {
+      byte[] replacement = encoder.replacement();
+      writeBytes(replacement, 0, replacement.length);
+    }
+  }
+
+  private void encodeUtf8(char[] cbuf, int off, int end) throws IOException {
+    while (off < end) {
+      // Tight loop for runs of ASCII
+      int limit = Math.min(end, off + (bufEnd - pos));
+      while (off < limit) {
+        char c = cbuf[off];
+        if (c >= 0x80) {
+          break;
+        }
+        buf[pos++] = (byte) c;
+        off++;
+      }
+      if (off == end) {
+        break;
+      }
+      if (bufEnd - pos < 4) {
+        drain();
+        continue;
+      }
+      char c = cbuf[off++];
+      if (c < 0x80) {
+        buf[pos++] = (byte) c;
+      } else if (c < 0x800) {
+        buf[pos++] = (byte) (0xc0 | (c >> 6));
+        buf[pos++] = (byte) (0x80 | (c & 0x3f));
+      } else if (Character.isHighSurrogate(c)) {
+        if (off == end) {
+          // Wait for the low surrogate in the next write
+          highSurrogate = c;
+        } else {
+          char low = cbuf[off];
+          if (Character.isLowSurrogate(low)) {
+            off++;
+            writeCodePoint(Character.toCodePoint(c, low));
+          } else {
+            buf[pos++] = REPLACEMENT;
+          }
+        }
+      } else if (Character.isLowSurrogate(c)) {
+        buf[pos++] = REPLACEMENT;
+      } else {
+        buf[pos++] = (byte) (0xe0 | (c >> 12));
+        buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+        buf[pos++] = (byte) (0x80 | (c & 0x3f));
+      }
+    }
+  }
+
+  /**
+   * Writes a supplementary code point.  There must be at least four bytes available in the buffer.
+   */
+  private void writeCodePoint(int cp) {
+    buf[pos++] = (byte) (0xf0 | (cp >> 18));
+    buf[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+    buf[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+    buf[pos++] = (byte) (0x80 | (cp & 0x3f));
+  }
+
+  private void encodeCharset(char[] cbuf, int off, int end) throws IOException {
+    CharBuffer in = CharBuffer.wrap(cbuf, off, end - off);
+    ByteBuffer bb = ByteBuffer.wrap(buf, pos, bufEnd - pos);
+    while (true) {
+      CoderResult result = encoder.encode(in, bb, false);
+      pos = bb.position();
+      if (result.isOverflow()) {
+        drain();
+        bb = ByteBuffer.wrap(buf, pos, bufEnd - pos);
+      } else {
+        break;
+      }
+    }
+    if (in.hasRemaining()) {
+      // A trailing high surrogate, waiting for the next write
+      assert in.remaining() == 1;
+      highSurrogate = in.get();
+    }
+  }
+
+  private char[] scratch() {
+    char[] chunk = scratch;
+    if (chunk == null) {
+      chunk = new char[CHUNK_SIZE];
+      scratch = chunk;
+    }
+    return chunk;
+  }
+
+  private void encode(char[] cbuf, int off, int end) throws IOException {
+    if (highSurrogate != 0 && off < end) {
+      char high = highSurrogate;
+      highSurrogate = 0;
+      if (Character.isLowSurrogate(cbuf[off])) {
+        if (encoder == null) {
+          if (bufEnd - pos < 4) {
+            drain();
+          }
+          writeCodePoint(Character.toCodePoint(high, cbuf[off]));
+        } else {
+          encodeCharset(new char[] {high, cbuf[off]}, 0, 2);
+        }
+        off++;
+      } else {
+        writeReplacement();
+      }
+    }
+    if (encoder == null) {
+      encodeUtf8(cbuf, off, end);
+    } else {
+      encodeCharset(cbuf, off, end);
+    }
+  }
+
+  @Override
+  public void write(int c) throws IOException {
+    char ch = (char) c;
+    if (ch < 0x80 && highSurrogate == 0 && encoder == null) {
+      if (pos == bufEnd) {
+        drain();
+      }
+      buf[pos++] = (byte) ch;
+    } else {
+      char[] chunk = scratch();
+      chunk[0] = ch;
+      encode(chunk, 0, 1);
+    }
+  }
+
+  @Override
+  public void write(char[] cbuf) throws IOException {
+    encode(cbuf, 0, cbuf.length);
+  }
+
+  @Override
+  public void write(char[] cbuf, int off, int len) throws IOException {
+    if ((off | len | (off + len) | (cbuf.length - (off + len))) < 0) {
+      throw new IndexOutOfBoundsException();
+    }
+    encode(cbuf, off, off + len);
+  }
+
+  @Override
+  public void write(String str) throws IOException {
+    write(str, 0, str.length());
+  }
+
+  @Override
+  public void write(String str, int off, int len) throws IOException {
+    if ((off | len | (off + len) | (str.length() - (off + len))) < 0) {
+      throw new IndexOutOfBoundsException();
+    }
+    char[] chunk = scratch();
+    int end = off + len;
+    while (off < end) {
+      int count = Math.min(CHUNK_SIZE, end - off);
+      str.getChars(off, off + count, chunk, 0);
+      encode(chunk, 0, count);
+      off += count;
+    }
+  }
+
+  @Override
+  public ByteSinkWriter append(CharSequence csq) throws IOException {
+    if (csq == null) {
+      write("null");
+    } else {
+      append(csq, 0, csq.length());
+    }
+    return this;
+  }
+
+  @Override
+  public ByteSinkWriter append(CharSequence csq, int start, int end) throws IOException {
+    if (csq == null) {
+      csq = "null";
+    }
+    if (csq instanceof String) {
+      write((String) csq, start, end - start);
+    } else {
+      if ((start | end | (end - start) | (csq.length() - end)) < 0) {
+        throw new IndexOutOfBoundsException();
+      }
+      char[] chunk = scratch();
+      while (start < end) {
+        int count = Math.min(CHUNK_SIZE, end - start);
+        for (int i = 0; i < count; i++) {
+          chunk[i] = csq.charAt(start + i);
+        }
+        encode(chunk, 0, count);
+        start += count;
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public ByteSinkWriter append(char c) throws IOException {
+    write(c);
+    return this;
+  }
+
+  /**
+   * Writes all buffered bytes then flushes the underlying stream.  A high surrogate at the end of the previous write
+   * remains buffered, waiting for its low surrogate.
+   */
+  @Override
+  public void flush() throws IOException {
+    drain();
+    if (out != null) {
+      out.flush();
+    }
+  }
+
+  /**
+   * Writes all buffered bytes, including the encoder state, then closes the underlying stream or channel.
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    flushHighSurrogate();
+    if (encoder != null) {
+      CharBuffer empty = CharBuffer.allocate(0);
+      ByteBuffer bb = ByteBuffer.wrap(buf, pos, bufEnd - pos);
+      while (encoder.encode(empty, bb, true).isOverflow()) {
+        pos = bb.position();
+        drain();
+        bb = ByteBuffer.wrap(buf, pos, bufEnd - pos);
+      }
+      while (encoder.flush(bb).isOverflow()) {
+        pos = bb.position();
+        drain();
+        bb = ByteBuffer.wrap(buf, pos, bufEnd - pos);
+      }
+      pos = bb.position();
+    }
+    drain();
+    if (out != null) {
+      out.close();
+    } else {
+      channel.close();
+    }
+  }
+}
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class CAPTION<
     PC extends TABLE_content<PC>
     > extends AnyCAPTION<Document, PC, CAPTION<PC>, CAPTION__<PC>, CAPTION_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private CAPTION__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private CAPTION_c<PC> recycledContentC;
+
   CAPTION(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class CAPTION<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.CAPTION);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseBlock(TagTable.Tag.CAPTION, closeAttributes);
   }
 
   @Override
   protected CAPTION__<PC> new__() {
-    return new CAPTION__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new CAPTION__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected CAPTION_c<PC> new_c() {
-    return new CAPTION_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new CAPTION_c<>(this);
+    }
+    return recycledContentC;
   }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -60,7 +60,7 @@ public interface COLGROUP_content<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    COL<__> e = new COL<>(document, pc);
+    COL<__> e = document.element(pc, COL.class, COL::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
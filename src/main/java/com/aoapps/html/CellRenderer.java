@@ -0,0 +1,47 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import java.io.IOException;
+
+/**
+ * Renders the content of one column of a streamed table row.  A renderer is created once per column, not per cell.
+ *
+ * @param  <T>   The type of row
+ * @param  <Ex>  An arbitrary exception type that may be thrown
+ *
+ * @see  TableRows#rows(java.util.Iterator, int, java.util.List)
+ *
+ * @author  AO Industries, Inc.
+ */
+@FunctionalInterface
+public interface CellRenderer<T, Ex extends Throwable> {
+
+  /**
+   * Writes the content of the cell for the given row.  The cell is opened before and closed after this call.
+   *
+   * @param  cell  The <code>&lt;th&gt;</code> within {@link THEAD}, or the <code>&lt;td&gt;</code> otherwise
+   */
+  void render(T row, FlowContent<?> cell) throws IOException, Ex;
+}
@@ -0,0 +1,124 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+
+/**
+ * Decodes a channel directly into a caller-provided character buffer, reusing its byte buffer and, while the
+ * character encoding is unchanged, its decoder.  Unlike a reader from {@link java.nio.channels.Channels}, nothing is
+ * allocated per channel, and characters are not copied through an intermediate buffer.
+ *
+ * <p>Malformed or unmappable input is reported as a {@link java.nio.charset.CharacterCodingException}.  The channel
+ * must be blocking.</p>
+ *
+ * <p>This is not thread-safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class ChannelDecoder {
+
+  private static final int BUFFER_SIZE = 4096;
+
+  private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+
+  private CharsetDecoder decoder;
+
+  private ReadableByteChannel in;
+
+  /**
+   * Has the end of the channel been read?
+   */
+  private boolean eof;
+
+  /**
+   * Have all bytes been decoded, with only the decoder left to flush?
+   */
+  private boolean decoded;
+
+  /**
+   * Has the decoder been flushed?
+   */
+  private boolean flushed;
+
+  /**
+   * Starts decoding the given channel, discarding any state from the previous channel.
+   */
+  void start(ReadableByteChannel in, Charset charset) {
+    CharsetDecoder d = decoder;
+    if (d == null || !d.charset().equals(charset)) {
+      decoder = charset.newDecoder();
+    } else {
+      d.reset();
+    }
+    this.in = in;
+    bytes.clear();
+    eof = false;
+    decoded = false;
+    flushed = false;
+  }
+
+  /**
+   * Decodes characters into the given buffer, from its position up to its limit.  Blocks until at least one
+   * character is decoded or the end is reached.
+   *
+   * @param  chars  Must have space for at least two characters, so a surrogate pair always fits
+   *
+   * @return  The number of characters decoded or {@code -1} when all have been decoded
+   */
+  int read(CharBuffer chars) throws IOException {
+    int start = chars.position();
+    while (!flushed && chars.position() == start) {
+      CoderResult result;
+      if (!decoded) {
+        if (!eof && in.read(bytes) == -1) {
+          eof = true;
+        }
+        bytes.flip();
+        result = decoder.decode(bytes, chars, eof);
+        bytes.compact();
+        if (eof && result.isUnderflow()) {
+          decoded = true;
+        }
+      } else {
+        result = decoder.flush(chars);
+        if (result.isUnderflow()) {
+          flushed = true;
+          in = null;
+        }
+      }
+      if (result.isError()) {
+        result.throwException();
+      }
+    }
+    int count = chars.position() - start;
+    return (count == 0) ? -1 : count;
+  }
+}
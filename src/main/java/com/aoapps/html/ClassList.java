@@ -0,0 +1,263 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import com.aoapps.encoding.TextInXhtmlAttributeEncoder;
+import com.aoapps.encoding.TextInXhtmlEncoder;
+import com.aoapps.lang.io.Encoder;
+import com.aoapps.lang.io.Writable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Builds a list of CSS classes for the <code>class</code> attribute, without creating any intermediate strings.  The
+ * classes are written directly, separated by single spaces, when passed to the <code>clazz(Object)</code> attribute
+ * method of any element:
+ *
+ * <pre>tr.clazz(document.classList().add("row").addIf(odd, "odd", "even").addIf(selected, "selected")).__(...)</pre>
+ *
+ * <p>{@code null} and empty classes are skipped.  When the list is empty, the attribute is not written.  Each class
+ * is a single token, so classes containing whitespace are rejected; add multiple classes separately or with
+ * {@link #add(java.lang.String...)}.</p>
+ *
+ * <p>The list returned by {@link Document#classList()} is reused by the document, so is allocation-free after the
+ * first use.  It must be passed to <code>clazz(Object)</code> before calling {@link Document#classList()} again.</p>
+ *
+ * <p>This is not thread-safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class ClassList implements Writable {
+
+  private String[] classes = new String[8];
+  private int size;
+  private boolean distinct;
+
+  /**
+   * Are duplicate classes skipped?
+   */
+  public boolean getDistinct() {
+    return distinct;
+  }
+
+  /**
+   * Skips classes that have already been added.  Disabled by default.
+   *
+   * @return  {@code this} list
+   */
+  public ClassList setDistinct(boolean distinct) {
+    this.distinct = distinct;
+    return this;
+  }
+
+  /**
+   * Removes all classes.  Whether duplicates are skipped is not changed.
+   *
+   * @return  {@code this} list
+   */
+  public ClassList clear() {
+    Arrays.fill(classes, 0, size, null);
+    size = 0;
+    return this;
+  }
+
+  /**
+   * Adds a class.
+   *
+   * @param  clazz  Skipped when {@code null} or empty
+   *
+   * @return  {@code this} list
+   *
+   * @throws  IllegalArgumentException  when the class contains whitespace
+   */
+  public ClassList add(String clazz) {
+    if (clazz != null && !clazz.isEmpty()) {
+      checkClass(clazz);
+      if (distinct) {
+        for (int i = 0; i < size; i++) {
+          if (classes[i].equals(clazz)) {
+            return this;
+          }
+        }
+      }
+      if (size == classes.length) {
+        classes = Arrays.copyOf(classes, size * 2);
+      }
+      classes[size++] = clazz;
+    }
+    return this;
+  }
+
+  /**
+   * Checks that a class is a single token, without any of the ASCII whitespace that separates classes.
+   *
+   * @throws  IllegalArgumentException  when the class contains whitespace
+   */
+  private static void checkClass(String clazz) {
+    for (int i = 0, len = clazz.length(); i < len; i++) {
+      char ch = clazz.charAt(i);
+      if (ch == ' ' || ch == '\t' || ch == '\n' || ch == '\f' || ch == '\r') {
+        throw new IllegalArgumentException("Class may not contain whitespace: \"" + clazz + '"');
+      }
+    }
+  }
+
+  /**
+   * Adds any number of classes.
+   *
+   * @param  classes  Each is skipped when {@code null} or empty
+   *
+   * @return  {@code this} list
+   *
+   * @throws  IllegalArgumentException  when any class contains whitespace
+   */
+  public ClassList add(String... classes) {
+    if (classes != null) {
+      for (String clazz : classes) {
+        add(clazz);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Adds a class when the condition is {@code true}.
+   *
+   * @return  {@code this} list
+   *
+   * @throws  IllegalArgumentException  when the class added contains whitespace
+   */
+  public ClassList addIf(boolean condition, String clazz) {
+    return condition ? add(clazz) : this;
+  }
+
+  /**
+   * Adds one of two classes, depending on the condition.
+   *
+   * @return  {@code this} list
+   *
+   * @throws  IllegalArgumentException  when the class added contains whitespace
+   */
+  public ClassList addIf(boolean condition, String ifTrue, String ifFalse) {
+    return add(condition ? ifTrue : ifFalse);
+  }
+
+  /**
+   * Gets the number of classes in the list.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets the length of the attribute value, including the separating spaces.
+   */
+  @Override
+  public long getLength() {
+    if (size == 0) {
+      return 0;
+    }
+    long length = size - 1L;
+    for (int i = 0; i < size; i++) {
+      length += classes[i].length();
+    }
+    return length;
+  }
+
+  /**
+   * Always {@code false} so the classes are written directly through
+   * {@link #writeTo(com.aoapps.lang.io.Encoder, java.io.Writer)}.
+   */
+  @Override
+  public boolean isFastToString() {
+    return false;
+  }
+
+  /**
+   * Gets the attribute value.  This creates a new string.
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder((int) getLength());
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        sb.append(' ');
+      }
+      sb.append(classes[i]);
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public void writeTo(Writer out) throws IOException {
+    writeTo(null, out);
+  }
+
+  @Override
+  public void writeTo(Writer out, long off, long len) throws IOException {
+    out.write(toString(), Math.toIntExact(off), Math.toIntExact(len));
+  }
+
+  @Override
+  public void writeTo(Encoder encoder, Writer out) throws IOException {
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        out.write(' ');
+      }
+      String clazz = classes[i];
+      if (encoder == null) {
+        out.write(clazz);
+      } else if (encoder == TextInXhtmlAttributeEncoder.textInXhtmlAttributeEncoder) {
+        HtmlEscaper.attribute(clazz, 0, clazz.length(), out);
+      } else if (encoder == TextInXhtmlEncoder.textInXhtmlEncoder) {
+        HtmlEscaper.text(clazz, 0, clazz.length(), out);
+      } else {
+        encoder.write(clazz, out);
+      }
+    }
+  }
+
+  @Override
+  public void writeTo(Encoder encoder, Writer out, long off, long len) throws IOException {
+    if (off == 0 && len == getLength()) {
+      writeTo(encoder, out);
+    } else if (encoder == null) {
+      writeTo(out, off, len);
+    } else {
+      encoder.write(toString(), Math.toIntExact(off), Math.toIntExact(len), out);
+    }
+  }
+
+  /**
+   * Classes are never empty and never contain whitespace, since {@link #add(java.lang.String)} rejects it, so the list
+   * never has leading or trailing whitespace.
+   *
+   * @return  {@code this} list
+   */
+  @Override
+  public ClassList trim() {
+    return this;
+  }
+}
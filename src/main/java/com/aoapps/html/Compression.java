@@ -0,0 +1,246 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compressing output streams for {@link Document#Document(com.aoapps.encoding.EncodingContext, java.io.OutputStream)}
+ * and {@link Document#setOut(java.io.OutputStream)}.  The document encodes into its own buffer, so the compressor
+ * receives large blocks instead of many small writes.
+ *
+ * <p>The streams compress with {@link Deflater#SYNC_FLUSH} on each {@link Document#flush()}, so the client can
+ * decompress and render everything written so far, such as the entire <code>&lt;head&gt;</code>:</p>
+ *
+ * <pre>Document document = new Document(encodingContext, Compression.gzip(response.getOutputStream()));
+ * document.html__(html -&gt; {
+ *   html.head__(head -&gt; ...);
+ *   document.flush();
+ *   html.body__(body -&gt; ...);
+ * });
+ * document.getRawUnsafe(null).close();</pre>
+ *
+ * <p>Only flush at such boundaries, since each flush ends the current compressed block and lowers the compression
+ * ratio.  The stream must be closed when done, which writes the end of the compressed data and releases the
+ * {@link Deflater}.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class Compression {
+
+  /** Make no instances. */
+  private Compression() {
+    throw new AssertionError();
+  }
+
+  /**
+   * The size of the compressed output buffer.
+   */
+  public static final int BLOCK_SIZE = 64 * 1024;
+
+  private static final class GzipStream extends GZIPOutputStream {
+
+    private GzipStream(OutputStream out, int level) throws IOException {
+      super(out, BLOCK_SIZE, true);
+      def.setLevel(level);
+    }
+  }
+
+  private static final class DeflateStream extends DeflaterOutputStream {
+
+    private DeflateStream(OutputStream out, Deflater deflater) {
+      super(out, deflater, BLOCK_SIZE, true);
+    }
+
+    /**
+     * Also ends the deflater, since {@link DeflaterOutputStream} only ends its own default deflater.
+     */
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        def.end();
+      }
+    }
+  }
+
+  /**
+   * Compresses in the gzip format, for <code>Content-Encoding: gzip</code>.
+   *
+   * @param  level  The compression level, from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}, or
+   *                {@link Deflater#DEFAULT_COMPRESSION}
+   */
+  public static OutputStream gzip(OutputStream out, int level) throws IOException {
+    return new GzipStream(out, level);
+  }
+
+  /**
+   * Compresses in the gzip format, for <code>Content-Encoding: gzip</code>, at the default level.
+   */
+  public static OutputStream gzip(OutputStream out) throws IOException {
+    return gzip(out, Deflater.DEFAULT_COMPRESSION);
+  }
+
+  /**
+   * Compresses in the zlib format, for <code>Content-Encoding: deflate</code>.
+   *
+   * @param  level       The compression level, from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION},
+   *                     or {@link Deflater#DEFAULT_COMPRESSION}
+   * @param  dictionary  The preset dictionary, such as from {@link #getDictionary(com.aoapps.encoding.Serialization, com.aoapps.encoding.Doctype)},
+   *                     or {@code null} for none.  The same dictionary must be given to the
+   *                     {@link java.util.zip.Inflater}.  Browsers do not support preset dictionaries, so this is only
+   *                     for output read by a cooperating consumer, such as a cache or an internal service.
+   */
+  public static OutputStream deflate(OutputStream out, int level, byte[] dictionary) {
+    Deflater deflater = new Deflater(level);
+    if (dictionary != null) {
+      deflater.setDictionary(dictionary);
+    }
+    return new DeflateStream(out, deflater);
+  }
+
+  /**
+   * Compresses in the zlib format, for <code>Content-Encoding: deflate</code>, at the default level and without a
+   * preset dictionary.
+   */
+  public static OutputStream deflate(OutputStream out) {
+    return deflate(out, Deflater.DEFAULT_COMPRESSION, null);
+  }
+
+  private static final byte[][] dictionaries;
+
+  static {
+    Serialization[] serializations = Serialization.values();
+    Doctype[] doctypes = Doctype.values();
+    dictionaries = new byte[serializations.length * doctypes.length][];
+    for (Serialization serialization : serializations) {
+      for (Doctype doctype : doctypes) {
+        dictionaries[serialization.ordinal() * doctypes.length + doctype.ordinal()] =
+            buildDictionary(serialization, doctype);
+      }
+    }
+  }
+
+  /**
+   * Builds a dictionary of common markup, written the same as a document without whitespace, using the doctype and
+   * the tags of the {@link TagTable} for the serialization.  Each fragment is a complete, rendered sequence, such as
+   * <code>&lt;html lang="en"&gt;&lt;head&gt;</code>, with the values of other attributes empty.  The most common
+   * sequences are last, where they are the shortest distance from the data.
+   */
+  private static byte[] buildDictionary(Serialization serialization, Doctype doctype) {
+    TagTable tags = TagTable.getInstance(serialization);
+    BufferWriter out = new BufferWriter();
+    try {
+      out.write(doctype.getDoctype(serialization));
+      out.write((serialization == Serialization.XML) ? "<html xmlns=\"http://www.w3.org/1999/xhtml\"" : "<html");
+      out.write(" lang=\"en\">");
+      open(tags, out, TagTable.Tag.HEAD, null);
+      open(tags, out, TagTable.Tag.META, " charset=\"UTF-8\"");
+      open(tags, out, TagTable.Tag.META, " name=\"viewport\" content=\"width=device-width, initial-scale=1\"");
+      element(tags, out, TagTable.Tag.TITLE, null);
+      open(tags, out, TagTable.Tag.LINK, " rel=\"stylesheet\" href=\"\"");
+      element(tags, out, TagTable.Tag.SCRIPT,
+          (doctype == Doctype.HTML5) ? " src=\"\"" : " type=\"text/javascript\" src=\"\"");
+      tags.writeClose(out, TagTable.Tag.HEAD);
+      element(tags, out, TagTable.Tag.BODY, null);
+      tags.writeClose(out, TagTable.Tag.HTML);
+      open(tags, out, TagTable.Tag.FORM, " method=\"post\" action=\"\"");
+      open(tags, out, TagTable.Tag.INPUT, " type=\"hidden\" name=\"\" value=\"\"");
+      element(tags, out, TagTable.Tag.LABEL, " for=\"\"");
+      open(tags, out, TagTable.Tag.SELECT, " name=\"\"");
+      element(tags, out, TagTable.Tag.OPTION, " value=\"\"");
+      tags.writeClose(out, TagTable.Tag.SELECT);
+      // Written by ao-fluent-html-any
+      out.write("<button type=\"submit\"></button>");
+      tags.writeClose(out, TagTable.Tag.FORM);
+      open(tags, out, TagTable.Tag.IMG, " src=\"\" alt=\"\"");
+      open(tags, out, TagTable.Tag.BR, null);
+      open(tags, out, TagTable.Tag.HR, null);
+      element(tags, out, TagTable.Tag.H1, null);
+      element(tags, out, TagTable.Tag.H2, null);
+      element(tags, out, TagTable.Tag.H3, null);
+      open(tags, out, TagTable.Tag.UL, null);
+      element(tags, out, TagTable.Tag.LI, null);
+      tags.writeClose(out, TagTable.Tag.UL);
+      element(tags, out, TagTable.Tag.P, null);
+      element(tags, out, TagTable.Tag.STRONG, null);
+      open(tags, out, TagTable.Tag.TABLE, null);
+      open(tags, out, TagTable.Tag.THEAD, null);
+      open(tags, out, TagTable.Tag.TR, null);
+      element(tags, out, TagTable.Tag.TH, null);
+      tags.writeClose(out, TagTable.Tag.TR);
+      tags.writeClose(out, TagTable.Tag.THEAD);
+      open(tags, out, TagTable.Tag.TBODY, null);
+      open(tags, out, TagTable.Tag.TR, null);
+      element(tags, out, TagTable.Tag.TD, null);
+      tags.writeClose(out, TagTable.Tag.TR);
+      tags.writeClose(out, TagTable.Tag.TBODY);
+      tags.writeClose(out, TagTable.Tag.TABLE);
+      element(tags, out, TagTable.Tag.A, " href=\"\"");
+      element(tags, out, TagTable.Tag.SPAN, " class=\"\"");
+      element(tags, out, TagTable.Tag.DIV, " class=\"\"");
+    } catch (IOException e) {
+      throw new AssertionError("BufferWriter does not throw IOException", e);
+    }
+    return out.toString().getBytes(StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Writes an open tag with the given attributes, which are already encoded.
+   */
+  private static void open(TagTable tags, Writer out, TagTable.Tag tag, String attributes) throws IOException {
+    tags.writeOpenStart(out, tag);
+    if (attributes != null) {
+      out.write(attributes);
+    }
+    tags.writeOpenEnd(out, tag);
+  }
+
+  /**
+   * Writes an empty element with the given attributes, which are already encoded.
+   */
+  private static void element(TagTable tags, Writer out, TagTable.Tag tag, String attributes) throws IOException {
+    open(tags, out, tag, attributes);
+    tags.writeClose(out, tag);
+  }
+
+  /**
+   * Gets a preset dictionary of common markup for the given serialization and doctype, for use with
+   * {@link #deflate(java.io.OutputStream, int, byte[])} and the matching {@link java.util.zip.Inflater}.
+   *
+   * @return  A new copy of the dictionary
+   */
+  public static byte[] getDictionary(Serialization serialization, Doctype doctype) {
+    return dictionaries[serialization.ordinal() * Doctype.values().length + doctype.ordinal()].clone();
+  }
+}
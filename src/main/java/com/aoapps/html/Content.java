@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -23,6 +23,12 @@
 
 package com.aoapps.html;
 
+import com.aoapps.lang.io.function.IOConsumerE;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * The methods common to all content models.
  * <ul>
@@ -34,8 +40,87 @@ package com.aoapps.html;
  *
  * @author  AO Industries, Inc.
  */
-@SuppressWarnings("MarkerInterface")
 public interface Content<
     __ extends Content<__>
     > extends com.aoapps.html.any.Content<Document, __> {
+
+  /**
+   * Writes a fragment from the given cache, rendering and adding it on a miss.
+   *
+   * <p>The fragment is keyed by the given key along with the serialization, doctype, character encoding, indentation,
+   * and current depth of the document.  It should write balanced markup that depends only on these.  When
+   * indentation is enabled, the fragment retains any leading newline from when it was first rendered.</p>
+   *
+   * @param  <Ex>  An arbitrary exception type that may be thrown
+   *
+   * @param  key  Identifies the fragment, must implement {@link Object#equals(java.lang.Object)} and
+   *              {@link Object#hashCode()}
+   *
+   * @return  This content model
+   */
+  default <Ex extends Throwable> __ cached(FragmentCache cache, Object key, IOConsumerE<? super __, Ex> fragment) throws IOException, Ex {
+    @SuppressWarnings("unchecked")
+    __ content = (__) this;
+    getDocument().renderCached(cache, key, content, fragment);
+    return content;
+  }
+
+  /**
+   * Loads independent sections concurrently, then renders them in order.  Each section is called on the given
+   * executor, where it loads its data and returns how to render it.  The sections are rendered on the calling thread,
+   * directly into this content model, as soon as each and all preceding sections have loaded.  The total time then
+   * approaches that of the slowest section to load.
+   *
+   * <pre>ul.parallel(executor, Arrays.asList(
+   *   () -&gt; {
+   *     List&lt;Order&gt; orders = loadOrders();
+   *     return content -&gt; content.li__(li -&gt; renderOrders(li, orders));
+   *   },
+   *   () -&gt; {
+   *     List&lt;Invoice&gt; invoices = loadInvoices();
+   *     return content -&gt; content.li__(li -&gt; renderInvoices(li, invoices));
+   *   }
+   * ));</pre>
+   *
+   * <p>Since rendering happens in this document, each section may only write content allowed here, and all the
+   * settings and state of this document apply, such as indentation, metrics, and minification.  Sections must not
+   * access this document while loading.</p>
+   *
+   * <p>When a section throws, the first failure in document order is rethrown after the preceding sections have been
+   * rendered.  An {@link IOException}, {@link RuntimeException}, or {@link Error} is rethrown as-is, while any other
+   * exception from loading is wrapped in a {@link java.util.concurrent.CompletionException}.</p>
+   *
+   * @param  <Ex>  An arbitrary exception type that may be thrown while rendering
+   *
+   * @param  executor  The executor to load sections on, such as a {@link java.util.concurrent.ForkJoinPool} or,
+   *                   in Java 21+, a virtual thread per task executor
+   * @param  sections  Each loads its data and returns how to render it, or {@code null} to render nothing
+   *
+   * @return  This content model
+   */
+  default <Ex extends Throwable> __ parallel(
+      Executor executor,
+      Iterable<? extends Callable<? extends IOConsumerE<? super __, ? extends Ex>>> sections
+  ) throws IOException, Ex {
+    @SuppressWarnings("unchecked")
+    __ content = (__) this;
+    getDocument().renderParallel(executor, content, sections);
+    return content;
+  }
+
+  /**
+   * Loads independent sections concurrently in the {@linkplain ForkJoinPool#commonPool() common pool},
+   * then renders them in order.
+   *
+   * @param  <Ex>  An arbitrary exception type that may be thrown while rendering
+   *
+   * @return  This content model
+   *
+   * @see  #parallel(java.util.concurrent.Executor, java.lang.Iterable)
+   */
+  default <Ex extends Throwable> __ parallel(
+      Iterable<? extends Callable<? extends IOConsumerE<? super __, ? extends Ex>>> sections
+  ) throws IOException, Ex {
+    return parallel(ForkJoinPool.commonPool(), sections);
+  }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -44,6 +44,16 @@ public final class DATALIST<
     PC extends PhrasingContent<PC>
     > extends AnyDATALIST<Document, PC, DATALIST<PC>, DATALIST__<PC>, DATALIST_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private DATALIST__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private DATALIST_c<PC> recycledContentC;
+
   DATALIST(Document document, PC pc) {
     super(document, pc);
   }
@@ -51,16 +61,27 @@ public final class DATALIST<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.DATALIST);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseBlock(TagTable.Tag.DATALIST, closeAttributes);
   }
 
   @Override
   protected DATALIST__<PC> new__() {
-    return new DATALIST__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new DATALIST__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected DATALIST_c<PC> new_c() {
-    return new DATALIST_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new DATALIST_c<>(this);
+    }
+    return recycledContentC;
   }
 }
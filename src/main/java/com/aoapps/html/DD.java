@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class DD<
     PC extends Union_DIV_DL<PC>
     > extends AnyDD<Document, PC, DD<PC>, DD__<PC>, DD_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private DD__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private DD_c<PC> recycledContentC;
+
   DD(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class DD<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.DD);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseLine(TagTable.Tag.DD, closeAttributes);
   }
 
   @Override
   protected DD__<PC> new__() {
-    return new DD__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new DD__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected DD_c<PC> new_c() {
-    return new DD_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new DD_c<>(this);
+    }
+    return recycledContentC;
   }
 }
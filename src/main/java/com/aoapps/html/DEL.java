@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,8 @@ public final class DEL<
     PC extends PhrasingContent<PC>
     > extends AnyDEL<Document, PC, DEL<PC>, DEL_c<PC>> {
 
+  private DEL_c<PC> recycledContentC;
+
   DEL(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,11 +51,19 @@ public final class DEL<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenInline(TagTable.Tag.DEL);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseInline(TagTable.Tag.DEL, closeAttributes);
   }
 
   @Override
   protected DEL_c<PC> new_c() {
-    return new DEL_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new DEL_c<>(this);
+    }
+    return recycledContentC;
   }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class DIV<
     PC extends Union_DL_Palpable<PC>
     > extends AnyDIV<Document, PC, DIV<PC>, DIV__<PC>, DIV_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private DIV__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private DIV_c<PC> recycledContentC;
+
   DIV(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class DIV<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.DIV);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseBlock(TagTable.Tag.DIV, closeAttributes);
   }
 
   @Override
   protected DIV__<PC> new__() {
-    return new DIV__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new DIV__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected DIV_c<PC> new_c() {
-    return new DIV_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new DIV_c<>(this);
+    }
+    return recycledContentC;
   }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class DL<
     PC extends PalpableContent<PC>
     > extends AnyDL<Document, PC, DL<PC>, DL__<PC>, DL_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private DL__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private DL_c<PC> recycledContentC;
+
   DL(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class DL<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.DL);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseBlock(TagTable.Tag.DL, closeAttributes);
   }
 
   @Override
   protected DL__<PC> new__() {
-    return new DL__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new DL__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected DL_c<PC> new_c() {
-    return new DL_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new DL_c<>(this);
+    }
+    return recycledContentC;
   }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class DT<
     PC extends Union_DIV_DL<PC>
     > extends AnyDT<Document, PC, DT<PC>, DT__<PC>, DT_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private DT__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private DT_c<PC> recycledContentC;
+
   DT(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,22 @@ public final class DT<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.DT);
   }
 
   @Override
   protected DT__<PC> new__() {
-    return new DT__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new DT__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected DT_c<PC> new_c() {
-    return new DT_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new DT_c<>(this);
+    }
+    return recycledContentC;
   }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2019, 2020, 2021, 2022, 2024  AO Industries, Inc.
+ * Copyright (C) 2019, 2020, 2021, 2022, 2024, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -29,8 +29,24 @@ import com.aoapps.encoding.EncodingContext;
 import com.aoapps.encoding.Serialization;
 import com.aoapps.html.any.AnyDocument;
 import com.aoapps.lang.Coercion;
+import com.aoapps.lang.io.function.IOConsumerE;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 
 /**
  * Fluent Java DSL for high-performance HTML generation.
@@ -51,6 +67,7 @@ public final class Document extends AnyDocument<Document> implements AnyContent<
    *              with {@code encoder = null}.</p>
    *
    * @see  Document#setOut(java.io.Writer)
+   * @see  BufferWriter
    */
   public Document(EncodingContext encodingContext, Writer out) {
     super(encodingContext, out);
@@ -110,4 +127,1108 @@ public final class Document extends AnyDocument<Document> implements AnyContent<
   public Document(ChainWriter out) {
     this(out.getEncodingContext(), out.getPrintWriter());
   }
+
+  /**
+   * Encodes directly to the given output stream in the character encoding of the given context.  This avoids the
+   * intermediate {@link java.io.OutputStreamWriter} and, for UTF-8, encodes all markup with a tight loop over ASCII.
+   *
+   * <p>Output is buffered.  Call {@link #flush()} or close the stream through {@link #getRawUnsafe(java.lang.Boolean)}
+   * when done.</p>
+   *
+   * @param  out  The stream to write to, must not be {@code null}
+   *
+   * @see  #setOut(java.io.OutputStream)
+   */
+  public Document(EncodingContext encodingContext, OutputStream out) {
+    this(encodingContext, new ByteSinkWriter(out, encodingContext.getCharacterEncoding()));
+  }
+
+  /**
+   * Encodes directly to the given channel in the character encoding of the given context.
+   *
+   * <p>Output is buffered.  Call {@link #flush()} or close the channel through {@link #getRawUnsafe(java.lang.Boolean)}
+   * when done.</p>
+   *
+   * @param  out  The channel to write to, must not be {@code null}
+   *
+   * @see  #setOut(java.nio.channels.WritableByteChannel)
+   */
+  public Document(EncodingContext encodingContext, WritableByteChannel out) {
+    this(encodingContext, new ByteSinkWriter(out, encodingContext.getCharacterEncoding()));
+  }
+
+  /**
+   * Encodes directly to the given output stream in the character encoding of the given context, using the given
+   * buffer.  This allows the caller to pool buffers between documents.
+   *
+   * <p>Output is buffered.  Call {@link #flush()} or close the stream through {@link #getRawUnsafe(java.lang.Boolean)}
+   * when done.</p>
+   *
+   * @param  out     The stream to write to, must not be {@code null}
+   * @param  buffer  The buffer to encode into, must be backed by an accessible array.  Only the region between its
+   *                 position and limit is used, which must be at least four bytes.  The buffer must not be used
+   *                 elsewhere until this document is done.
+   *
+   * @see  #setOut(java.io.OutputStream, java.nio.ByteBuffer)
+   */
+  public Document(EncodingContext encodingContext, OutputStream out, ByteBuffer buffer) {
+    this(encodingContext, new ByteSinkWriter(out, buffer, encodingContext.getCharacterEncoding()));
+  }
+
+  /**
+   * Encodes directly to the given channel in the character encoding of the given context, using the given buffer.
+   * This allows the caller to pool buffers between documents.
+   *
+   * <p>Output is buffered.  Call {@link #flush()} or close the channel through {@link #getRawUnsafe(java.lang.Boolean)}
+   * when done.</p>
+   *
+   * @param  out     The channel to write to, must not be {@code null}
+   * @param  buffer  The buffer to encode into, must be backed by an accessible array.  Only the region between its
+   *                 position and limit is used, which must be at least four bytes.  The buffer must not be used
+   *                 elsewhere until this document is done.
+   *
+   * @see  #setOut(java.nio.channels.WritableByteChannel, java.nio.ByteBuffer)
+   */
+  public Document(EncodingContext encodingContext, WritableByteChannel out, ByteBuffer buffer) {
+    this(encodingContext, new ByteSinkWriter(out, buffer, encodingContext.getCharacterEncoding()));
+  }
+
+  /**
+   * Sets the output to the given byte sink, first flushing any output buffered for a previous stream or channel.
+   */
+  private Document setByteSink(ByteSinkWriter sink) throws IOException {
+    Writer old = unwrapFilters(getRawUnsafe(null));
+    if (old instanceof ByteSinkWriter) {
+      old.flush();
+    }
+    setOut(withFilters(sink));
+    return this;
+  }
+
+  /**
+   * Sets the output to encode directly to the given output stream in the current character encoding.
+   * Any output buffered for a previous stream or channel is flushed first.
+   *
+   * @param  out  The stream to write to, must not be {@code null}
+   *
+   * @return  {@code this} document
+   *
+   * @see  #Document(com.aoapps.encoding.EncodingContext, java.io.OutputStream)
+   */
+  public Document setOut(OutputStream out) throws IOException {
+    return setByteSink(new ByteSinkWriter(out, encodingContext.getCharacterEncoding()));
+  }
+
+  /**
+   * Sets the output to encode directly to the given output stream in the current character encoding, using the given
+   * buffer.  Any output buffered for a previous stream or channel is flushed first.
+   *
+   * @param  out     The stream to write to, must not be {@code null}
+   * @param  buffer  The buffer to encode into, with the same requirements as
+   *                 {@link #Document(com.aoapps.encoding.EncodingContext, java.io.OutputStream, java.nio.ByteBuffer)}
+   *
+   * @return  {@code this} document
+   */
+  public Document setOut(OutputStream out, ByteBuffer buffer) throws IOException {
+    return setByteSink(new ByteSinkWriter(out, buffer, encodingContext.getCharacterEncoding()));
+  }
+
+  /**
+   * Sets the output to encode directly to the given channel in the current character encoding.
+   * Any output buffered for a previous stream or channel is flushed first.
+   *
+   * @param  out  The channel to write to, must not be {@code null}
+   *
+   * @return  {@code this} document
+   *
+   * @see  #Document(com.aoapps.encoding.EncodingContext, java.nio.channels.WritableByteChannel)
+   */
+  public Document setOut(WritableByteChannel out) throws IOException {
+    return setByteSink(new ByteSinkWriter(out, encodingContext.getCharacterEncoding()));
+  }
+
+  /**
+   * Sets the output to encode directly to the given channel in the current character encoding, using the given
+   * buffer.  Any output buffered for a previous stream or channel is flushed first.
+   *
+   * @param  out     The channel to write to, must not be {@code null}
+   * @param  buffer  The buffer to encode into, with the same requirements as
+   *                 {@link #Document(com.aoapps.encoding.EncodingContext, java.nio.channels.WritableByteChannel, java.nio.ByteBuffer)}
+   *
+   * @return  {@code this} document
+   */
+  public Document setOut(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+    return setByteSink(new ByteSinkWriter(out, buffer, encodingContext.getCharacterEncoding()));
+  }
+
+  /**
+   * Flushes the current output.  When writing to an {@link OutputStream} or {@link WritableByteChannel}, this writes
+   * all buffered bytes.  When the stream is from {@link Compression}, this is also a {@link java.util.zip.Deflater#SYNC_FLUSH},
+   * so call at element boundaries, such as after <code>&lt;head&gt;</code>.
+   *
+   * @return  {@code this} document
+   */
+  public Document flush() throws IOException {
+    Object event = RenderEvents.beginFlush();
+    try {
+      getRawUnsafe(null).flush();
+    } finally {
+      RenderEvents.end(event);
+    }
+    return this;
+  }
+
+  /**
+   * Gets the pre-encoded tag sequences for the current serialization.
+   */
+  TagTable getTagTable() {
+    return TagTable.getInstance(encodingContext.getSerialization());
+  }
+
+  /**
+   * Writes a fragment from the given cache, rendering it with the output temporarily redirected on a miss.
+   *
+   * @see  Content#cached(com.aoapps.html.FragmentCache, java.lang.Object, com.aoapps.lang.io.function.IOConsumerE)
+   */
+  <C, Ex extends Throwable> void renderCached(FragmentCache cache, Object key, C content, IOConsumerE<? super C, Ex> fragment) throws IOException, Ex {
+    Object event = RenderEvents.beginFragment();
+    boolean hit = false;
+    FragmentCache.Fragment cached = null;
+    try {
+      FragmentCache.Key cacheKey = new FragmentCache.Key(key, encodingContext, getIndent(), getDepth(), getAtnl());
+      cached = cache.get(cacheKey);
+      hit = cached != null;
+      if (!hit) {
+        Writer out = getRawUnsafe(null);
+        BufferWriter buffer = new BufferWriter();
+        setOut(buffer);
+        try {
+          fragment.accept(content);
+        } finally {
+          setOut(out);
+        }
+        cached = cache.put(cacheKey, buffer.toCharArray());
+      }
+      // Written the same on hit and miss, leaving the newline state as after rendering the fragment
+      cached.writeTo(getRawUnsafe(cached.getEndsNewline()));
+    } finally {
+      RenderEvents.endFragment(event, key, hit, (cached == null) ? 0 : cached.getLength());
+    }
+  }
+
+  /**
+   * Loads sections concurrently, rendering each into the given content in order once it and all preceding sections
+   * have loaded.
+   *
+   * @see  Content#parallel(java.util.concurrent.Executor, java.lang.Iterable)
+   */
+  <C, Ex extends Throwable> void renderParallel(
+      Executor executor,
+      C content,
+      Iterable<? extends Callable<? extends IOConsumerE<? super C, ? extends Ex>>> sections
+  ) throws IOException, Ex {
+    List<CompletableFuture<IOConsumerE<? super C, ? extends Ex>>> futures = new ArrayList<>();
+    for (Callable<? extends IOConsumerE<? super C, ? extends Ex>> section : sections) {
+      futures.add(CompletableFuture.supplyAsync(
+          () -> {
+            try {
+              return section.call();
+            } catch (RuntimeException e) {
+              throw e;
+            } catch (Exception e) {
+              throw new CompletionException(e);
+            }
+          },
+          executor
+      ));
+    }
+    try {
+      for (CompletableFuture<IOConsumerE<? super C, ? extends Ex>> future : futures) {
+        IOConsumerE<? super C, ? extends Ex> renderer;
+        try {
+          renderer = future.join();
+        } catch (CompletionException e) {
+          Throwable cause = e.getCause();
+          if (cause instanceof Error) {
+            throw (Error) cause;
+          }
+          if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+          }
+          if (cause instanceof IOException) {
+            throw (IOException) cause;
+          }
+          throw e;
+        }
+        if (renderer != null) {
+          renderer.accept(content);
+        }
+      }
+    } finally {
+      for (CompletableFuture<?> future : futures) {
+        future.cancel(false);
+      }
+    }
+  }
+
+  // <editor-fold defaultstate="collapsed" desc="Direct Text">
+  /**
+   * Writes text directly to the output, escaping straight from the given region with no intermediate copy.
+   * Like <code>text(char[], int, int)</code> in ao-fluent-html-any, the text is indented when at the start of a line,
+   * unless it is a single newline.
+   */
+  void writeText(char[] cbuf, int off, int len) throws IOException {
+    writeText(cbuf, off, len, true);
+  }
+
+  /**
+   * Writes text directly to the output, escaping straight from the given region with no intermediate copy.
+   *
+   * @param  autoIndent  Is the text indented when at the start of a line?  Streamed text is only indented before its
+   *                     first chunk, the same as when written all at once.
+   */
+  private void writeText(char[] cbuf, int off, int len, boolean autoIndent) throws IOException {
+    if (len > 0) {
+      Object event = RenderEvents.beginText(len);
+      try {
+        Writer out = getRawUnsafe(null);
+        boolean endsNewline = cbuf[off + len - 1] == '\n';
+        if (autoIndent && (len != 1 || !endsNewline)) {
+          writeAutoIndent(out);
+        }
+        HtmlEscaper.text(cbuf, off, len, out);
+        setAtnl(endsNewline);
+      } finally {
+        RenderEvents.end(event);
+      }
+    }
+  }
+
+  /**
+   * Writes text directly to the output, escaping straight from the given region with no intermediate copy.
+   * Like <code>text(CharSequence, int, int)</code> in ao-fluent-html-any, the text is indented when at the start of
+   * a line, unless it is a single newline.
+   */
+  void writeText(CharSequence csq, int start, int end) throws IOException {
+    if (end > start) {
+      Object event = RenderEvents.beginText(end - start);
+      try {
+        Writer out = getRawUnsafe(null);
+        boolean endsNewline = csq.charAt(end - 1) == '\n';
+        if (end - start != 1 || !endsNewline) {
+          writeAutoIndent(out);
+        }
+        HtmlEscaper.text(csq, start, end, out);
+        setAtnl(endsNewline);
+      } finally {
+        RenderEvents.end(event);
+      }
+    }
+  }
+
+  /**
+   * The buffer text and raw text are streamed through, created on first use.
+   */
+  private char[] transferBuffer;
+
+  char[] getTransferBuffer() {
+    char[] buf = transferBuffer;
+    if (buf == null) {
+      buf = new char[4096];
+      transferBuffer = buf;
+    }
+    return buf;
+  }
+
+  /**
+   * The transfer buffer wrapped for decoding into, created on first use.
+   */
+  private CharBuffer transferChars;
+
+  private CharBuffer getTransferChars() {
+    CharBuffer chars = transferChars;
+    if (chars == null) {
+      chars = CharBuffer.wrap(getTransferBuffer());
+      transferChars = chars;
+    }
+    return chars;
+  }
+
+  /**
+   * The decoder channels are read through, created on first use.
+   */
+  private ChannelDecoder channelDecoder;
+
+  /**
+   * Gets the decoder reused by this document, started on the given channel.
+   */
+  private ChannelDecoder startChannelDecoder(ReadableByteChannel in, Charset charset) {
+    ChannelDecoder decoder = channelDecoder;
+    if (decoder == null) {
+      decoder = new ChannelDecoder();
+      channelDecoder = decoder;
+    }
+    decoder.start(in, charset);
+    return decoder;
+  }
+
+  /**
+   * Writes text from the given reader, streamed through a reusable buffer so memory use is constant regardless of
+   * the length of the text.  The text is indented once, before its first chunk, the same as when written all at once.
+   * The reader is not closed.
+   */
+  void writeText(Reader in) throws IOException {
+    char[] buf = getTransferBuffer();
+    boolean first = true;
+    int carry = 0;
+    int count;
+    while ((count = in.read(buf, carry, buf.length - carry)) != -1) {
+      int len = carry + count;
+      // Holds back a trailing high surrogate, so a pair split between reads is written together.  Also holds back
+      // a leading lone newline, which is only left unindented when it is the entire text.
+      carry = (
+          len > 0
+              && (Character.isHighSurrogate(buf[len - 1]) || (first && len == 1 && buf[0] == '\n'))
+      ) ? 1 : 0;
+      if (len > carry) {
+        writeText(buf, 0, len - carry, first);
+        first = false;
+      }
+      if (carry != 0) {
+        buf[0] = buf[len - 1];
+      }
+    }
+    if (carry != 0) {
+      writeText(buf, 0, 1, first);
+    }
+  }
+
+  /**
+   * Writes text from the given channel, decoded directly into the transfer buffer so memory use is constant
+   * regardless of the length of the text.  The text is indented once, before its first chunk, the same as when
+   * written all at once.  The channel is not closed.
+   *
+   * @throws  java.nio.charset.CharacterCodingException  when the bytes are not valid in the given encoding
+   */
+  void writeText(ReadableByteChannel in, Charset charset) throws IOException {
+    ChannelDecoder decoder = startChannelDecoder(in, charset);
+    CharBuffer chars = getTransferChars();
+    char[] buf = chars.array();
+    boolean first = true;
+    int carry = 0;
+    int count;
+    while ((count = decoder.read(chars.clear().position(carry))) != -1) {
+      int len = carry + count;
+      // Holds back a trailing high surrogate, so a pair split between reads is written together.  Also holds back
+      // a leading lone newline, which is only left unindented when it is the entire text.
+      carry = (
+          len > 0
+              && (Character.isHighSurrogate(buf[len - 1]) || (first && len == 1 && buf[0] == '\n'))
+      ) ? 1 : 0;
+      if (len > carry) {
+        writeText(buf, 0, len - carry, first);
+        first = false;
+      }
+      if (carry != 0) {
+        buf[0] = buf[len - 1];
+      }
+    }
+    if (carry != 0) {
+      writeText(buf, 0, 1, first);
+    }
+  }
+
+  /**
+   * The buffer numbers are formatted into, created on first use.
+   */
+  private char[] numberBuffer;
+
+  private char[] getNumberBuffer() {
+    char[] buf = numberBuffer;
+    if (buf == null) {
+      buf = new char[NumberWriter.BUFFER_SIZE];
+      numberBuffer = buf;
+    }
+    return buf;
+  }
+
+  /**
+   * Gets the output for writing a number as text.  Like <code>text(Object)</code> in ao-fluent-html-any, the number
+   * is indented when at the start of a line.
+   */
+  private Writer getNumberOut() throws IOException {
+    Writer out = getRawUnsafe(null);
+    writeAutoIndent(out);
+    clearAtnl();
+    return out;
+  }
+
+  /**
+   * Writes a number as text, formatted with no boxing or intermediate string.
+   */
+  void writeNumber(long value) throws IOException {
+    NumberWriter.write(value, getNumberBuffer(), getNumberOut());
+  }
+
+  /**
+   * Writes a number as text, formatted with no boxing or intermediate string when in plain notation.
+   */
+  void writeNumber(float value) throws IOException {
+    NumberWriter.write(value, getNumberBuffer(), getNumberOut());
+  }
+
+  /**
+   * Writes a number as text, formatted with no boxing or intermediate string when in plain notation.
+   */
+  void writeNumber(double value) throws IOException {
+    NumberWriter.write(value, getNumberBuffer(), getNumberOut());
+  }
+
+  /**
+   * Writes the start of an attribute, through the opening quote of its value.
+   */
+  private Writer writeAttributeStart(String name) throws IOException {
+    Writer out = getRawUnsafe(null);
+    if (getAtnl()) {
+      writeAutoIndent(out, 1);
+      clearAtnl();
+    } else {
+      out.write(' ');
+    }
+    out.write(name);
+    out.write("=\"");
+    return out;
+  }
+
+  /**
+   * Writes a numeric attribute, formatted with no boxing or intermediate string.
+   */
+  void writeAttribute(String name, long value) throws IOException {
+    Writer out = writeAttributeStart(name);
+    NumberWriter.write(value, getNumberBuffer(), out);
+    out.write('"');
+  }
+
+  /**
+   * Writes a numeric attribute, formatted with no boxing or intermediate string when in plain notation.
+   */
+  void writeAttribute(String name, float value) throws IOException {
+    Writer out = writeAttributeStart(name);
+    NumberWriter.write(value, getNumberBuffer(), out);
+    out.write('"');
+  }
+
+  /**
+   * Writes a numeric attribute, formatted with no boxing or intermediate string when in plain notation.
+   */
+  void writeAttribute(String name, double value) throws IOException {
+    Writer out = writeAttributeStart(name);
+    NumberWriter.write(value, getNumberBuffer(), out);
+    out.write('"');
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="Element Tags">
+  /**
+   * Writes the start of the open tag of a block element, such as <code>&lt;div</code>, from the pre-encoded
+   * {@link TagTable}.  Like the block elements in ao-fluent-html-any, this begins a new, indented line when
+   * {@linkplain #getAutonli() automatic newlines} are enabled.
+   */
+  void writeOpenBlock(TagTable.Tag tag) throws IOException {
+    Writer out = getRawUnsafe(null);
+    writeAutoNli(out);
+    getTagTable().writeOpenStart(out, tag);
+    clearAtnl();
+  }
+
+  /**
+   * Writes the start of the open tag of an inline element, such as <code>&lt;span</code>, from the pre-encoded
+   * {@link TagTable}.  Like the inline elements in ao-fluent-html-any, this is only indented when already at the start
+   * of a line.
+   */
+  void writeOpenInline(TagTable.Tag tag) throws IOException {
+    Writer out = getRawUnsafe(null);
+    writeAutoIndent(out);
+    getTagTable().writeOpenStart(out, tag);
+    clearAtnl();
+  }
+
+  /**
+   * Writes the end tag of an inline element, such as <code>&lt;/span&gt;</code>, from the pre-encoded
+   * {@link TagTable}.
+   *
+   * @param  closeAttributes  Is the open tag still open after its attributes?
+   */
+  void writeCloseInline(TagTable.Tag tag, boolean closeAttributes) throws IOException {
+    Writer out = getRawUnsafe(null);
+    writeAutoIndent(out);
+    getTagTable().writeClose(out, tag, closeAttributes);
+    clearAtnl();
+  }
+
+  /**
+   * Writes the end tag of an element that ends its line, such as <code>&lt;/li&gt;</code> or
+   * <code>&lt;/td&gt;</code>, from the pre-encoded {@link TagTable}.
+   *
+   * @param  closeAttributes  Is the open tag still open after its attributes?
+   */
+  void writeCloseLine(TagTable.Tag tag, boolean closeAttributes) throws IOException {
+    writeCloseInline(tag, closeAttributes);
+    writeAutoNl(getRawUnsafe(null));
+  }
+
+  /**
+   * Writes the end tag of a block element, such as <code>&lt;/div&gt;</code>, from the pre-encoded {@link TagTable}.
+   * When the element has content, the end tag is on its own line.
+   *
+   * @param  closeAttributes  Is the open tag still open after its attributes?
+   */
+  void writeCloseBlock(TagTable.Tag tag, boolean closeAttributes) throws IOException {
+    Writer out = getRawUnsafe(null);
+    if (closeAttributes) {
+      writeAutoIndent(out);
+    } else {
+      writeAutoNli(out);
+    }
+    getTagTable().writeClose(out, tag, closeAttributes);
+    clearAtnl();
+    writeAutoNl(out);
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="Indentation">
+  /**
+   * Begins a new line when {@linkplain #getAutonli() automatic newlines} are enabled, followed by the current depth
+   * of indentation when {@linkplain #getIndent() indenting}.  When already at the start of a line, only the
+   * indentation is written.  This matches {@link #autoNli()}, but writes the newline and indentation as a single
+   * precomputed slice.
+   *
+   * @see  Indentation
+   */
+  @SuppressWarnings("deprecation")
+  private void writeAutoNli(Writer out) throws IOException {
+    if (getAutonli()) {
+      int depth = getIndent() ? getDepth() : 0;
+      if (getAtnl()) {
+        if (depth > 0) {
+          Indentation.indent(out, depth);
+          clearAtnl();
+        }
+      } else {
+        Indentation.nli(out, depth);
+        if (depth > 0) {
+          clearAtnl();
+        } else {
+          setAtnl();
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes the current depth of indentation when {@linkplain #getAutonli() automatic newlines} are enabled,
+   * {@linkplain #getIndent() indenting}, and already at the start of a line.  This matches {@link #autoIndent()}, but
+   * writes the indentation as a single precomputed slice.
+   *
+   * @see  Indentation
+   */
+  private void writeAutoIndent(Writer out) throws IOException {
+    writeAutoIndent(out, 0);
+  }
+
+  /**
+   * Writes the current depth of indentation plus the given offset, such as one more level for an attribute on its
+   * own line.  This matches {@link #autoIndent(int)}.
+   */
+  @SuppressWarnings("deprecation")
+  private void writeAutoIndent(Writer out, int depthOffset) throws IOException {
+    if (getAutonli() && getIndent() && getAtnl()) {
+      int depth = getDepth() + depthOffset;
+      if (depth < 0) {
+        // Overflow
+        depth = Integer.MAX_VALUE;
+      }
+      if (depth > 0) {
+        Indentation.indent(out, depth);
+        clearAtnl();
+      }
+    }
+  }
+
+  /**
+   * Writes a newline when {@linkplain #getAutonli() automatic newlines} are enabled and not already at the start of a
+   * line.  This matches {@link #autoNl()}.
+   */
+  @SuppressWarnings("deprecation")
+  private void writeAutoNl(Writer out) throws IOException {
+    if (getAutonli() && !getAtnl()) {
+      Indentation.nli(out, 0);
+      setAtnl();
+    }
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="JSON">
+  /**
+   * Writes a complete <code>&lt;script&gt;</code> of the given type, streaming its JSON body directly to the output.
+   *
+   * @see  ScriptSupportingContent#json__(java.lang.String, com.aoapps.lang.io.function.IOConsumerE)
+   */
+  <Ex extends Throwable> void writeJson(String type, IOConsumerE<? super JsonWriter, Ex> json) throws IOException, Ex {
+    writeOpenBlock(TagTable.Tag.SCRIPT);
+    TagTable tagTable = getTagTable();
+    Writer out = getRawUnsafe(false);
+    if (type != null) {
+      out.write(" type=\"");
+      HtmlEscaper.attribute(type, 0, type.length(), out);
+      out.write('"');
+    }
+    tagTable.writeOpenEnd(out, TagTable.Tag.SCRIPT);
+    try {
+      JsonWriter writer = new JsonWriter(out);
+      json.accept(writer);
+      writer.checkComplete();
+    } catch (Throwable t) {
+      // Closes the script, so the rest of the page is not consumed as its body
+      try {
+        tagTable.writeClose(getRawUnsafe(false), TagTable.Tag.SCRIPT);
+      } catch (IOException e) {
+        t.addSuppressed(e);
+      }
+      throw t;
+    }
+    tagTable.writeClose(out, TagTable.Tag.SCRIPT);
+    writeAutoNl(out);
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="Raw Text">
+  /**
+   * Writes the open tag of a raw text element, including the type attribute required before HTML5 and, in XML, the
+   * start of a <code>CDATA</code> section.
+   */
+  private Writer writeRawTextOpen(TagTable.Tag tag) throws IOException {
+    writeOpenBlock(tag);
+    TagTable tagTable = getTagTable();
+    Writer out = getRawUnsafe(false);
+    if (encodingContext.getDoctype() != Doctype.HTML5) {
+      out.write(tag == TagTable.Tag.STYLE ? " type=\"text/css\"" : " type=\"text/javascript\"");
+    }
+    tagTable.writeOpenEnd(out, tag);
+    if (encodingContext.getSerialization() == Serialization.XML) {
+      out.write("/*<![CDATA[*/");
+    }
+    return out;
+  }
+
+  private void writeRawTextClose(TagTable.Tag tag) throws IOException {
+    Writer out = getRawUnsafe(false);
+    if (encodingContext.getSerialization() == Serialization.XML) {
+      out.write("/*]]>*/");
+    }
+    getTagTable().writeClose(out, tag);
+    writeAutoNl(out);
+  }
+
+  /**
+   * Writes a complete <code>&lt;style&gt;</code> or <code>&lt;script&gt;</code> with the given file as its body,
+   * read and checked once then copied from the cache.
+   *
+   * @throws  IllegalArgumentException  when the file contains a sequence that cannot be written in the element
+   *
+   * @see  ResourceCache
+   */
+  void writeRawText(TagTable.Tag tag, ResourceCache cache, Path file) throws IOException {
+    // Checked before writing anything
+    ResourceCache.Resource resource = cache.get(file, tag, encodingContext.getSerialization());
+    Writer out = writeRawTextOpen(tag);
+    resource.writeTo(out);
+    writeRawTextClose(tag);
+  }
+
+  /**
+   * Writes a complete <code>&lt;style&gt;</code> or <code>&lt;script&gt;</code>, streaming its body from the given
+   * reader through a reusable buffer.  The reader is not closed.
+   *
+   * @throws  IllegalArgumentException  when the content contains a sequence that cannot be written in the element.
+   *                                    The content before the sequence has already been written.
+   */
+  void writeRawText(TagTable.Tag tag, Reader in) throws IOException {
+    RawTextChecker checker = new RawTextChecker(tag, encodingContext.getSerialization());
+    Writer out = writeRawTextOpen(tag);
+    try {
+      char[] buf = getTransferBuffer();
+      int count;
+      while ((count = in.read(buf, 0, buf.length)) != -1) {
+        checker.check(buf, 0, count);
+        out.write(buf, 0, count);
+      }
+    } catch (Throwable t) {
+      closeRawText(tag, t);
+      throw t;
+    }
+    writeRawTextClose(tag);
+  }
+
+  /**
+   * Writes a complete <code>&lt;style&gt;</code> or <code>&lt;script&gt;</code>, streaming its body from the given
+   * channel, decoded directly into the transfer buffer.  The channel is not closed.
+   *
+   * @throws  IllegalArgumentException  when the content contains a sequence that cannot be written in the element.
+   *                                    The content before the sequence has already been written.
+   * @throws  java.nio.charset.CharacterCodingException  when the bytes are not valid in the given encoding
+   */
+  void writeRawText(TagTable.Tag tag, ReadableByteChannel in, Charset charset) throws IOException {
+    RawTextChecker checker = new RawTextChecker(tag, encodingContext.getSerialization());
+    Writer out = writeRawTextOpen(tag);
+    try {
+      ChannelDecoder decoder = startChannelDecoder(in, charset);
+      CharBuffer chars = getTransferChars();
+      char[] buf = chars.array();
+      int count;
+      while ((count = decoder.read(chars.clear())) != -1) {
+        checker.check(buf, 0, count);
+        out.write(buf, 0, count);
+      }
+    } catch (Throwable t) {
+      closeRawText(tag, t);
+      throw t;
+    }
+    writeRawTextClose(tag);
+  }
+
+  /**
+   * Closes a raw text element after its body failed, so the rest of the page is not consumed as its body.  Any
+   * failure closing it is added as suppressed.
+   */
+  private void closeRawText(TagTable.Tag tag, Throwable t) {
+    try {
+      writeRawTextClose(tag);
+    } catch (IOException e) {
+      t.addSuppressed(e);
+    }
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="Class List and Inline Style">
+  private ClassList classList;
+
+  /**
+   * Gets the class list reused by this document, cleared and ready for adding classes.
+   * Duplicates are not skipped unless enabled with {@link ClassList#setDistinct(boolean)}.
+   *
+   * @see  ClassList
+   */
+  public ClassList classList() {
+    ClassList list = classList;
+    if (list == null) {
+      list = new ClassList();
+      classList = list;
+      return list;
+    }
+    return list.clear().setDistinct(false);
+  }
+
+  private InlineStyle inlineStyle;
+
+  /**
+   * Gets the inline style reused by this document, cleared and ready for adding properties.
+   *
+   * @see  InlineStyle
+   */
+  public InlineStyle inlineStyle() {
+    InlineStyle style = inlineStyle;
+    if (style == null) {
+      style = new InlineStyle();
+      inlineStyle = style;
+      return style;
+    }
+    return style.clear();
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="Metrics">
+  private RenderMetrics metrics;
+
+  /**
+   * Gets the metrics currently being collected.
+   *
+   * @return  The metrics or {@code null} when not collecting
+   */
+  public RenderMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Starts or stops collecting metrics for everything written to the current output.  When collecting, the output is
+   * wrapped to count the markup as it is written.  When not collecting, which is the default, there is no wrapper and
+   * no additional cost.
+   *
+   * <p>Metrics are retained when the output is changed to a stream or channel, such as with
+   * {@link #setOut(java.io.OutputStream)}.  Call this method again after
+   * {@link #setOut(java.io.Writer)}.</p>
+   *
+   * @param  metrics  The metrics to add to or {@code null} to stop collecting
+   *
+   * @return  {@code this} document
+   */
+  public Document setMetrics(RenderMetrics metrics) throws IOException {
+    Writer out = unwrapFilters(getRawUnsafe(null));
+    this.metrics = metrics;
+    setOut(withFilters(out));
+    return this;
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="Minification">
+  private boolean omitEndTags;
+
+  /**
+   * Are optional end tags being omitted?
+   *
+   * @see  #setOmitEndTags(boolean)
+   */
+  public boolean getOmitEndTags() {
+    return omitEndTags;
+  }
+
+  /**
+   * Enables or disables omitting optional end tags.  Disabled by default.
+   *
+   * <p>When enabled, the end tags of <code>&lt;li&gt;</code>, <code>&lt;dt&gt;</code>, <code>&lt;dd&gt;</code>,
+   * <code>&lt;p&gt;</code>, <code>&lt;option&gt;</code>, <code>&lt;thead&gt;</code>, <code>&lt;tbody&gt;</code>,
+   * <code>&lt;tr&gt;</code>, <code>&lt;td&gt;</code>, and <code>&lt;th&gt;</code> are held until the next tag is
+   * written, then omitted when that tag meets the conditions of
+   * <a href="https://html.spec.whatwg.org/multipage/syntax.html#optional-tags">13.1.2.4 Optional tags</a>.  The parsed
+   * document is unchanged.  Any text in between, including indentation, keeps the end tag, so this is most effective
+   * without {@linkplain #setIndent(boolean) indentation}.</p>
+   *
+   * <p>Like metrics, this is retained when the output is changed to a stream or channel, such as with
+   * {@link #setOut(java.io.OutputStream)}.  Call this method again after
+   * {@link #setOut(java.io.Writer)}.</p>
+   *
+   * @return  {@code this} document
+   *
+   * @throws  IllegalStateException  when enabling for any serialization other than {@link Serialization#SGML} or
+   *                                 any doctype other than {@link Doctype#HTML5}
+   */
+  public Document setOmitEndTags(boolean omitEndTags) throws IOException {
+    if (
+        omitEndTags
+            && (encodingContext.getSerialization() != Serialization.SGML || encodingContext.getDoctype() != Doctype.HTML5)
+    ) {
+      throw new IllegalStateException(
+          "End tags may only be omitted for " + Serialization.SGML + " and " + Doctype.HTML5 + ": "
+              + encodingContext.getSerialization() + " and " + encodingContext.getDoctype()
+      );
+    }
+    // Always rewrapped, so the current output is wrapped after setOut(Writer)
+    Writer out = unwrapFilters(getRawUnsafe(null));
+    this.omitEndTags = omitEndTags;
+    setOut(withFilters(out));
+    return this;
+  }
+
+  private boolean minifyAttributes;
+
+  /**
+   * Are attributes being minified?
+   *
+   * @see  #setMinifyAttributes(boolean)
+   */
+  public boolean getMinifyAttributes() {
+    return minifyAttributes;
+  }
+
+  /**
+   * Enables or disables minifying attributes.  Disabled by default.
+   *
+   * <p>When enabled, boolean attributes, such as <code>checked</code>, <code>selected</code>, and
+   * <code>multiple</code>, are always written in their short form without a value.  Other attribute values that
+   * contain no whitespace or any of <code>"'=&lt;&gt;`</code> are written without quotes.  Each value is checked as it
+   * is written, in the same single pass as {@linkplain #setOmitEndTags(boolean) end tag omission}.</p>
+   *
+   * <p>Like metrics, this is retained when the output is changed to a stream or channel, such as with
+   * {@link #setOut(java.io.OutputStream)}.  Call this method again after
+   * {@link #setOut(java.io.Writer)}.</p>
+   *
+   * @return  {@code this} document
+   *
+   * @throws  IllegalStateException  when enabling for any serialization other than {@link Serialization#SGML}
+   */
+  public Document setMinifyAttributes(boolean minifyAttributes) throws IOException {
+    if (minifyAttributes && encodingContext.getSerialization() != Serialization.SGML) {
+      throw new IllegalStateException(
+          "Attributes may only be minified for " + Serialization.SGML + ": " + encodingContext.getSerialization()
+      );
+    }
+    // Always rewrapped, so the current output is wrapped after setOut(Writer)
+    Writer out = unwrapFilters(getRawUnsafe(null));
+    this.minifyAttributes = minifyAttributes;
+    setOut(withFilters(out));
+    return this;
+  }
+
+  private boolean collapseWhitespace;
+
+  /**
+   * Is whitespace in text being collapsed?
+   *
+   * @see  #setCollapseWhitespace(boolean)
+   */
+  public boolean getCollapseWhitespace() {
+    return collapseWhitespace;
+  }
+
+  /**
+   * Enables or disables collapsing whitespace in text.  Disabled by default.
+   *
+   * <p>When enabled, each run of spaces, tabs, and newlines in text is written as a single space, which is how
+   * browsers render it by default.  This is automatically off within <code>&lt;pre&gt;</code>,
+   * <code>&lt;textarea&gt;</code>, <code>&lt;script&gt;</code>, and <code>&lt;style&gt;</code>.  It must not be used
+   * when other elements are styled with significant whitespace, such as <code>white-space: pre</code>.  The text is
+   * checked as it is written, in the same single pass as the other minification.  This is done on the output instead
+   * of when text is escaped, so it also applies to {@linkplain #setIndent(boolean) indentation} and to markup written
+   * directly, such as with {@link #getRawUnsafe(java.lang.Boolean)}.</p>
+   *
+   * <p>Like metrics, this is retained when the output is changed to a stream or channel, such as with
+   * {@link #setOut(java.io.OutputStream)}.  Call this method again after
+   * {@link #setOut(java.io.Writer)}.</p>
+   *
+   * @return  {@code this} document
+   */
+  public Document setCollapseWhitespace(boolean collapseWhitespace) throws IOException {
+    // Always rewrapped, so the current output is wrapped after setOut(Writer)
+    Writer out = unwrapFilters(getRawUnsafe(null));
+    this.collapseWhitespace = collapseWhitespace;
+    setOut(withFilters(out));
+    return this;
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="Output Filters">
+  /**
+   * Removes the current metrics and minification from the given output, writing anything held for minification.
+   */
+  private static Writer unwrapFilters(Writer out) throws IOException {
+    if (out instanceof MinifyingWriter) {
+      MinifyingWriter minifying = (MinifyingWriter) out;
+      minifying.finish();
+      out = minifying.getOut();
+    }
+    if (out instanceof MetricsWriter) {
+      out = ((MetricsWriter) out).getOut();
+    }
+    return out;
+  }
+
+  /**
+   * Wraps the given output for the current metrics and minification, if any.  Metrics count the minified output, and
+   * track nesting through any end tags it omits.
+   */
+  private Writer withFilters(Writer out) {
+    if (out != null) {
+      RenderMetrics m = metrics;
+      if (m != null) {
+        out = new MetricsWriter(out, m);
+      }
+      if (omitEndTags || minifyAttributes || collapseWhitespace) {
+        out = new MinifyingWriter(out, omitEndTags, minifyAttributes, collapseWhitespace);
+      }
+    }
+    return out;
+  }
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="Element Recycling">
+  /**
+   * The number of elements retained for recycling.  Must be a power of two.
+   */
+  private static final int RECYCLE_SIZE = 64;
+
+  private boolean recycleElements;
+
+  /**
+   * Recycled elements, stored as triples of element class, parent content, and element.
+   * Created on first use.
+   */
+  private Object[] recycled;
+
+  /**
+   * Is element recycling enabled?
+   *
+   * @see  #setRecycleElements(boolean)
+   */
+  public boolean getRecycleElements() {
+    return recycleElements;
+  }
+
+  /**
+   * Enables or disables element recycling.  Disabled by default.
+   *
+   * <p>When enabled, the high-churn elements, such as <code>&lt;td&gt;</code>, <code>&lt;span&gt;</code>, and
+   * <code>&lt;li&gt;</code>, along with their <code>*__</code> and <code>*_c</code> content models, are reused
+   * instead of allocated each time they are created within the same parent content.  A table rendered row by row
+   * will then allocate its row and cell elements only for the first row.</p>
+   *
+   * <p>Each element creates its <code>*__</code> and <code>*_c</code> content models once, so a recycled element also
+   * reuses its content models.</p>
+   *
+   * <p>Only elements that write everything immediately and hold no state beyond this document and their parent
+   * content model are recycled, so recycling changes nothing in the output.  However, an element must not be retained
+   * and used after another element of the same type has been created in the same parent, since they may now be the
+   * same object.</p>
+   *
+   * <p>Elements that track state or validate their attributes, such as <code>&lt;script&gt;</code>,
+   * <code>&lt;style&gt;</code>, <code>&lt;input&gt;</code>, <code>&lt;img&gt;</code>, <code>&lt;a&gt;</code>,
+   * <code>&lt;option&gt;</code>, <code>&lt;select&gt;</code>, and <code>&lt;textarea&gt;</code>, are never
+   * recycled.</p>
+   *
+   * @return  {@code this} document
+   */
+  public Document setRecycleElements(boolean recycleElements) {
+    this.recycleElements = recycleElements;
+    if (!recycleElements) {
+      recycled = null;
+    }
+    return this;
+  }
+
+  /**
+   * Creates a new element or, when {@linkplain #setRecycleElements(boolean) recycling is enabled}, reuses the element
+   * of the same class previously created within the same parent content model.
+   *
+   * <p>The recycled elements are held in a small, direct-mapped table keyed by the element class and the identity of
+   * the parent content.  Each element class is created from a single factory method, so the key combines the element
+   * type with its position in the document.</p>
+   *
+   * @param  <PC>     The parent content model the element is within
+   * @param  <E>      The type of element
+   * @param  type     The class of element the factory creates
+   * @param  factory  Creates the element when not recycled
+   */
+  <PC, E> E element(PC pc, Class<?> type, BiFunction<? super Document, ? super PC, ? extends E> factory) {
+    if (!recycleElements) {
+      return factory.apply(this, pc);
+    }
+    Object[] r = recycled;
+    if (r == null) {
+      r = new Object[RECYCLE_SIZE * 3];
+      recycled = r;
+    }
+    int i = (((type.hashCode() * 31) + System.identityHashCode(pc)) & (RECYCLE_SIZE - 1)) * 3;
+    if (r[i] == type && r[i + 1] == pc) {
+      @SuppressWarnings("unchecked")
+      E e = (E) r[i + 2];
+      assert type.isInstance(e);
+      return e;
+    }
+    E e = factory.apply(this, pc);
+    assert type.isInstance(e);
+    r[i] = type;
+    r[i + 1] = pc;
+    r[i + 2] = e;
+    return e;
+  }
+  // </editor-fold>
 }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class EM<
     PC extends Union_Palpable_Phrasing<PC>
     > extends AnyEM<Document, PC, EM<PC>, EM__<PC>, EM_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private EM__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private EM_c<PC> recycledContentC;
+
   EM(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class EM<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenInline(TagTable.Tag.EM);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseInline(TagTable.Tag.EM, closeAttributes);
   }
 
   @Override
   protected EM__<PC> new__() {
-    return new EM__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new EM__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected EM_c<PC> new_c() {
-    return new EM_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new EM_c<>(this);
+    }
+    return recycledContentC;
   }
 }
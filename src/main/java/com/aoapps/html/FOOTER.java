@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -44,6 +44,16 @@ public final class FOOTER<
     PC extends PalpableContent<PC>
     > extends AnyFOOTER<Document, PC, FOOTER<PC>, FOOTER__<PC>, FOOTER_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private FOOTER__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private FOOTER_c<PC> recycledContentC;
+
   FOOTER(Document document, PC pc) {
     super(document, pc);
   }
@@ -51,16 +61,27 @@ public final class FOOTER<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.FOOTER);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseBlock(TagTable.Tag.FOOTER, closeAttributes);
   }
 
   @Override
   protected FOOTER__<PC> new__() {
-    return new FOOTER__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new FOOTER__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected FOOTER_c<PC> new_c() {
-    return new FOOTER_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new FOOTER_c<>(this);
+    }
+    return recycledContentC;
   }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,21 @@ public final class FORM<
     PC extends PalpableContent<PC>
     > extends AnyFORM<Document, PC, FORM<PC>, FORM__<PC>, FORM_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private FORM__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private FORM_c<PC> recycledContentC;
+
+  /**
+   * The Flight Recorder event spanning this element, or {@code null} when not recording.
+   */
+  private Object event;
+
   FORM(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +64,30 @@ public final class FORM<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    event = RenderEvents.beginElement("form");
+    document.writeOpenBlock(TagTable.Tag.FORM);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseBlock(TagTable.Tag.FORM, closeAttributes);
+    RenderEvents.end(event);
+    event = null;
   }
 
   @Override
   protected FORM__<PC> new__() {
-    return new FORM__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new FORM__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected FORM_c<PC> new_c() {
-    return new FORM_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new FORM_c<>(this);
+    }
+    return recycledContentC;
   }
 }
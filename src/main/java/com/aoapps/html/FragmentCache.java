@@ -0,0 +1,292 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.Serialization;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A bounded cache of rendered fragments, such as navigation, footers, or head metadata, that are identical across
+ * many documents.  Fragments are rendered once then replayed on each hit.
+ *
+ * <p>Fragments are keyed by the caller-provided key along with everything that affects the markup: the
+ * {@link Serialization}, {@link Doctype}, character encoding, indentation, depth, and whether at the start of a
+ * line.  The least recently used
+ * fragment is evicted when either the maximum number of fragments or the maximum total characters is exceeded.</p>
+ *
+ * <p>This is thread-safe and may be shared by all documents.</p>
+ *
+ * @see  Content#cached(com.aoapps.html.FragmentCache, java.lang.Object, com.aoapps.lang.io.function.IOConsumerE)
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class FragmentCache {
+
+  /**
+   * The identity of a fragment.
+   */
+  static final class Key {
+
+    private final Object key;
+    private final Serialization serialization;
+    private final Doctype doctype;
+    private final Charset characterEncoding;
+    private final boolean indent;
+    private final int depth;
+    private final boolean atnl;
+    private final int hash;
+
+    Key(Object key, EncodingContext encodingContext, boolean indent, int depth, boolean atnl) {
+      this.key = Objects.requireNonNull(key);
+      this.serialization = encodingContext.getSerialization();
+      this.doctype = encodingContext.getDoctype();
+      this.characterEncoding = encodingContext.getCharacterEncoding();
+      this.indent = indent;
+      this.depth = depth;
+      this.atnl = atnl;
+      int h = key.hashCode();
+      h = h * 31 + serialization.hashCode();
+      h = h * 31 + doctype.hashCode();
+      h = h * 31 + characterEncoding.hashCode();
+      h = h * 31 + (indent ? 1 : 0);
+      h = h * 31 + depth;
+      h = h * 31 + (atnl ? 1 : 0);
+      this.hash = h;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return
+          hash == other.hash
+              && indent == other.indent
+              && depth == other.depth
+              && atnl == other.atnl
+              && serialization == other.serialization
+              && doctype == other.doctype
+              && characterEncoding.equals(other.characterEncoding)
+              && key.equals(other.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  /**
+   * A rendered fragment.
+   */
+  static final class Fragment {
+
+    private final char[] chars;
+    private final Charset characterEncoding;
+
+    /**
+     * The fragment encoded in {@link #characterEncoding}, created on first replay to a {@link ByteSinkWriter}.
+     */
+    private volatile byte[] bytes;
+
+    private Fragment(char[] chars, Charset characterEncoding) {
+      this.chars = chars;
+      this.characterEncoding = characterEncoding;
+    }
+
+    /**
+     * Does this fragment end in a newline?
+     *
+     * @return  {@code null} when empty, since the newline state is unchanged
+     */
+    Boolean getEndsNewline() {
+      int len = chars.length;
+      return (len == 0) ? null : (chars[len - 1] == '\n');
+    }
+
+    /**
+     * Gets the number of characters in this fragment.
+     */
+    int getLength() {
+      return chars.length;
+    }
+
+    /**
+     * Writes this fragment, copying the pre-encoded bytes directly when writing to a {@link ByteSinkWriter} in the
+     * same, ASCII-compatible, character encoding.
+     */
+    void writeTo(Writer out) throws IOException {
+      if (out instanceof ByteSinkWriter || out instanceof MinifyingWriter || out instanceof MetricsWriter) {
+        byte[] b = bytes;
+        if (b == null) {
+          b = new String(chars).getBytes(characterEncoding);
+          bytes = b;
+        }
+        ByteSinkWriter.write(out, chars, 0, chars.length, b, 0, b.length, characterEncoding);
+      } else {
+        out.write(chars, 0, chars.length);
+      }
+    }
+  }
+
+  private final int maxFragments;
+  private final long maxChars;
+
+  private final LinkedHashMap<Key, Fragment> fragments = new LinkedHashMap<>(16, 0.75f, true);
+
+  private long totalChars;
+  private long hits;
+  private long misses;
+  private long evictions;
+
+  /**
+   * @param  maxFragments  The maximum number of fragments retained
+   * @param  maxChars      The maximum total characters in all retained fragments.  A fragment larger than this is
+   *                       rendered each time.
+   */
+  public FragmentCache(int maxFragments, long maxChars) {
+    if (maxFragments < 1) {
+      throw new IllegalArgumentException("maxFragments < 1: " + maxFragments);
+    }
+    if (maxChars < 1) {
+      throw new IllegalArgumentException("maxChars < 1: " + maxChars);
+    }
+    this.maxFragments = maxFragments;
+    this.maxChars = maxChars;
+  }
+
+  /**
+   * Creates a cache limited only by the number of fragments.
+   *
+   * @param  maxFragments  The maximum number of fragments retained
+   */
+  public FragmentCache(int maxFragments) {
+    this(maxFragments, Long.MAX_VALUE);
+  }
+
+  public int getMaxFragments() {
+    return maxFragments;
+  }
+
+  public long getMaxChars() {
+    return maxChars;
+  }
+
+  /**
+   * Gets the number of fragments currently retained.
+   */
+  public synchronized int size() {
+    return fragments.size();
+  }
+
+  /**
+   * Gets the total characters in all fragments currently retained.
+   */
+  public synchronized long getTotalChars() {
+    return totalChars;
+  }
+
+  /**
+   * Gets the number of times a fragment was replayed from this cache.
+   */
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  /**
+   * Gets the number of times a fragment was not found and had to be rendered.
+   */
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Gets the number of fragments removed to stay within the limits.
+   */
+  public synchronized long getEvictions() {
+    return evictions;
+  }
+
+  /**
+   * Removes all fragments.  The counters are not reset.
+   */
+  public synchronized void clear() {
+    fragments.clear();
+    totalChars = 0;
+  }
+
+  /**
+   * Gets a fragment, counting the hit or miss.
+   *
+   * @return  The fragment or {@code null} when it must be rendered
+   */
+  synchronized Fragment get(Key key) {
+    Fragment fragment = fragments.get(key);
+    if (fragment != null) {
+      hits++;
+    } else {
+      misses++;
+    }
+    return fragment;
+  }
+
+  /**
+   * Adds a newly rendered fragment, evicting the least recently used as needed.
+   *
+   * @return  The fragment to replay, which is also retained when within the limits
+   */
+  Fragment put(Key key, char[] chars) {
+    Fragment fragment = new Fragment(chars, key.characterEncoding);
+    if (chars.length <= maxChars) {
+      synchronized (this) {
+        Fragment old = fragments.put(key, fragment);
+        if (old != null) {
+          // Rendered concurrently by another thread
+          totalChars -= old.chars.length;
+        }
+        totalChars += chars.length;
+        Iterator<Map.Entry<Key, Fragment>> iter = fragments.entrySet().iterator();
+        while (fragments.size() > maxFragments || totalChars > maxChars) {
+          Fragment eldest = iter.next().getValue();
+          iter.remove();
+          totalChars -= eldest.chars.length;
+          evictions++;
+        }
+      }
+    }
+    return fragment;
+  }
+}
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class H1<
     PC extends HeadingContent<PC>
     > extends AnyH1<Document, PC, H1<PC>, H1__<PC>, H1_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private H1__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private H1_c<PC> recycledContentC;
+
   H1(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class H1<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.H1);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseLine(TagTable.Tag.H1, closeAttributes);
   }
 
   @Override
   protected H1__<PC> new__() {
-    return new H1__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new H1__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected H1_c<PC> new_c() {
-    return new H1_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new H1_c<>(this);
+    }
+    return recycledContentC;
   }
 }
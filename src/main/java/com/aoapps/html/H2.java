@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class H2<
     PC extends HeadingContent<PC>
     > extends AnyH2<Document, PC, H2<PC>, H2__<PC>, H2_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private H2__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private H2_c<PC> recycledContentC;
+
   H2(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class H2<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.H2);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseLine(TagTable.Tag.H2, closeAttributes);
   }
 
   @Override
   protected H2__<PC> new__() {
-    return new H2__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new H2__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected H2_c<PC> new_c() {
-    return new H2_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new H2_c<>(this);
+    }
+    return recycledContentC;
   }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class H3<
     PC extends HeadingContent<PC>
     > extends AnyH3<Document, PC, H3<PC>, H3__<PC>, H3_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private H3__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private H3_c<PC> recycledContentC;
+
   H3(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class H3<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.H3);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseLine(TagTable.Tag.H3, closeAttributes);
   }
 
   @Override
   protected H3__<PC> new__() {
-    return new H3__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new H3__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected H3_c<PC> new_c() {
-    return new H3_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new H3_c<>(this);
+    }
+    return recycledContentC;
   }
 }
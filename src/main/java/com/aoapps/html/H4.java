@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class H4<
     PC extends HeadingContent<PC>
     > extends AnyH4<Document, PC, H4<PC>, H4__<PC>, H4_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private H4__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private H4_c<PC> recycledContentC;
+
   H4(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class H4<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.H4);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseLine(TagTable.Tag.H4, closeAttributes);
   }
 
   @Override
   protected H4__<PC> new__() {
-    return new H4__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new H4__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected H4_c<PC> new_c() {
-    return new H4_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new H4_c<>(this);
+    }
+    return recycledContentC;
   }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -44,6 +44,16 @@ public final class HEADER<
     PC extends PalpableContent<PC>
     > extends AnyHEADER<Document, PC, HEADER<PC>, HEADER__<PC>, HEADER_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private HEADER__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private HEADER_c<PC> recycledContentC;
+
   HEADER(Document document, PC pc) {
     super(document, pc);
   }
@@ -51,16 +61,27 @@ public final class HEADER<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.HEADER);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseBlock(TagTable.Tag.HEADER, closeAttributes);
   }
 
   @Override
   protected HEADER__<PC> new__() {
-    return new HEADER__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new HEADER__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected HEADER_c<PC> new_c() {
-    return new HEADER_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new HEADER_c<>(this);
+    }
+    return recycledContentC;
   }
 }
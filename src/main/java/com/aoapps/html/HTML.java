@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,11 @@ public final class HTML<
     PC extends Content<PC>
     > extends AnyHTML<Document, PC, HTML<PC>, HTML__<PC>, HTML_c<PC>> {
 
+  /**
+   * The Flight Recorder event spanning this document, or {@code null} when not recording.
+   */
+  private Object event;
+
   HTML(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,9 +54,17 @@ public final class HTML<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
+    event = RenderEvents.beginDocument(document);
     super.writeOpen(unsafe);
   }
 
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    super.writeClose(unsafe, closeAttributes);
+    RenderEvents.end(event);
+    event = null;
+  }
+
   @Override
   protected HTML__<PC> new__() {
     return new HTML__<>(this);
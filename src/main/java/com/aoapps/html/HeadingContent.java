@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -62,7 +62,7 @@ public interface HeadingContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    H1<__> e = new H1<>(document, pc);
+    H1<__> e = document.element(pc, H1.class, H1::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -96,7 +96,7 @@ public interface HeadingContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    H2<__> e = new H2<>(document, pc);
+    H2<__> e = document.element(pc, H2.class, H2::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -130,7 +130,7 @@ public interface HeadingContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    H3<__> e = new H3<>(document, pc);
+    H3<__> e = document.element(pc, H3.class, H3::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -164,7 +164,7 @@ public interface HeadingContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    H4<__> e = new H4<>(document, pc);
+    H4<__> e = document.element(pc, H4.class, H4::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -198,7 +198,7 @@ public interface HeadingContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    H5<__> e = new H5<>(document, pc);
+    H5<__> e = document.element(pc, H5.class, H5::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -232,7 +232,7 @@ public interface HeadingContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    H6<__> e = new H6<>(document, pc);
+    H6<__> e = document.element(pc, H6.class, H6::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -0,0 +1,214 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Escapes text and attribute values for the paths in this package that write them directly.  Each source is scanned
+ * with a single table lookup per character, and each run of characters that need no escaping is written with one bulk
+ * write.  Since most text has nothing to escape, it is typically written in a single call.
+ *
+ * <p>Characters that are not allowed in XML, such as most control characters, cannot be escaped and result in
+ * {@link IllegalArgumentException}.  Lone surrogates, which cannot be encoded, are replaced with U+FFFD.  Valid
+ * surrogate pairs are written as-is.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class HtmlEscaper {
+
+  /** Make no instances. */
+  private HtmlEscaper() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Marks a character that is not allowed in the output.
+   */
+  private static final String INVALID = "";
+
+  /**
+   * The replacement for a lone surrogate.
+   */
+  private static final String REPLACEMENT_CHARACTER = "\uFFFD";
+
+  /**
+   * The replacements for text, indexed by ASCII character, {@code null} when the character is written as-is.
+   */
+  private static final String[] TEXT = new String[128];
+
+  /**
+   * The replacements for double-quoted attribute values, indexed by ASCII character, {@code null} when the character
+   * is written as-is.
+   */
+  private static final String[] ATTRIBUTE = new String[128];
+
+  static {
+    for (char c = 0; c < 0x20; c++) {
+      if (c != '\t' && c != '\n' && c != '\r') {
+        TEXT[c] = INVALID;
+        ATTRIBUTE[c] = INVALID;
+      }
+    }
+    TEXT['<'] = "&lt;";
+    TEXT['>'] = "&gt;";
+    TEXT['&'] = "&amp;";
+    ATTRIBUTE['<'] = "&lt;";
+    ATTRIBUTE['>'] = "&gt;";
+    ATTRIBUTE['&'] = "&amp;";
+    ATTRIBUTE['"'] = "&quot;";
+    ATTRIBUTE['\''] = "&#39;";
+    // Preserved through attribute value normalization
+    ATTRIBUTE['\t'] = "&#x9;";
+    ATTRIBUTE['\n'] = "&#xA;";
+    ATTRIBUTE['\r'] = "&#xD;";
+  }
+
+  /**
+   * Gets the replacement for the given character.
+   *
+   * @return  The replacement or {@code null} when written as-is
+   *
+   * @throws  IllegalArgumentException  when the character is not allowed
+   */
+  private static String replacement(String[] table, char c) {
+    String replacement;
+    if (c < 128) {
+      replacement = table[c];
+    } else if (Character.isSurrogate(c)) {
+      replacement = REPLACEMENT_CHARACTER;
+    } else {
+      replacement = (c >= 0xFFFE) ? INVALID : null;
+    }
+    if (replacement == INVALID) {
+      throw new IllegalArgumentException("Invalid character: 0x" + Integer.toHexString(c));
+    }
+    return replacement;
+  }
+
+  /**
+   * Is the given character written as-is?  This is the fast check used in the scan loops.  Surrogates are not clean
+   * and are checked for a valid pair separately.
+   */
+  private static boolean isClean(String[] table, char c) {
+    return c < 128 ? (table[c] == null) : (c < Character.MIN_SURROGATE || (c > Character.MAX_SURROGATE && c < 0xFFFE));
+  }
+
+  private static void escape(String[] table, char[] cbuf, int off, int len, Writer out) throws IOException {
+    int end = off + len;
+    int runStart = off;
+    for (int i = off; i < end; i++) {
+      char c = cbuf[i];
+      if (!isClean(table, c)) {
+        if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(cbuf[i + 1])) {
+          // Valid pair, part of the run
+          i++;
+          continue;
+        }
+        if (i > runStart) {
+          out.write(cbuf, runStart, i - runStart);
+        }
+        out.write(replacement(table, c));
+        runStart = i + 1;
+      }
+    }
+    if (end > runStart) {
+      out.write(cbuf, runStart, end - runStart);
+    }
+  }
+
+  private static void escape(String[] table, CharSequence csq, int start, int end, Writer out) throws IOException {
+    if (csq instanceof String) {
+      String str = (String) csq;
+      int runStart = start;
+      for (int i = start; i < end; i++) {
+        char c = str.charAt(i);
+        if (!isClean(table, c)) {
+          if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(str.charAt(i + 1))) {
+            // Valid pair, part of the run
+            i++;
+            continue;
+          }
+          if (i > runStart) {
+            out.write(str, runStart, i - runStart);
+          }
+          out.write(replacement(table, c));
+          runStart = i + 1;
+        }
+      }
+      if (end > runStart) {
+        out.write(str, runStart, end - runStart);
+      }
+    } else {
+      int runStart = start;
+      for (int i = start; i < end; i++) {
+        char c = csq.charAt(i);
+        if (!isClean(table, c)) {
+          if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(csq.charAt(i + 1))) {
+            // Valid pair, part of the run
+            i++;
+            continue;
+          }
+          if (i > runStart) {
+            out.append(csq, runStart, i);
+          }
+          out.write(replacement(table, c));
+          runStart = i + 1;
+        }
+      }
+      if (end > runStart) {
+        out.append(csq, runStart, end);
+      }
+    }
+  }
+
+  /**
+   * Writes the given characters as text.
+   */
+  static void text(char[] cbuf, int off, int len, Writer out) throws IOException {
+    escape(TEXT, cbuf, off, len, out);
+  }
+
+  /**
+   * Writes the given characters as text.
+   */
+  static void text(CharSequence csq, int start, int end, Writer out) throws IOException {
+    escape(TEXT, csq, start, end, out);
+  }
+
+  /**
+   * Writes the given characters as a double-quoted attribute value, without the quotes.
+   */
+  static void attribute(char[] cbuf, int off, int len, Writer out) throws IOException {
+    escape(ATTRIBUTE, cbuf, off, len, out);
+  }
+
+  /**
+   * Writes the given characters as a double-quoted attribute value, without the quotes.
+   */
+  static void attribute(CharSequence csq, int start, int end, Writer out) throws IOException {
+    escape(ATTRIBUTE, csq, start, end, out);
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import com.aoapps.encoding.TextInXhtmlAttributeEncoder;
+import com.aoapps.encoding.TextInXhtmlEncoder;
+import com.aoapps.lang.io.Encoder;
+import com.aoapps.lang.io.Writable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An immutable value that is validated and escaped once, then written any number of times with a bulk copy.  Use for
+ * values that are written repeatedly, such as CSS class lists, ids, links, and labels:
+ *
+ * <pre>private static final HtmlToken CARD = HtmlToken.of("card shadow-sm p-3");
+ * private static final HtmlToken LABEL = HtmlToken.of("Totals & Averages");
+ * ...
+ * flow.div().clazz(CARD).__(div -&gt; div.text(LABEL));</pre>
+ *
+ * <p>Accepted anywhere a value is written through an {@link Encoder}, such as by attribute methods and
+ * {@link TextContent#text(java.lang.Object)}.  When written as an attribute value or text, the pre-escaped form is
+ * written directly.  When writing UTF-8 to an {@link java.io.OutputStream} or
+ * {@link java.nio.channels.WritableByteChannel}, the pre-encoded bytes are copied.  Any other encoder is given the
+ * raw value.</p>
+ *
+ * <p>Text and attribute escaping are the same for both {@link com.aoapps.encoding.Serialization serializations}, so
+ * one escaped form of each serves all documents.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class HtmlToken implements Writable {
+
+  /**
+   * Creates a new token.
+   *
+   * @throws  IllegalArgumentException  when the value contains characters not allowed in HTML or XML
+   */
+  public static HtmlToken of(String value) {
+    return new HtmlToken(value);
+  }
+
+  /**
+   * A pre-escaped form, along with its UTF-8 encoding.
+   */
+  private static final class Escaped {
+    private final char[] chars;
+    private final byte[] utf8;
+
+    private Escaped(String escaped) {
+      this.chars = escaped.toCharArray();
+      this.utf8 = escaped.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void writeTo(Writer out) throws IOException {
+      ByteSinkWriter.write(out, chars, 0, chars.length, utf8, 0, utf8.length, StandardCharsets.UTF_8);
+    }
+  }
+
+  private final String value;
+  private final Escaped text;
+  private final Escaped attribute;
+
+  /**
+   * The token without leading or trailing whitespace, created once so attributes that trim their values allocate
+   * nothing per write.
+   */
+  private final HtmlToken trimmed;
+
+  private HtmlToken(String value) {
+    this(value, value.trim());
+  }
+
+  private HtmlToken(String value, String trimmed) {
+    this.value = value;
+    int len = value.length();
+    try {
+      BufferWriter buffer = new BufferWriter(len + 16);
+      HtmlEscaper.text(value, 0, len, buffer);
+      text = new Escaped(buffer.toString());
+      HtmlEscaper.attribute(value, 0, len, buffer.reset());
+      attribute = new Escaped(buffer.toString());
+    } catch (IOException e) {
+      throw new AssertionError("BufferWriter does not throw IOException", e);
+    }
+    this.trimmed = (trimmed.length() == len) ? this : new HtmlToken(trimmed, trimmed);
+  }
+
+  /**
+   * Gets the raw, unescaped value.
+   */
+  @Override
+  public String toString() {
+    return value;
+  }
+
+  @Override
+  public long getLength() {
+    return value.length();
+  }
+
+  /**
+   * Always {@code false} so the pre-escaped form is used through {@link #writeTo(com.aoapps.lang.io.Encoder, java.io.Writer)}.
+   */
+  @Override
+  public boolean isFastToString() {
+    return false;
+  }
+
+  @Override
+  public void writeTo(Writer out) throws IOException {
+    out.write(value);
+  }
+
+  @Override
+  public void writeTo(Writer out, long off, long len) throws IOException {
+    out.write(value, Math.toIntExact(off), Math.toIntExact(len));
+  }
+
+  @Override
+  public void writeTo(Encoder encoder, Writer out) throws IOException {
+    if (encoder == null) {
+      out.write(value);
+    } else if (encoder == TextInXhtmlAttributeEncoder.textInXhtmlAttributeEncoder) {
+      attribute.writeTo(out);
+    } else if (encoder == TextInXhtmlEncoder.textInXhtmlEncoder) {
+      text.writeTo(out);
+    } else {
+      encoder.write(value, out);
+    }
+  }
+
+  @Override
+  public void writeTo(Encoder encoder, Writer out, long off, long len) throws IOException {
+    if (off == 0 && len == value.length()) {
+      writeTo(encoder, out);
+    } else if (encoder == null) {
+      writeTo(out, off, len);
+    } else {
+      encoder.write(value, Math.toIntExact(off), Math.toIntExact(len), out);
+    }
+  }
+
+  /**
+   * Gets a token without leading or trailing whitespace.
+   *
+   * @return  {@code this} when already trimmed, otherwise the same trimmed token on every call
+   */
+  @Override
+  public HtmlToken trim() {
+    return trimmed;
+  }
+}
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class I<
     PC extends Union_Palpable_Phrasing<PC>
     > extends AnyI<Document, PC, I<PC>, I__<PC>, I_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private I__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private I_c<PC> recycledContentC;
+
   I(Document document, PC pc) {
     super(document, pc);
   }
@@ -50,16 +60,27 @@ public final class I<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenInline(TagTable.Tag.I);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseInline(TagTable.Tag.I, closeAttributes);
   }
 
   @Override
   protected I__<PC> new__() {
-    return new I__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new I__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected I_c<PC> new_c() {
-    return new I_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new I_c<>(this);
+    }
+    return recycledContentC;
   }
 }
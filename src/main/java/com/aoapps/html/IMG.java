@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2020, 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -50,6 +50,28 @@ public final class IMG<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenInline(TagTable.Tag.IMG);
+  }
+
+  /**
+   * See <a href="https://www.w3schools.com/tags/att_width.asp">HTML width Attribute</a>.
+   *
+   * <p>Formatted directly to the output, with no intermediate string.</p>
+   */
+  @Override
+  public IMG<PC> width(int pixels) throws IOException {
+    document.writeAttribute("width", pixels);
+    return this;
+  }
+
+  /**
+   * See <a href="https://www.w3schools.com/tags/att_height.asp">HTML height Attribute</a>.
+   *
+   * <p>Formatted directly to the output, with no intermediate string.</p>
+   */
+  @Override
+  public IMG<PC> height(int pixels) throws IOException {
+    document.writeAttribute("height", pixels);
+    return this;
   }
 }
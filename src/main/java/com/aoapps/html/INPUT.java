@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2019, 2020, 2021, 2022, 2024, 2025  AO Industries, Inc.
+ * Copyright (C) 2019, 2020, 2021, 2022, 2024, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -314,6 +314,38 @@ public final class INPUT {
     protected void writeOpen(Writer unsafe) throws IOException {
       super.writeOpen(unsafe);
     }
+
+    /**
+     * See <a href="https://www.w3schools.com/tags/att_input_value.asp">HTML input value Attribute</a>.
+     *
+     * <p>Formatted directly to the output, with no boxing or intermediate string.</p>
+     */
+    public Number<PC> value(long value) throws IOException {
+      document.writeAttribute("value", value);
+      return this;
+    }
+
+    /**
+     * See <a href="https://www.w3schools.com/tags/att_input_value.asp">HTML input value Attribute</a>.
+     *
+     * <p>Formatted directly to the output, with no boxing or intermediate string when in plain notation.  The output
+     * is the same as {@link Float#toString(float)}.</p>
+     */
+    public Number<PC> value(float value) throws IOException {
+      document.writeAttribute("value", value);
+      return this;
+    }
+
+    /**
+     * See <a href="https://www.w3schools.com/tags/att_input_value.asp">HTML input value Attribute</a>.
+     *
+     * <p>Formatted directly to the output, with no boxing or intermediate string when in plain notation.  The output
+     * is the same as {@link Double#toString(double)}.</p>
+     */
+    public Number<PC> value(double value) throws IOException {
+      document.writeAttribute("value", value);
+      return this;
+    }
   }
 
   /**
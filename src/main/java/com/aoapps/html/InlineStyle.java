@@ -0,0 +1,374 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import com.aoapps.encoding.TextInXhtmlAttributeEncoder;
+import com.aoapps.encoding.TextInXhtmlEncoder;
+import com.aoapps.lang.io.Encoder;
+import com.aoapps.lang.io.Writable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Builds the CSS declarations of a <code>style</code> attribute, without creating any intermediate strings.  The
+ * declarations are written directly, as <code>name:value</code> separated by semicolons, when passed to the
+ * <code>style(Object)</code> attribute method of any element:
+ *
+ * <pre>td.style(document.inlineStyle()
+ *   .property("background-color", color)
+ *   .property("width", percent, "%")
+ * ).__(...)</pre>
+ *
+ * <p>Numeric values are formatted directly, without boxing or {@link String#format(java.lang.String, java.lang.Object...)}.
+ * Decimal values are written in plain notation, rounded to four decimal places.  String values are escaped for the
+ * attribute, but are otherwise written as given and must be valid CSS.  Properties with {@code null} or empty string
+ * values are skipped.  When there are no properties, the attribute is not written.</p>
+ *
+ * <p>The style returned by {@link Document#inlineStyle()} is reused by the document, so is allocation-free after the
+ * first use.  It must be passed to <code>style(Object)</code> before calling {@link Document#inlineStyle()} again.</p>
+ *
+ * <p>This is not thread-safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class InlineStyle implements Writable {
+
+  private static final byte STRING = 0;
+  private static final byte LONG = 1;
+  private static final byte DOUBLE = 2;
+
+  private int size;
+  private String[] names = new String[4];
+  private byte[] types = new byte[4];
+  private String[] strings = new String[4];
+  private long[] longs = new long[4];
+  private double[] doubles = new double[4];
+  private String[] units = new String[4];
+
+  private final char[] numberBuffer = new char[NumberWriter.BUFFER_SIZE];
+
+  /**
+   * Used to find the string value, created on first use.
+   */
+  private BufferWriter buffer;
+
+  /**
+   * Removes all properties.
+   *
+   * @return  {@code this} style
+   */
+  public InlineStyle clear() {
+    Arrays.fill(names, 0, size, null);
+    Arrays.fill(strings, 0, size, null);
+    Arrays.fill(units, 0, size, null);
+    size = 0;
+    return this;
+  }
+
+  /**
+   * Gets the number of properties.
+   */
+  public int size() {
+    return size;
+  }
+
+  private static void checkName(String name) {
+    int len = name.length();
+    if (len == 0) {
+      throw new IllegalArgumentException("Empty property name");
+    }
+    for (int i = 0; i < len; i++) {
+      char c = name.charAt(i);
+      if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '_')) {
+        throw new IllegalArgumentException("Invalid property name: " + name);
+      }
+    }
+  }
+
+  private static void checkUnit(String unit) {
+    if (unit != null) {
+      for (int i = 0, len = unit.length(); i < len; i++) {
+        char c = unit.charAt(i);
+        if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '%')) {
+          throw new IllegalArgumentException("Invalid unit: " + unit);
+        }
+      }
+    }
+  }
+
+  private int add(String name, byte type, String unit) {
+    checkName(name);
+    checkUnit(unit);
+    if (size == names.length) {
+      int newLength = size * 2;
+      names = Arrays.copyOf(names, newLength);
+      types = Arrays.copyOf(types, newLength);
+      strings = Arrays.copyOf(strings, newLength);
+      longs = Arrays.copyOf(longs, newLength);
+      doubles = Arrays.copyOf(doubles, newLength);
+      units = Arrays.copyOf(units, newLength);
+    }
+    int i = size++;
+    names[i] = name;
+    types[i] = type;
+    units[i] = unit;
+    return i;
+  }
+
+  /**
+   * Adds a property.
+   *
+   * @param  name   The property name, such as <code>background-color</code> or <code>--accent</code>
+   * @param  value  Skipped when {@code null} or empty
+   *
+   * @return  {@code this} style
+   */
+  public InlineStyle property(String name, String value) {
+    if (value != null && !value.isEmpty()) {
+      strings[add(name, STRING, null)] = value;
+    }
+    return this;
+  }
+
+  /**
+   * Adds a property when the condition is {@code true}.
+   *
+   * @return  {@code this} style
+   */
+  public InlineStyle propertyIf(boolean condition, String name, String value) {
+    return condition ? property(name, value) : this;
+  }
+
+  /**
+   * Adds a numeric property with a unit.
+   *
+   * @param  unit  The unit, such as <code>px</code> or <code>%</code>, or {@code null} for none
+   *
+   * @return  {@code this} style
+   */
+  public InlineStyle property(String name, long value, String unit) {
+    longs[add(name, LONG, unit)] = value;
+    return this;
+  }
+
+  /**
+   * Adds a numeric property without a unit.
+   *
+   * @return  {@code this} style
+   */
+  public InlineStyle property(String name, long value) {
+    return property(name, value, null);
+  }
+
+  /**
+   * Adds a numeric property with a unit, written in plain notation rounded to four decimal places.
+   *
+   * @param  unit  The unit, such as <code>em</code> or <code>%</code>, or {@code null} for none
+   *
+   * @return  {@code this} style
+   *
+   * @throws  IllegalArgumentException  when the value is not finite
+   */
+  public InlineStyle property(String name, double value, String unit) {
+    if (!Double.isFinite(value)) {
+      throw new IllegalArgumentException("Not finite: " + value);
+    }
+    doubles[add(name, DOUBLE, unit)] = value;
+    return this;
+  }
+
+  /**
+   * Adds a numeric property without a unit, written in plain notation rounded to four decimal places.
+   *
+   * @return  {@code this} style
+   *
+   * @throws  IllegalArgumentException  when the value is not finite
+   */
+  public InlineStyle property(String name, double value) {
+    return property(name, value, null);
+  }
+
+  private BufferWriter getBuffer() throws IOException {
+    BufferWriter b = buffer;
+    if (b == null) {
+      b = new BufferWriter();
+      buffer = b;
+    } else {
+      b.reset();
+    }
+    writeTo(null, b);
+    return b;
+  }
+
+  /**
+   * Computes the length from the properties, without writing them.
+   */
+  @Override
+  public long getLength() {
+    long length = 0;
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        // ';'
+        length++;
+      }
+      // name + ':'
+      length += names[i].length() + 1;
+      switch (types[i]) {
+        case STRING:
+          length += strings[i].length();
+          break;
+        case LONG:
+          length += NumberWriter.length(longs[i], numberBuffer);
+          break;
+        case DOUBLE:
+          length += NumberWriter.decimalLength(doubles[i], numberBuffer);
+          break;
+        default:
+          throw new AssertionError();
+      }
+      String unit = units[i];
+      if (unit != null) {
+        length += unit.length();
+      }
+    }
+    return length;
+  }
+
+  /**
+   * Always {@code false} so the properties are written directly through
+   * {@link #writeTo(com.aoapps.lang.io.Encoder, java.io.Writer)}.
+   */
+  @Override
+  public boolean isFastToString() {
+    return false;
+  }
+
+  /**
+   * Gets the attribute value.  This creates a new string.
+   */
+  @Override
+  public String toString() {
+    try {
+      return getBuffer().toString();
+    } catch (IOException e) {
+      throw new AssertionError("BufferWriter does not throw IOException", e);
+    }
+  }
+
+  @Override
+  public void writeTo(Writer out) throws IOException {
+    writeTo(null, out);
+  }
+
+  @Override
+  public void writeTo(Writer out, long off, long len) throws IOException {
+    out.write(toString(), Math.toIntExact(off), Math.toIntExact(len));
+  }
+
+  @Override
+  public void writeTo(Encoder encoder, Writer out) throws IOException {
+    boolean attribute = encoder == TextInXhtmlAttributeEncoder.textInXhtmlAttributeEncoder;
+    if (encoder != null && !attribute && encoder != TextInXhtmlEncoder.textInXhtmlEncoder) {
+      encoder.write(toString(), out);
+      return;
+    }
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        out.write(';');
+      }
+      // Names are validated to need no escaping
+      out.write(names[i]);
+      out.write(':');
+      switch (types[i]) {
+        case STRING: {
+          String value = strings[i];
+          if (encoder == null) {
+            out.write(value);
+          } else if (attribute) {
+            HtmlEscaper.attribute(value, 0, value.length(), out);
+          } else {
+            HtmlEscaper.text(value, 0, value.length(), out);
+          }
+          break;
+        }
+        case LONG:
+          NumberWriter.write(longs[i], numberBuffer, out);
+          break;
+        case DOUBLE:
+          NumberWriter.writeDecimal(doubles[i], numberBuffer, out);
+          break;
+        default:
+          throw new AssertionError();
+      }
+      String unit = units[i];
+      if (unit != null) {
+        // Units are validated to need no escaping
+        out.write(unit);
+      }
+    }
+  }
+
+  @Override
+  public void writeTo(Encoder encoder, Writer out, long off, long len) throws IOException {
+    if (off == 0 && len == getLength()) {
+      writeTo(encoder, out);
+    } else if (encoder == null) {
+      writeTo(out, off, len);
+    } else {
+      encoder.write(toString(), Math.toIntExact(off), Math.toIntExact(len), out);
+    }
+  }
+
+  /**
+   * Declarations never have leading spaces, since they start with a validated property name.  They only have trailing
+   * spaces when the last property is a string value, without a unit, that ends in spaces.
+   *
+   * @return  {@code this} style when there is nothing to trim, or a new style with the last value trimmed
+   */
+  @Override
+  public InlineStyle trim() {
+    int last = size - 1;
+    if (last >= 0 && types[last] == STRING && units[last] == null) {
+      String value = strings[last];
+      int end = value.length();
+      while (end > 0 && value.charAt(end - 1) <= ' ') {
+        end--;
+      }
+      if (end < value.length()) {
+        InlineStyle trimmed = new InlineStyle();
+        trimmed.size = size;
+        trimmed.names = Arrays.copyOf(names, size);
+        trimmed.types = Arrays.copyOf(types, size);
+        trimmed.strings = Arrays.copyOf(strings, size);
+        trimmed.longs = Arrays.copyOf(longs, size);
+        trimmed.doubles = Arrays.copyOf(doubles, size);
+        trimmed.units = Arrays.copyOf(units, size);
+        trimmed.strings[last] = value.substring(0, end);
+        return trimmed;
+      }
+    }
+    return this;
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * The Flight Recorder events, only loaded through {@link RenderEvents} when the <code>jdk.jfr</code> module is
+ * available.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class JfrEvents {
+
+  /** Make no instances. */
+  private JfrEvents() {
+    throw new AssertionError();
+  }
+
+  private static final String CATEGORY = "AO Fluent HTML";
+
+  /**
+   * The rendering of an entire document, from <code>&lt;html&gt;</code> through <code>&lt;/html&gt;</code>.
+   */
+  @Name("com.aoapps.html.Document")
+  @Label("Document")
+  @Description("Rendering of an entire html element")
+  @Category(CATEGORY)
+  @Threshold("20 ms")
+  static final class DocumentEvent extends Event {
+
+    @Label("Serialization")
+    String serialization;
+
+    @Label("Doctype")
+    String doctype;
+
+    DocumentEvent(Document document) {
+      this.serialization = document.encodingContext.getSerialization().name();
+      this.doctype = document.encodingContext.getDoctype().name();
+    }
+  }
+
+  /**
+   * The rendering of a selected element and its body: <code>&lt;body&gt;</code>, <code>&lt;table&gt;</code>,
+   * <code>&lt;form&gt;</code>, or <code>&lt;section&gt;</code>.
+   */
+  @Name("com.aoapps.html.Element")
+  @Label("Element")
+  @Description("Rendering of an element and its body")
+  @Category(CATEGORY)
+  @Threshold("10 ms")
+  static final class ElementEvent extends Event {
+
+    @Label("Element")
+    String element;
+
+    ElementEvent(String element) {
+      this.element = element;
+    }
+  }
+
+  /**
+   * The writing of a cached fragment, including its rendering on a miss.
+   */
+  @Name("com.aoapps.html.Fragment")
+  @Label("Fragment")
+  @Description("Writing of a cached fragment, including its rendering on a miss")
+  @Category(CATEGORY)
+  @Threshold("1 ms")
+  static final class FragmentEvent extends Event {
+
+    @Label("Key")
+    String key;
+
+    @Label("Hit")
+    boolean hit;
+
+    @Label("Length")
+    @Description("The number of characters in the fragment")
+    int length;
+  }
+
+  /**
+   * A flush of the document output.
+   */
+  @Name("com.aoapps.html.Flush")
+  @Label("Flush")
+  @Description("Flush of the document output")
+  @Category(CATEGORY)
+  @Threshold("10 ms")
+  static final class FlushEvent extends Event {
+    // No fields
+  }
+
+  /**
+   * The writing of text by the paths in this module that write text directly.
+   */
+  @Name("com.aoapps.html.Text")
+  @Label("Text")
+  @Description("Writing of text")
+  @Category(CATEGORY)
+  @Threshold("1 ms")
+  static final class TextEvent extends Event {
+
+    @Label("Length")
+    @Description("The number of characters of text, or -1 when not known in advance")
+    long length;
+
+    TextEvent(long length) {
+      this.length = length;
+    }
+  }
+
+  private static final EventType documentType = EventType.getEventType(DocumentEvent.class);
+  private static final EventType elementType = EventType.getEventType(ElementEvent.class);
+  private static final EventType fragmentType = EventType.getEventType(FragmentEvent.class);
+  private static final EventType flushType = EventType.getEventType(FlushEvent.class);
+  private static final EventType textType = EventType.getEventType(TextEvent.class);
+
+  // Each begin method allocates the event only when a recording has enabled it
+
+  static Object beginDocument(Document document) {
+    if (!documentType.isEnabled()) {
+      return null;
+    }
+    DocumentEvent event = new DocumentEvent(document);
+    event.begin();
+    return event;
+  }
+
+  static Object beginElement(String element) {
+    if (!elementType.isEnabled()) {
+      return null;
+    }
+    ElementEvent event = new ElementEvent(element);
+    event.begin();
+    return event;
+  }
+
+  static Object beginFragment() {
+    if (!fragmentType.isEnabled()) {
+      return null;
+    }
+    FragmentEvent event = new FragmentEvent();
+    event.begin();
+    return event;
+  }
+
+  static Object beginFlush() {
+    if (!flushType.isEnabled()) {
+      return null;
+    }
+    FlushEvent event = new FlushEvent();
+    event.begin();
+    return event;
+  }
+
+  static Object beginText(long length) {
+    if (!textType.isEnabled()) {
+      return null;
+    }
+    TextEvent event = new TextEvent(length);
+    event.begin();
+    return event;
+  }
+
+  static void commit(Object event) {
+    ((Event) event).commit();
+  }
+
+  static void commitFragment(Object event, Object key, boolean hit, int length) {
+    FragmentEvent fragmentEvent = (FragmentEvent) event;
+    fragmentEvent.end();
+    if (fragmentEvent.shouldCommit()) {
+      fragmentEvent.key = String.valueOf(key);
+      fragmentEvent.hit = hit;
+      fragmentEvent.length = length;
+      fragmentEvent.commit();
+    }
+  }
+}
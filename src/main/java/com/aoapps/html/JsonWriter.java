@@ -0,0 +1,373 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Streams JSON directly into the body of a <code>&lt;script type="application/json"&gt;</code>, with no intermediate
+ * string.  Memory use is constant regardless of the size of the payload, other than one entry per level of nesting.
+ *
+ * <p>Within strings, <code>&lt;</code>, <code>&gt;</code>, and <code>&amp;</code> are written as unicode escapes.
+ * Since these characters never occur outside of strings, the body can never contain <code>&lt;/script</code> or
+ * <code>&lt;!--</code>, and needs no further encoding for either HTML or XHTML.  U+2028 and U+2029 are also escaped,
+ * so the JSON is valid JavaScript, too.</p>
+ *
+ * <p>Calls must form a single, complete JSON value, otherwise {@link IllegalStateException} is thrown:</p>
+ *
+ * <pre>html.body__(body -&gt; body
+ *   .json__(json -&gt; json
+ *     .beginObject()
+ *       .name("total").value(total)
+ *       .name("rows").beginArray()
+ *         .value(row1)
+ *         .value(row2)
+ *       .endArray()
+ *     .endObject()
+ *   )
+ * )</pre>
+ *
+ * <p>This is not thread-safe.</p>
+ *
+ * @see  ScriptSupportingContent#json__(com.aoapps.lang.io.function.IOConsumerE)
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class JsonWriter {
+
+  /**
+   * The escapes for strings, indexed by ASCII character, {@code null} when the character is written as-is.
+   */
+  private static final String[] ESCAPES = new String[128];
+
+  static {
+    for (char c = 0; c < 0x20; c++) {
+      ESCAPES[c] = String.format("\\u%04x", (int) c);
+    }
+    ESCAPES['\b'] = "\\b";
+    ESCAPES['\t'] = "\\t";
+    ESCAPES['\n'] = "\\n";
+    ESCAPES['\f'] = "\\f";
+    ESCAPES['\r'] = "\\r";
+    ESCAPES['"'] = "\\\"";
+    ESCAPES['\\'] = "\\\\";
+    // Keeps the script body free of "</script" and "<!--", and needs no XML escaping
+    ESCAPES['<'] = "\\u003c";
+    ESCAPES['>'] = "\\u003e";
+    ESCAPES['&'] = "\\u0026";
+  }
+
+  /**
+   * Gets the escape for a non-ASCII character, {@code null} when the character is written as-is.
+   */
+  private static String escape(char c) {
+    switch (c) {
+      // Line terminators in JavaScript
+      case '\u2028':
+        return "\\u2028";
+      case '\u2029':
+        return "\\u2029";
+      // Not allowed in XML
+      case '\ufffe':
+        return "\\ufffe";
+      case '\uffff':
+        return "\\uffff";
+      default:
+        return null;
+    }
+  }
+
+  private static final int ARRAY = 0;
+  private static final int ARRAY_NEXT = 1;
+  private static final int OBJECT = 2;
+  private static final int OBJECT_NEXT = 3;
+  private static final int OBJECT_VALUE = 4;
+  private static final int TOP = 5;
+  private static final int TOP_DONE = 6;
+
+  private final Writer out;
+
+  private final char[] numberBuffer = new char[NumberWriter.BUFFER_SIZE];
+
+  /**
+   * The state of each level of nesting, with the current level at {@link #depth}.
+   */
+  private int[] stack = new int[8];
+  private int depth;
+
+  JsonWriter(Writer out) {
+    this.out = out;
+    stack[0] = TOP;
+  }
+
+  /**
+   * Writes any separator before a value and updates the state.
+   */
+  private void beforeValue() throws IOException {
+    switch (stack[depth]) {
+      case ARRAY:
+        stack[depth] = ARRAY_NEXT;
+        break;
+      case ARRAY_NEXT:
+        out.write(',');
+        break;
+      case OBJECT_VALUE:
+        stack[depth] = OBJECT_NEXT;
+        break;
+      case TOP:
+        stack[depth] = TOP_DONE;
+        break;
+      case OBJECT:
+      case OBJECT_NEXT:
+        throw new IllegalStateException("Expecting name in object");
+      case TOP_DONE:
+        throw new IllegalStateException("JSON value already complete");
+      default:
+        throw new AssertionError();
+    }
+  }
+
+  private void push(int state) {
+    if (++depth == stack.length) {
+      stack = Arrays.copyOf(stack, depth * 2);
+    }
+    stack[depth] = state;
+  }
+
+  /**
+   * Begins an array.
+   *
+   * @return  {@code this} writer
+   */
+  public JsonWriter beginArray() throws IOException {
+    beforeValue();
+    out.write('[');
+    push(ARRAY);
+    return this;
+  }
+
+  /**
+   * Ends the current array.
+   *
+   * @return  {@code this} writer
+   */
+  public JsonWriter endArray() throws IOException {
+    int state = stack[depth];
+    if (state != ARRAY && state != ARRAY_NEXT) {
+      throw new IllegalStateException("Not in array");
+    }
+    depth--;
+    out.write(']');
+    return this;
+  }
+
+  /**
+   * Begins an object.
+   *
+   * @return  {@code this} writer
+   */
+  public JsonWriter beginObject() throws IOException {
+    beforeValue();
+    out.write('{');
+    push(OBJECT);
+    return this;
+  }
+
+  /**
+   * Ends the current object.
+   *
+   * @return  {@code this} writer
+   */
+  public JsonWriter endObject() throws IOException {
+    int state = stack[depth];
+    if (state != OBJECT && state != OBJECT_NEXT) {
+      throw new IllegalStateException(state == OBJECT_VALUE ? "Expecting value in object" : "Not in object");
+    }
+    depth--;
+    out.write('}');
+    return this;
+  }
+
+  /**
+   * Writes the name of the next property in the current object.
+   *
+   * @return  {@code this} writer
+   */
+  public JsonWriter name(CharSequence name) throws IOException {
+    if (name == null) {
+      throw new IllegalArgumentException("name is null");
+    }
+    switch (stack[depth]) {
+      case OBJECT:
+        break;
+      case OBJECT_NEXT:
+        out.write(',');
+        break;
+      case OBJECT_VALUE:
+        throw new IllegalStateException("Expecting value in object");
+      default:
+        throw new IllegalStateException("Not in object");
+    }
+    stack[depth] = OBJECT_VALUE;
+    writeString(name);
+    out.write(':');
+    return this;
+  }
+
+  /**
+   * Writes a string value.
+   *
+   * @param  value  Written as <code>null</code> when {@code null}
+   *
+   * @return  {@code this} writer
+   */
+  public JsonWriter value(CharSequence value) throws IOException {
+    if (value == null) {
+      return nullValue();
+    }
+    beforeValue();
+    writeString(value);
+    return this;
+  }
+
+  /**
+   * Writes a numeric value, formatted with no boxing or intermediate string.
+   *
+   * @return  {@code this} writer
+   */
+  public JsonWriter value(long value) throws IOException {
+    beforeValue();
+    NumberWriter.write(value, numberBuffer, out);
+    return this;
+  }
+
+  /**
+   * Writes a numeric value, formatted with no boxing or intermediate string when in plain notation.
+   *
+   * @return  {@code this} writer
+   *
+   * @throws  IllegalArgumentException  when the value is not finite, which JSON cannot represent
+   */
+  public JsonWriter value(double value) throws IOException {
+    if (!Double.isFinite(value)) {
+      throw new IllegalArgumentException("Not finite: " + value);
+    }
+    beforeValue();
+    NumberWriter.write(value, numberBuffer, out);
+    return this;
+  }
+
+  /**
+   * Writes a numeric value, formatted with no boxing or intermediate string when in plain notation.
+   *
+   * @return  {@code this} writer
+   *
+   * @throws  IllegalArgumentException  when the value is not finite, which JSON cannot represent
+   */
+  public JsonWriter value(float value) throws IOException {
+    if (!Float.isFinite(value)) {
+      throw new IllegalArgumentException("Not finite: " + value);
+    }
+    beforeValue();
+    NumberWriter.write(value, numberBuffer, out);
+    return this;
+  }
+
+  /**
+   * Writes a boolean value.
+   *
+   * @return  {@code this} writer
+   */
+  public JsonWriter value(boolean value) throws IOException {
+    beforeValue();
+    out.write(value ? "true" : "false");
+    return this;
+  }
+
+  /**
+   * Writes a <code>null</code> value.
+   *
+   * @return  {@code this} writer
+   */
+  public JsonWriter nullValue() throws IOException {
+    beforeValue();
+    out.write("null");
+    return this;
+  }
+
+  /**
+   * Writes a quoted string, escaping each run of characters with one bulk write.
+   */
+  private void writeString(CharSequence csq) throws IOException {
+    out.write('"');
+    int end = csq.length();
+    int runStart = 0;
+    if (csq instanceof String) {
+      String str = (String) csq;
+      for (int i = 0; i < end; i++) {
+        char c = str.charAt(i);
+        String escape = (c < 128) ? ESCAPES[c] : (c >= '\u2028' ? escape(c) : null);
+        if (escape != null) {
+          if (i > runStart) {
+            out.write(str, runStart, i - runStart);
+          }
+          out.write(escape);
+          runStart = i + 1;
+        }
+      }
+      if (end > runStart) {
+        out.write(str, runStart, end - runStart);
+      }
+    } else {
+      for (int i = 0; i < end; i++) {
+        char c = csq.charAt(i);
+        String escape = (c < 128) ? ESCAPES[c] : (c >= '\u2028' ? escape(c) : null);
+        if (escape != null) {
+          if (i > runStart) {
+            out.append(csq, runStart, i);
+          }
+          out.write(escape);
+          runStart = i + 1;
+        }
+      }
+      if (end > runStart) {
+        out.append(csq, runStart, end);
+      }
+    }
+    out.write('"');
+  }
+
+  /**
+   * Checks that a single, complete JSON value has been written.
+   *
+   * @throws  IllegalStateException  when incomplete
+   */
+  void checkComplete() {
+    if (depth != 0 || stack[0] != TOP_DONE) {
+      throw new IllegalStateException("Incomplete JSON value");
+    }
+  }
+}
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class LABEL<
     PC extends Union_Interactive_Phrasing<PC>
     > extends AnyLABEL<Document, PC, LABEL<PC>, LABEL__<PC>, LABEL_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private LABEL__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private LABEL_c<PC> recycledContentC;
+
   LABEL(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class LABEL<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenInline(TagTable.Tag.LABEL);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseInline(TagTable.Tag.LABEL, closeAttributes);
   }
 
   @Override
   protected LABEL__<PC> new__() {
-    return new LABEL__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new LABEL__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected LABEL_c<PC> new_c() {
-    return new LABEL_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new LABEL_c<>(this);
+    }
+    return recycledContentC;
   }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class LI<
     PC extends ListContent<PC>
     > extends AnyLI<Document, PC, LI<PC>, LI__<PC>, LI_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private LI__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private LI_c<PC> recycledContentC;
+
   LI(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class LI<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.LI);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseLine(TagTable.Tag.LI, closeAttributes);
   }
 
   @Override
   protected LI__<PC> new__() {
-    return new LI__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new LI__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected LI_c<PC> new_c() {
-    return new LI_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new LI_c<>(this);
+    }
+    return recycledContentC;
   }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -51,7 +51,108 @@ public final class METER<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenInline(TagTable.Tag.METER);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseInline(TagTable.Tag.METER, closeAttributes);
+  }
+
+  /**
+   * See <a href="https://developer.mozilla.org/en-US/docs/Web/HTML/Element/meter#attr-value">&lt;meter&gt;: value attribute</a>.
+   *
+   * <p>Formatted directly to the output, with no boxing or intermediate string.</p>
+   */
+  public METER<PC> value(long value) throws IOException {
+    document.writeAttribute("value", value);
+    return this;
+  }
+
+  /**
+   * See <a href="https://developer.mozilla.org/en-US/docs/Web/HTML/Element/meter#attr-value">&lt;meter&gt;: value attribute</a>.
+   *
+   * <p>Formatted directly to the output, with no boxing or intermediate string when in plain notation.  The
+   * output is the same as {@link Float#toString(float)}.</p>
+   */
+  public METER<PC> value(float value) throws IOException {
+    document.writeAttribute("value", value);
+    return this;
+  }
+
+  /**
+   * See <a href="https://developer.mozilla.org/en-US/docs/Web/HTML/Element/meter#attr-value">&lt;meter&gt;: value attribute</a>.
+   *
+   * <p>Formatted directly to the output, with no boxing or intermediate string when in plain notation.  The
+   * output is the same as {@link Double#toString(double)}.</p>
+   */
+  public METER<PC> value(double value) throws IOException {
+    document.writeAttribute("value", value);
+    return this;
+  }
+
+  /**
+   * See <a href="https://developer.mozilla.org/en-US/docs/Web/HTML/Element/meter#attr-min">&lt;meter&gt;: min attribute</a>.
+   *
+   * <p>Formatted directly to the output, with no boxing or intermediate string.</p>
+   */
+  public METER<PC> min(long min) throws IOException {
+    document.writeAttribute("min", min);
+    return this;
+  }
+
+  /**
+   * See <a href="https://developer.mozilla.org/en-US/docs/Web/HTML/Element/meter#attr-min">&lt;meter&gt;: min attribute</a>.
+   *
+   * <p>Formatted directly to the output, with no boxing or intermediate string when in plain notation.  The
+   * output is the same as {@link Float#toString(float)}.</p>
+   */
+  public METER<PC> min(float min) throws IOException {
+    document.writeAttribute("min", min);
+    return this;
+  }
+
+  /**
+   * See <a href="https://developer.mozilla.org/en-US/docs/Web/HTML/Element/meter#attr-min">&lt;meter&gt;: min attribute</a>.
+   *
+   * <p>Formatted directly to the output, with no boxing or intermediate string when in plain notation.  The
+   * output is the same as {@link Double#toString(double)}.</p>
+   */
+  public METER<PC> min(double min) throws IOException {
+    document.writeAttribute("min", min);
+    return this;
+  }
+
+  /**
+   * See <a href="https://developer.mozilla.org/en-US/docs/Web/HTML/Element/meter#attr-max">&lt;meter&gt;: max attribute</a>.
+   *
+   * <p>Formatted directly to the output, with no boxing or intermediate string.</p>
+   */
+  public METER<PC> max(long max) throws IOException {
+    document.writeAttribute("max", max);
+    return this;
+  }
+
+  /**
+   * See <a href="https://developer.mozilla.org/en-US/docs/Web/HTML/Element/meter#attr-max">&lt;meter&gt;: max attribute</a>.
+   *
+   * <p>Formatted directly to the output, with no boxing or intermediate string when in plain notation.  The
+   * output is the same as {@link Float#toString(float)}.</p>
+   */
+  public METER<PC> max(float max) throws IOException {
+    document.writeAttribute("max", max);
+    return this;
+  }
+
+  /**
+   * See <a href="https://developer.mozilla.org/en-US/docs/Web/HTML/Element/meter#attr-max">&lt;meter&gt;: max attribute</a>.
+   *
+   * <p>Formatted directly to the output, with no boxing or intermediate string when in plain notation.  The
+   * output is the same as {@link Double#toString(double)}.</p>
+   */
+  public METER<PC> max(double max) throws IOException {
+    document.writeAttribute("max", max);
+    return this;
   }
 
   @Override
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -29,6 +29,10 @@ import com.aoapps.html.any.Suppliers;
 import com.aoapps.lang.io.function.IOConsumerE;
 import com.aoapps.lang.io.function.IOSupplierE;
 import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 
 /**
  * <ul>
@@ -129,6 +133,55 @@ public interface MetadataContent<
     return style((type == null) ? null : type.get());
   }
 
+  /**
+   * Writes a <code>&lt;style&gt;</code> with the given file as its body.  The file is read and checked once, then
+   * copied from the cache on each use.
+   *
+   * @return  This content model
+   *
+   * @throws  IllegalArgumentException  when the file contains a sequence that cannot be written in the element, such
+   *                                    as <code>&lt;/style</code>
+   *
+   * @see  ResourceCache
+   */
+  default __ style__(ResourceCache cache, Path file) throws IOException {
+    getDocument().writeRawText(TagTable.Tag.STYLE, cache, file);
+    @SuppressWarnings("unchecked")
+    __ content = (__) this;
+    return content;
+  }
+
+  /**
+   * Writes a <code>&lt;style&gt;</code>, streaming its body from the given reader through a fixed buffer.  The
+   * body is checked as it is written.  The reader is not closed.
+   *
+   * @return  This content model
+   *
+   * @throws  IllegalArgumentException  when the content contains a sequence that cannot be written in the element,
+   *                                    such as <code>&lt;/style</code>
+   */
+  default __ style__(Reader style) throws IOException {
+    getDocument().writeRawText(TagTable.Tag.STYLE, style);
+    @SuppressWarnings("unchecked")
+    __ content = (__) this;
+    return content;
+  }
+
+  /**
+   * Writes a <code>&lt;style&gt;</code>, streaming its body from the given channel through a fixed buffer.  The
+   * body is checked as it is written.  The channel is not closed.
+   *
+   * @return  This content model
+   *
+   * @throws  IllegalArgumentException  when the content contains a sequence that cannot be written in the element,
+   *                                    such as <code>&lt;/style</code>
+   */
+  default __ style__(ReadableByteChannel style, Charset charset) throws IOException {
+    getDocument().writeRawText(TagTable.Tag.STYLE, style, charset);
+    @SuppressWarnings("unchecked")
+    __ content = (__) this;
+    return content;
+  }
   // </editor-fold>
   // Inherited: TEMPLATE - WHATWG only
   // <editor-fold defaultstate="collapsed" desc="TITLE">
@@ -0,0 +1,497 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Counts the markup written to the wrapped writer into {@link RenderMetrics}.  The markup is tracked by a small state
+ * machine that recognizes tags, attributes, text, comments, and the raw text of <code>&lt;script&gt;</code> and
+ * <code>&lt;style&gt;</code>.
+ *
+ * <p>The open elements are kept on a stack for the nesting depth.  Like a browser, an end tag closes any elements
+ * still open within it, and a start tag closes an open element whose end tag may be omitted before it, such as a
+ * <code>&lt;li&gt;</code> followed by another.  This keeps the depth correct when
+ * {@linkplain MinifyingWriter optional end tags are omitted} before this writer.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class MetricsWriter extends Writer {
+
+  /**
+   * Void elements that are not in {@link TagTable.Tag}.
+   */
+  private static final String[] OTHER_VOID_ELEMENTS = {"embed", "source", "track"};
+
+  /**
+   * The longest element name that is packed into a code, at six bits per character.
+   */
+  private static final int MAX_CODE_LENGTH = 10;
+
+  private static final int TABLE_SIZE = 256;
+  private static final long[] CODES = new long[TABLE_SIZE];
+  private static final String[] NAMES = new String[TABLE_SIZE];
+  private static final boolean[] VOIDS = new boolean[TABLE_SIZE];
+
+  private static final char[] SCRIPT_END = "</script".toCharArray();
+  private static final char[] STYLE_END = "</style".toCharArray();
+
+  private static final long SCRIPT_CODE = encode("script");
+  private static final long STYLE_CODE = encode("style");
+
+  private static int hash(long code) {
+    return (int) (code ^ (code >>> 17) ^ (code >>> 37)) & (TABLE_SIZE - 1);
+  }
+
+  private static long encode(String name) {
+    long code = 0;
+    for (int i = 0; i < name.length(); i++) {
+      code = encode(code, name.charAt(i));
+    }
+    return code;
+  }
+
+  private static void addName(String name, boolean isVoid) {
+    long code = encode(name);
+    int i = hash(code);
+    while (NAMES[i] != null) {
+      i = (i + 1) & (TABLE_SIZE - 1);
+    }
+    CODES[i] = code;
+    NAMES[i] = name;
+    VOIDS[i] = isVoid;
+  }
+
+  static {
+    for (TagTable.Tag tag : TagTable.Tag.values()) {
+      addName(tag.name().toLowerCase(Locale.ROOT), tag.isVoid());
+    }
+    for (String name : OTHER_VOID_ELEMENTS) {
+      addName(name, true);
+    }
+  }
+
+  /**
+   * Adds a character to a packed element name, six bits per character, ignoring case.
+   *
+   * @return  The new code or {@code -1} when the character is not an ASCII letter or digit
+   */
+  private static long encode(long code, char c) {
+    int value;
+    if (c >= 'a' && c <= 'z') {
+      value = c - 'a' + 1;
+    } else if (c >= 'A' && c <= 'Z') {
+      value = c - 'A' + 1;
+    } else if (c >= '0' && c <= '9') {
+      value = c - '0' + 27;
+    } else {
+      return -1;
+    }
+    return (code << 6) | value;
+  }
+
+  /**
+   * Finds the given packed name.
+   *
+   * @return  The index in the table or {@code -1} when not a known element
+   */
+  private static int lookup(long code) {
+    if (code != -1) {
+      for (int i = hash(code); NAMES[i] != null; i = (i + 1) & (TABLE_SIZE - 1)) {
+        if (CODES[i] == code) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  private static final int TEXT = 0;
+  private static final int TAG_OPEN = 1;
+  private static final int START_TAG_NAME = 2;
+  private static final int IN_START_TAG = 3;
+  private static final int ATTRIBUTE_NAME = 4;
+  private static final int AFTER_ATTRIBUTE_NAME = 5;
+  private static final int BEFORE_ATTRIBUTE_VALUE = 6;
+  private static final int ATTRIBUTE_VALUE_QUOTED = 7;
+  private static final int ATTRIBUTE_VALUE_UNQUOTED = 8;
+  private static final int END_TAG = 9;
+  private static final int MARKUP_DECLARATION = 10;
+  private static final int COMMENT = 11;
+  private static final int RAW_TEXT = 12;
+
+  private final Writer out;
+  private final RenderMetrics metrics;
+
+  private int state = TEXT;
+  private final StringBuilder name = new StringBuilder();
+
+  /**
+   * The packed name of the current start tag, or {@code -1} when it is not packed.
+   */
+  private long code;
+  private boolean selfClosing;
+  private char quote;
+
+  /**
+   * The packed names of the open elements, {@code -1} for those not packed.
+   */
+  private long[] open = new long[16];
+  private int depth;
+
+  /**
+   * The packed name of the current end tag, its length, and whether the name is complete.
+   */
+  private long endCode;
+  private int endLength;
+  private boolean endNameDone;
+
+  /**
+   * The number of leading dashes seen in a markup declaration, or the trailing dashes seen in a comment.
+   */
+  private int dashes;
+
+  /**
+   * The end tag that ends the current raw text, and how much of it has been matched.
+   */
+  private char[] rawTextEnd;
+  private int rawTextMatched;
+
+  MetricsWriter(Writer out, RenderMetrics metrics) {
+    this.out = out;
+    this.metrics = metrics;
+  }
+
+  Writer getOut() {
+    return out;
+  }
+
+  RenderMetrics getMetrics() {
+    return metrics;
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\n' || c == '\t' || c == '\r' || c == '\f';
+  }
+
+  private void finishStartTag() {
+    long startCode = (name.length() <= MAX_CODE_LENGTH) ? code : -1;
+    closeImplied(startCode);
+    int i = lookup(startCode);
+    if (i == -1) {
+      // Not a known element: the name is only allocated here
+      metrics.elementOpened(name.toString());
+    } else {
+      metrics.elementOpened(NAMES[i]);
+    }
+    if (selfClosing || (i != -1 && VOIDS[i])) {
+      state = TEXT;
+    } else {
+      if (depth == open.length) {
+        open = Arrays.copyOf(open, depth * 2);
+      }
+      open[depth++] = startCode;
+      metrics.depth(depth);
+      String tagName = (i == -1) ? null : NAMES[i];
+      if ("script".equals(tagName)) {
+        rawTextEnd = SCRIPT_END;
+        rawTextMatched = 0;
+        state = RAW_TEXT;
+      } else if ("style".equals(tagName)) {
+        rawTextEnd = STYLE_END;
+        rawTextMatched = 0;
+        state = RAW_TEXT;
+      } else {
+        state = TEXT;
+      }
+    }
+  }
+
+  /**
+   * Closes the open elements whose end tags may have been omitted before the given start tag.  An element is closed
+   * when the start tag may directly follow its omitted end tag.  It is also closed when its end tag may be omitted
+   * before its parent's end tag and the parent is closed, such as an open <code>&lt;td&gt;</code> when the next
+   * <code>&lt;tr&gt;</code> starts.
+   */
+  private void closeImplied(long startCode) {
+    int i = depth - 1;
+    while (i >= 0) {
+      if (MinifyingWriter.isClosedByStart(open[i], startCode)) {
+        depth = i;
+        i--;
+      } else if (i > 0 && MinifyingWriter.isClosedByEnd(open[i], open[i - 1])) {
+        i--;
+      } else {
+        break;
+      }
+    }
+  }
+
+  private void startEndTag(long code, int length) {
+    endCode = code;
+    endLength = length;
+    endNameDone = false;
+    state = END_TAG;
+  }
+
+  /**
+   * Closes the element named by the current end tag, along with any elements still open within it.  An end tag with
+   * no matching open element is ignored.
+   */
+  private void finishEndTag() {
+    long c = (endLength <= MAX_CODE_LENGTH) ? endCode : -1;
+    for (int i = depth - 1; i >= 0; i--) {
+      if (open[i] == c) {
+        depth = i;
+        break;
+      }
+    }
+    state = TEXT;
+  }
+
+  private void startAttribute() {
+    metrics.attributeWritten();
+    selfClosing = false;
+    state = ATTRIBUTE_NAME;
+  }
+
+  /**
+   * Handles a character in any state within a start tag that may end the tag.
+   *
+   * @return  {@code true} when the character was handled
+   */
+  private boolean tagDelimiter(char c) {
+    if (c == '>') {
+      finishStartTag();
+      return true;
+    }
+    if (c == '/') {
+      selfClosing = true;
+      state = IN_START_TAG;
+      return true;
+    }
+    return false;
+  }
+
+  private void scan(char c) {
+    switch (state) {
+      case TEXT:
+        if (c == '<') {
+          state = TAG_OPEN;
+        } else {
+          if (c == '&') {
+            metrics.referenceWritten();
+          }
+          metrics.textWritten(1);
+        }
+        break;
+      case TAG_OPEN:
+        if (c == '/') {
+          startEndTag(0, 0);
+        } else if (c == '!' || c == '?') {
+          dashes = 0;
+          state = MARKUP_DECLARATION;
+        } else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+          name.setLength(0);
+          name.append(c);
+          code = encode(0, c);
+          selfClosing = false;
+          state = START_TAG_NAME;
+        } else {
+          metrics.textWritten(2);
+          state = TEXT;
+        }
+        break;
+      case START_TAG_NAME:
+        if (isWhitespace(c)) {
+          state = IN_START_TAG;
+        } else if (!tagDelimiter(c)) {
+          name.append(c);
+          if (code != -1) {
+            code = encode(code, c);
+          }
+        }
+        break;
+      case IN_START_TAG:
+        if (!isWhitespace(c) && !tagDelimiter(c)) {
+          startAttribute();
+        }
+        break;
+      case ATTRIBUTE_NAME:
+        if (c == '=') {
+          state = BEFORE_ATTRIBUTE_VALUE;
+        } else if (isWhitespace(c)) {
+          state = AFTER_ATTRIBUTE_NAME;
+        } else {
+          tagDelimiter(c);
+        }
+        break;
+      case AFTER_ATTRIBUTE_NAME:
+        if (c == '=') {
+          state = BEFORE_ATTRIBUTE_VALUE;
+        } else if (!isWhitespace(c) && !tagDelimiter(c)) {
+          startAttribute();
+        }
+        break;
+      case BEFORE_ATTRIBUTE_VALUE:
+        if (c == '"' || c == '\'') {
+          quote = c;
+          state = ATTRIBUTE_VALUE_QUOTED;
+        } else if (c == '>') {
+          finishStartTag();
+        } else if (!isWhitespace(c)) {
+          if (c == '&') {
+            metrics.referenceWritten();
+          }
+          state = ATTRIBUTE_VALUE_UNQUOTED;
+        }
+        break;
+      case ATTRIBUTE_VALUE_QUOTED:
+        if (c == quote) {
+          state = IN_START_TAG;
+        } else if (c == '&') {
+          metrics.referenceWritten();
+        }
+        break;
+      case ATTRIBUTE_VALUE_UNQUOTED:
+        if (isWhitespace(c)) {
+          state = IN_START_TAG;
+        } else if (c == '>') {
+          finishStartTag();
+        } else if (c == '&') {
+          metrics.referenceWritten();
+        }
+        break;
+      case END_TAG:
+        if (c == '>') {
+          finishEndTag();
+        } else if (!endNameDone) {
+          if (isWhitespace(c) || c == '/') {
+            endNameDone = true;
+          } else {
+            if (endCode != -1) {
+              endCode = encode(endCode, c);
+            }
+            endLength++;
+          }
+        }
+        break;
+      case MARKUP_DECLARATION:
+        if (c == '-' && dashes >= 0) {
+          if (++dashes == 2) {
+            dashes = 0;
+            state = COMMENT;
+          }
+        } else if (c == '>') {
+          state = TEXT;
+        } else {
+          // Not a comment
+          dashes = -1;
+        }
+        break;
+      case COMMENT:
+        if (c == '-') {
+          dashes++;
+        } else if (c == '>' && dashes >= 2) {
+          state = TEXT;
+        } else {
+          dashes = 0;
+        }
+        break;
+      case RAW_TEXT:
+        if (Character.toLowerCase(c) == rawTextEnd[rawTextMatched]) {
+          if (++rawTextMatched == rawTextEnd.length) {
+            startEndTag(rawTextEnd == SCRIPT_END ? SCRIPT_CODE : STYLE_CODE, rawTextEnd.length - 2);
+          }
+        } else {
+          rawTextMatched = (c == '<') ? 1 : 0;
+        }
+        break;
+      default:
+        throw new AssertionError();
+    }
+  }
+
+  @Override
+  public void write(int c) throws IOException {
+    out.write(c);
+    metrics.write(1);
+    scan((char) c);
+  }
+
+  @Override
+  public void write(char[] cbuf, int off, int len) throws IOException {
+    out.write(cbuf, off, len);
+    metrics.write(len);
+    for (int end = off + len; off < end; off++) {
+      scan(cbuf[off]);
+    }
+  }
+
+  @Override
+  public void write(String str, int off, int len) throws IOException {
+    out.write(str, off, len);
+    metrics.write(len);
+    for (int end = off + len; off < end; off++) {
+      scan(str.charAt(off));
+    }
+  }
+
+  /**
+   * Writes characters along with their pre-encoded form, so the wrapped writer may copy the bytes directly.
+   *
+   * @see  ByteSinkWriter#write(java.io.Writer, char[], int, int, byte[], int, int, java.nio.charset.Charset)
+   */
+  void write(char[] cbuf, int off, int len, byte[] bytes, int byteOff, int byteLen, Charset charset)
+      throws IOException {
+    ByteSinkWriter.write(out, cbuf, off, len, bytes, byteOff, byteLen, charset);
+    metrics.write(len);
+    for (int end = off + len; off < end; off++) {
+      scan(cbuf[off]);
+    }
+  }
+
+  private void updateBytes() {
+    if (out instanceof ByteSinkWriter) {
+      metrics.setBytes(((ByteSinkWriter) out).getByteCount());
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    out.flush();
+    metrics.flushed();
+    updateBytes();
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.close();
+    updateBytes();
+  }
+}
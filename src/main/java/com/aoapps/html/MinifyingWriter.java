@@ -0,0 +1,979 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Locale;
+
+/**
+ * Reduces the size of the markup written to the wrapped writer, in a single pass with no per-tag allocation.  The
+ * markup is tracked by a small state machine that recognizes tags, comments, and the raw text of
+ * <code>&lt;script&gt;</code> and <code>&lt;style&gt;</code>, which are never modified.  Characters that pass
+ * through unchanged are written to the wrapped writer in runs, with no intermediate buffer, and text and raw text are
+ * skipped to the next <code>&lt;</code> when there is nothing to change.  Pre-encoded markup is passed along with its
+ * bytes, so a wrapped {@link ByteSinkWriter} still copies the bytes directly.
+ *
+ * <p>When omitting end tags, each end tag that the HTML specification allows to be omitted is held until the next
+ * tag is seen.  It is then omitted only when that tag provably satisfies the conditions in
+ * <a href="https://html.spec.whatwg.org/multipage/syntax.html#optional-tags">13.1.2.4 Optional tags</a>.  Any text,
+ * including whitespace, or comment in between keeps the end tag.</p>
+ *
+ * <p>When minifying attributes, each quoted attribute value is held until its closing quote.  Boolean attributes, such
+ * as <code>checked="checked"</code>, are then written in the short form <code>checked</code>.  Other values that
+ * contain no whitespace or any of <code>"'=&lt;&gt;`</code> are written unquoted.  Values longer than
+ * {@link #MAX_VALUE} characters are written as-is.</p>
+ *
+ * <p>When collapsing whitespace, each run of whitespace in text is written as a single space.  Whitespace is kept
+ * as-is within <code>&lt;pre&gt;</code> and <code>&lt;textarea&gt;</code>, tracked by their nesting depth, and within
+ * the raw text of <code>&lt;script&gt;</code> and <code>&lt;style&gt;</code>.</p>
+ *
+ * <p>Omitting end tags is only valid for {@link com.aoapps.encoding.Serialization#SGML} and
+ * {@link com.aoapps.encoding.Doctype#HTML5}.  Minifying attributes is only valid for
+ * {@link com.aoapps.encoding.Serialization#SGML}.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class MinifyingWriter extends Writer {
+
+  /**
+   * Closes an open <code>&lt;p&gt;</code> when started.
+   */
+  private static final int CLOSES_P = 1;
+
+  /**
+   * May contain <code>&lt;p&gt;</code> and is not one of the elements that prevent its end tag being omitted.
+   */
+  private static final int P_PARENT = 1 << 1;
+
+  /**
+   * The end tag may be omitted.
+   */
+  private static final int OMITTABLE = 1 << 2;
+
+  /**
+   * Contains raw text.
+   */
+  private static final int RAW_TEXT = 1 << 3;
+
+  /**
+   * Whitespace in its text is significant.
+   */
+  private static final int PRESERVES_WHITESPACE = 1 << 4;
+
+  /**
+   * The longest element name that is recognized.
+   */
+  private static final int MAX_NAME = 10;
+
+  /**
+   * The elements that affect end tag omission or whitespace.  All others are treated the same.
+   */
+  private enum Name {
+    ADDRESS(CLOSES_P | P_PARENT),
+    ARTICLE(CLOSES_P | P_PARENT),
+    ASIDE(CLOSES_P | P_PARENT),
+    BLOCKQUOTE(CLOSES_P | P_PARENT),
+    BODY(P_PARENT),
+    CAPTION(P_PARENT),
+    DATALIST(0),
+    DD(P_PARENT | OMITTABLE),
+    DETAILS(CLOSES_P | P_PARENT),
+    DIALOG(CLOSES_P | P_PARENT),
+    DIV(CLOSES_P | P_PARENT),
+    DL(CLOSES_P),
+    DT(P_PARENT | OMITTABLE),
+    FIELDSET(CLOSES_P | P_PARENT),
+    FIGCAPTION(CLOSES_P | P_PARENT),
+    FIGURE(CLOSES_P | P_PARENT),
+    FOOTER(CLOSES_P | P_PARENT),
+    FORM(CLOSES_P | P_PARENT),
+    H1(CLOSES_P),
+    H2(CLOSES_P),
+    H3(CLOSES_P),
+    H4(CLOSES_P),
+    H5(CLOSES_P),
+    H6(CLOSES_P),
+    HEADER(CLOSES_P | P_PARENT),
+    HGROUP(CLOSES_P | P_PARENT),
+    HR(CLOSES_P),
+    LI(P_PARENT | OMITTABLE),
+    MAIN(CLOSES_P | P_PARENT),
+    MENU(CLOSES_P),
+    NAV(CLOSES_P | P_PARENT),
+    OL(CLOSES_P),
+    OPTGROUP(0),
+    OPTION(OMITTABLE),
+    P(CLOSES_P | OMITTABLE),
+    PRE(CLOSES_P | PRESERVES_WHITESPACE),
+    SCRIPT(RAW_TEXT),
+    SEARCH(CLOSES_P | P_PARENT),
+    SECTION(CLOSES_P | P_PARENT),
+    SELECT(0),
+    STYLE(RAW_TEXT),
+    TABLE(CLOSES_P),
+    TBODY(OMITTABLE),
+    TD(P_PARENT | OMITTABLE),
+    TEXTAREA(PRESERVES_WHITESPACE),
+    TFOOT(0),
+    TH(P_PARENT | OMITTABLE),
+    THEAD(OMITTABLE),
+    TR(OMITTABLE),
+    UL(CLOSES_P);
+
+    private final int flags;
+    private final long code;
+
+    /**
+     * The end tag, such as <code>&lt;/li&gt;</code>.
+     */
+    private final char[] endTag;
+
+    /**
+     * The start of the end tag, such as <code>&lt;/script</code>, in lower case.
+     */
+    private final char[] endTagStart;
+
+    private Name(int flags) {
+      this.flags = flags;
+      long c = 0;
+      for (char ch : name().toCharArray()) {
+        c = encode(c, ch);
+      }
+      this.code = c;
+      String endTagStartStr = "</" + name().toLowerCase(Locale.ROOT);
+      this.endTag = (endTagStartStr + '>').toCharArray();
+      this.endTagStart = endTagStartStr.toCharArray();
+    }
+
+    private boolean is(int flag) {
+      return (flags & flag) != 0;
+    }
+  }
+
+  /**
+   * Adds a character to a packed element name, six bits per character.
+   *
+   * @return  The new code or {@code -1} when the character is not an ASCII letter or digit
+   */
+  private static long encode(long code, char c) {
+    int value;
+    if (c >= 'a' && c <= 'z') {
+      value = c - 'a' + 1;
+    } else if (c >= 'A' && c <= 'Z') {
+      value = c - 'A' + 1;
+    } else if (c >= '0' && c <= '9') {
+      value = c - '0' + 27;
+    } else {
+      return -1;
+    }
+    return (code << 6) | value;
+  }
+
+  private static final int TABLE_SIZE = 128;
+  private static final long[] CODES = new long[TABLE_SIZE];
+  private static final Name[] NAMES = new Name[TABLE_SIZE];
+
+  private static int hash(long code) {
+    return (int) (code ^ (code >>> 17) ^ (code >>> 37)) & (TABLE_SIZE - 1);
+  }
+
+  static {
+    for (Name name : Name.values()) {
+      int i = hash(name.code);
+      while (NAMES[i] != null) {
+        i = (i + 1) & (TABLE_SIZE - 1);
+      }
+      CODES[i] = name.code;
+      NAMES[i] = name;
+    }
+  }
+
+  /**
+   * Finds the element with the given packed name.
+   *
+   * @return  The element or {@code null} when it does not affect end tag omission
+   */
+  private static Name lookup(long code) {
+    for (int i = hash(code); NAMES[i] != null; i = (i + 1) & (TABLE_SIZE - 1)) {
+      if (CODES[i] == code) {
+        return NAMES[i];
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Can the given end tag be omitted when followed by the given tag?
+   * See <a href="https://html.spec.whatwg.org/multipage/syntax.html#optional-tags">13.1.2.4 Optional tags</a>.
+   *
+   * @param  start  {@code true} when followed by a start tag, {@code false} for an end tag, which is the end of the
+   *                parent element
+   * @param  next   The following element or {@code null} when not recognized
+   */
+  private static boolean canOmit(Name pending, boolean start, Name next) {
+    if (next == null) {
+      return false;
+    }
+    switch (pending) {
+      case LI:
+        return start ? next == Name.LI : (next == Name.UL || next == Name.OL || next == Name.MENU);
+      case DT:
+        return start && (next == Name.DT || next == Name.DD);
+      case DD:
+        return start ? (next == Name.DD || next == Name.DT) : (next == Name.DL || next == Name.DIV);
+      case P:
+        return next.is(start ? CLOSES_P : P_PARENT);
+      case OPTION:
+        return start
+            ? (next == Name.OPTION || next == Name.OPTGROUP || next == Name.HR)
+            : (next == Name.SELECT || next == Name.DATALIST || next == Name.OPTGROUP);
+      case TR:
+        return start
+            ? next == Name.TR
+            : (next == Name.TBODY || next == Name.THEAD || next == Name.TFOOT || next == Name.TABLE);
+      case TD:
+      case TH:
+        return start ? (next == Name.TD || next == Name.TH) : next == Name.TR;
+      case THEAD:
+        return start && (next == Name.TBODY || next == Name.TFOOT);
+      case TBODY:
+        return start ? (next == Name.TBODY || next == Name.TFOOT) : next == Name.TABLE;
+      default:
+        throw new AssertionError();
+    }
+  }
+
+  /**
+   * Is an open element closed by the start of the next, as when its end tag has been omitted before that start tag?
+   * This is used by {@link MetricsWriter} to track the nesting of the minified output.
+   *
+   * @param  open  The packed name of the open element, six bits per character as by this class, or {@code -1}
+   * @param  next  The packed name of the element being started, or {@code -1}
+   */
+  static boolean isClosedByStart(long open, long next) {
+    if (open == -1 || next == -1) {
+      return false;
+    }
+    Name pending = lookup(open);
+    return pending != null && pending.is(OMITTABLE) && canOmit(pending, true, lookup(next));
+  }
+
+  /**
+   * Is an open element closed by the end of its parent, as when its end tag has been omitted before the parent's end
+   * tag?  This is used by {@link MetricsWriter} along with {@link #isClosedByStart(long, long)}.
+   *
+   * @param  open    The packed name of the open element, or {@code -1}
+   * @param  parent  The packed name of its parent, or {@code -1}
+   */
+  static boolean isClosedByEnd(long open, long parent) {
+    if (open == -1 || parent == -1) {
+      return false;
+    }
+    Name pending = lookup(open);
+    return pending != null && pending.is(OMITTABLE) && canOmit(pending, false, lookup(parent));
+  }
+
+  /**
+   * The boolean attributes, in lower case.
+   * See <a href="https://html.spec.whatwg.org/multipage/indices.html#attributes-3">Attributes</a>.
+   */
+  private static final char[][] BOOLEAN_ATTRIBUTES;
+
+  static {
+    String[] names = {
+        "allowfullscreen", "async", "autofocus", "autoplay", "checked", "controls", "default", "defer", "disabled",
+        "formnovalidate", "hidden", "inert", "ismap", "itemscope", "loop", "multiple", "muted", "nomodule",
+        "novalidate", "open", "playsinline", "readonly", "required", "reversed", "selected"
+    };
+    BOOLEAN_ATTRIBUTES = new char[names.length][];
+    for (int i = 0; i < names.length; i++) {
+      BOOLEAN_ATTRIBUTES[i] = names[i].toCharArray();
+    }
+  }
+
+  /**
+   * The longest attribute name that is recognized.
+   */
+  private static final int MAX_ATTRIBUTE_NAME = 15;
+
+  /**
+   * The longest attribute value that is minified.
+   */
+  static final int MAX_VALUE = 256;
+
+  /**
+   * The number of characters of a {@link String} scanned at a time.
+   */
+  private static final int CHUNK_SIZE = 1024;
+
+  private static final int TEXT = 0;
+  private static final int TAG_OPEN = 1;
+  private static final int START_TAG_NAME = 2;
+  private static final int END_TAG_NAME = 3;
+  private static final int IN_TAG = 4;
+  private static final int MARKUP_DECLARATION = 5;
+  private static final int COMMENT = 6;
+  private static final int RAW_TEXT_BODY = 7;
+  private static final int ATTRIBUTE_NAME = 8;
+  private static final int BEFORE_ATTRIBUTE_VALUE = 9;
+  private static final int ATTRIBUTE_VALUE = 10;
+  private static final int AFTER_ATTRIBUTE_VALUE = 11;
+
+  private final Writer out;
+  private final boolean omitEndTags;
+  private final boolean minifyAttributes;
+  private final boolean collapseWhitespace;
+
+  /**
+   * The characters being scanned, only during a write.  Characters that pass through unchanged are written from here
+   * in runs, with one write per run.
+   */
+  private char[] src;
+
+  /**
+   * The encoded form of {@link #src}, one byte per character, or {@code null} when not available.  The byte for
+   * character {@code i} is at {@code i + srcBytesDelta}, in {@link #srcCharset} or ASCII when {@code null}.
+   */
+  private byte[] srcBytes;
+  private int srcBytesDelta;
+  private Charset srcCharset;
+
+  /**
+   * The index of the character being scanned.
+   */
+  private int index;
+
+  /**
+   * The run of unchanged characters not yet written, from {@link #runStart} inclusive to {@link #runEnd} exclusive.
+   */
+  private int runStart;
+  private int runEnd;
+
+  /**
+   * Strings are scanned from here in chunks, created on first use.
+   */
+  private char[] chunk;
+
+  private final char[] single = new char[1];
+
+  private int state = TEXT;
+
+  /**
+   * The start of the current tag, when held until its name is known.
+   */
+  private final char[] tag = new char[2 + MAX_NAME];
+  private int tagLength;
+  private int nameLength;
+
+  /**
+   * Is the start of the current tag being held in {@link #tag}?  Only end tags are held when omitting end tags, along
+   * with start tags that follow a pending end tag, since these are the only tags that may affect what is written
+   * before them.
+   */
+  private boolean holding;
+
+  /**
+   * The packed name of the current tag, or {@code -1} when not recognized.
+   */
+  private long code;
+
+  /**
+   * The end tag held until the next tag is seen, or {@code null} when none.
+   */
+  private Name pending;
+
+  private char quote;
+
+  /**
+   * The number of open elements that preserve whitespace.
+   */
+  private int preserveDepth;
+
+  /**
+   * Was the last character of text whitespace?
+   */
+  private boolean whitespace;
+
+  /**
+   * The name of the current attribute, in lower case, and its length or {@code -1} when too long to be recognized.
+   */
+  private final char[] attributeName = new char[MAX_ATTRIBUTE_NAME];
+  private int attributeNameLength;
+
+  /**
+   * The value of the current attribute, held until its closing quote.
+   */
+  private final char[] value = new char[MAX_VALUE];
+  private int valueLength;
+  private char valueQuote;
+  private boolean unquotable;
+
+  /**
+   * The number of leading dashes seen in a markup declaration, or the trailing dashes seen in a comment.
+   */
+  private int dashes;
+
+  /**
+   * The element containing the current raw text, and how much of its end tag has been matched.
+   */
+  private Name rawText;
+  private int rawTextMatched;
+
+  MinifyingWriter(Writer out, boolean omitEndTags, boolean minifyAttributes, boolean collapseWhitespace) {
+    this.out = out;
+    this.omitEndTags = omitEndTags;
+    this.minifyAttributes = minifyAttributes;
+    this.collapseWhitespace = collapseWhitespace;
+  }
+
+  Writer getOut() {
+    return out;
+  }
+
+  boolean getOmitEndTags() {
+    return omitEndTags;
+  }
+
+  boolean getMinifyAttributes() {
+    return minifyAttributes;
+  }
+
+  boolean getCollapseWhitespace() {
+    return collapseWhitespace;
+  }
+
+  /**
+   * Writes the run of unchanged characters, along with their bytes when available.
+   */
+  private void flushRun() throws IOException {
+    int len = runEnd - runStart;
+    if (len > 0) {
+      if (srcBytes != null) {
+        ByteSinkWriter.write(out, src, runStart, len, srcBytes, runStart + srcBytesDelta, len, srcCharset);
+      } else {
+        out.write(src, runStart, len);
+      }
+      runStart = runEnd;
+    }
+  }
+
+  /**
+   * Passes the current character through unchanged, as part of the current run.
+   */
+  private void pass() throws IOException {
+    if (runEnd != index) {
+      flushRun();
+      runStart = index;
+    }
+    runEnd = index + 1;
+  }
+
+  /**
+   * Writes a character that is not the current character, after the current run.
+   */
+  private void emit(char c) throws IOException {
+    flushRun();
+    out.write(c);
+  }
+
+  /**
+   * Writes characters that were held, after the current run.
+   */
+  private void emit(char[] chars, int len) throws IOException {
+    flushRun();
+    out.write(chars, 0, len);
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\n' || c == '\t' || c == '\r' || c == '\f';
+  }
+
+  private void addAttributeNameChar(char c) {
+    int len = attributeNameLength;
+    if (len != -1) {
+      if (len == MAX_ATTRIBUTE_NAME) {
+        attributeNameLength = -1;
+      } else {
+        attributeName[len] = (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+        attributeNameLength = len + 1;
+      }
+    }
+  }
+
+  /**
+   * Is the current attribute a boolean attribute with a value of either the empty string or its own name?
+   */
+  private boolean isBooleanShortForm() {
+    int len = attributeNameLength;
+    if (len <= 0 || (valueLength != 0 && valueLength != len)) {
+      return false;
+    }
+    char[] n = attributeName;
+    for (char[] booleanAttribute : BOOLEAN_ATTRIBUTES) {
+      if (booleanAttribute.length == len && booleanAttribute[0] == n[0]) {
+        int i = 1;
+        while (i < len && booleanAttribute[i] == n[i]) {
+          i++;
+        }
+        if (i == len) {
+          if (valueLength == 0) {
+            return true;
+          }
+          for (i = 0; i < len; i++) {
+            char c = value[i];
+            if (c >= 'A' && c <= 'Z') {
+              c += 'a' - 'A';
+            }
+            if (c != n[i]) {
+              return false;
+            }
+          }
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Writes or omits the pending end tag, now that the following tag is known.
+   *
+   * @param  start  {@code true} when followed by a start tag, {@code false} for an end tag
+   * @param  next   The following element or {@code null} when not recognized or not a tag
+   */
+  private void resolvePending(boolean start, Name next) throws IOException {
+    Name p = pending;
+    if (p != null) {
+      pending = null;
+      if (!canOmit(p, start, next)) {
+        emit(p.endTag, p.endTag.length);
+      }
+    }
+  }
+
+  /**
+   * Writes the start of the current tag, when held.
+   */
+  private void release() throws IOException {
+    if (holding) {
+      holding = false;
+      emit(tag, tagLength);
+    }
+  }
+
+  /**
+   * Adds the current character to the start of the current tag, either held or passed through.
+   */
+  private void tagChar(char c) throws IOException {
+    if (holding) {
+      tag[tagLength++] = c;
+    } else {
+      pass();
+    }
+  }
+
+  /**
+   * Ends the name of the current tag, writing the tag start when held, or holding the whole end tag as pending.
+   *
+   * @param  c  The character after the name, which has not yet been scanned
+   */
+  private void endTagName(char c) throws IOException {
+    Name name = (code == -1) ? null : lookup(code);
+    if (name != null && name.is(PRESERVES_WHITESPACE)) {
+      if (state == START_TAG_NAME) {
+        preserveDepth++;
+      } else if (preserveDepth > 0) {
+        preserveDepth--;
+      }
+    }
+    if (state == START_TAG_NAME) {
+      resolvePending(true, name);
+      release();
+      rawText = (name != null && name.is(RAW_TEXT)) ? name : null;
+      state = IN_TAG;
+    } else if (c == '>' && omitEndTags && name != null && name.is(OMITTABLE)) {
+      resolvePending(false, name);
+      // The held tag and the '>' become the pending end tag
+      holding = false;
+      pending = name;
+      state = TEXT;
+      return;
+    } else {
+      resolvePending(false, name);
+      release();
+      rawText = null;
+      state = IN_TAG;
+    }
+    scan(c);
+  }
+
+  private void scan(char c) throws IOException {
+    switch (state) {
+      case TEXT:
+        if (c == '<') {
+          whitespace = false;
+          // Held when the tag may resolve a pending end tag or become one
+          holding = omitEndTags;
+          if (holding) {
+            tag[0] = c;
+            tagLength = 1;
+          } else {
+            pass();
+          }
+          state = TAG_OPEN;
+        } else {
+          if (pending != null) {
+            resolvePending(false, null);
+          }
+          if (collapseWhitespace && preserveDepth == 0 && isWhitespace(c)) {
+            if (!whitespace) {
+              if (c == ' ') {
+                pass();
+              } else {
+                emit(' ');
+              }
+              whitespace = true;
+            }
+            // Otherwise dropped
+          } else {
+            pass();
+            whitespace = false;
+          }
+        }
+        break;
+      case TAG_OPEN:
+        if (c == '/') {
+          tagChar(c);
+          code = 0;
+          nameLength = 0;
+          state = END_TAG_NAME;
+        } else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+          if (pending == null) {
+            // A start tag with nothing pending is never changed
+            release();
+          }
+          tagChar(c);
+          code = encode(0, c);
+          nameLength = 1;
+          state = START_TAG_NAME;
+        } else {
+          // Comment, doctype, or not markup
+          resolvePending(false, null);
+          release();
+          if (c == '!') {
+            pass();
+            dashes = 0;
+            state = MARKUP_DECLARATION;
+          } else {
+            state = TEXT;
+            scan(c);
+          }
+        }
+        break;
+      case START_TAG_NAME:
+      case END_TAG_NAME:
+        if (isWhitespace(c) || c == '>' || c == '/') {
+          endTagName(c);
+        } else if (nameLength == MAX_NAME) {
+          // Longer than any recognized element
+          code = -1;
+          endTagName(c);
+        } else {
+          tagChar(c);
+          nameLength++;
+          if (code != -1) {
+            code = encode(code, c);
+          }
+        }
+        break;
+      case IN_TAG:
+        pass();
+        if (quote != 0) {
+          if (c == quote) {
+            quote = 0;
+          }
+        } else if (c == '"' || c == '\'') {
+          quote = c;
+        } else if (c == '>') {
+          if (rawText != null) {
+            rawTextMatched = 0;
+            state = RAW_TEXT_BODY;
+          } else {
+            state = TEXT;
+          }
+        } else if (minifyAttributes && c != '/' && c != '=' && !isWhitespace(c)) {
+          attributeNameLength = 0;
+          state = ATTRIBUTE_NAME;
+          addAttributeNameChar(c);
+        }
+        break;
+      case ATTRIBUTE_NAME:
+        if (c == '=') {
+          // Written once the value is known
+          state = BEFORE_ATTRIBUTE_VALUE;
+        } else if (isWhitespace(c) || c == '>' || c == '/' || c == '"' || c == '\'') {
+          state = IN_TAG;
+          scan(c);
+        } else {
+          pass();
+          addAttributeNameChar(c);
+        }
+        break;
+      case BEFORE_ATTRIBUTE_VALUE:
+        if (c == '"' || c == '\'') {
+          valueQuote = c;
+          valueLength = 0;
+          unquotable = true;
+          state = ATTRIBUTE_VALUE;
+        } else {
+          // Already unquoted
+          emit('=');
+          state = IN_TAG;
+          scan(c);
+        }
+        break;
+      case ATTRIBUTE_VALUE:
+        if (c == valueQuote) {
+          state = AFTER_ATTRIBUTE_VALUE;
+        } else if (valueLength == MAX_VALUE) {
+          // Too long to minify, write as-is and find the closing quote in IN_TAG
+          writeValueStart();
+          quote = valueQuote;
+          state = IN_TAG;
+          scan(c);
+        } else {
+          value[valueLength++] = c;
+          if (
+              unquotable
+                  && (isWhitespace(c) || c == '"' || c == '\'' || c == '=' || c == '<' || c == '>' || c == '`')
+          ) {
+            unquotable = false;
+          }
+        }
+        break;
+      case AFTER_ATTRIBUTE_VALUE:
+        if (!isBooleanShortForm()) {
+          // Must be followed by whitespace or the end of the tag, since "/" would become part of an unquoted value
+          if (valueLength > 0 && unquotable && (isWhitespace(c) || c == '>')) {
+            emit('=');
+            emit(value, valueLength);
+          } else {
+            writeValueStart();
+            emit(valueQuote);
+          }
+        }
+        state = IN_TAG;
+        scan(c);
+        break;
+      case MARKUP_DECLARATION:
+        pass();
+        if (c == '-' && dashes >= 0) {
+          if (++dashes == 2) {
+            dashes = 0;
+            state = COMMENT;
+          }
+        } else if (c == '>') {
+          state = TEXT;
+        } else {
+          // Not a comment
+          dashes = -1;
+        }
+        break;
+      case COMMENT:
+        pass();
+        if (c == '-') {
+          dashes++;
+        } else if (c == '>' && dashes >= 2) {
+          state = TEXT;
+        } else {
+          dashes = 0;
+        }
+        break;
+      case RAW_TEXT_BODY:
+        pass();
+        char[] end = rawText.endTagStart;
+        char lower = (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+        if (lower == end[rawTextMatched]) {
+          if (++rawTextMatched == end.length) {
+            rawText = null;
+            state = IN_TAG;
+          }
+        } else {
+          rawTextMatched = (c == '<') ? 1 : 0;
+        }
+        break;
+      default:
+        throw new AssertionError();
+    }
+  }
+
+  /**
+   * Writes the held start of the current attribute value, as given, without the closing quote.
+   */
+  private void writeValueStart() throws IOException {
+    flushRun();
+    out.write('=');
+    out.write(valueQuote);
+    out.write(value, 0, valueLength);
+  }
+
+  /**
+   * Scans the given characters, skipping directly to the next <code>&lt;</code> when in text that is not being changed
+   * or in raw text.
+   */
+  private void scan(char[] cbuf, int off, int len) throws IOException {
+    src = cbuf;
+    runStart = off;
+    runEnd = off;
+    int end = off + len;
+    try {
+      for (int i = off; i < end; i++) {
+        int s = state;
+        if (
+            (s == TEXT && pending == null && (!collapseWhitespace || preserveDepth != 0))
+                || (s == RAW_TEXT_BODY && rawTextMatched == 0)
+        ) {
+          int next = i;
+          while (next < end && cbuf[next] != '<') {
+            next++;
+          }
+          if (next > i) {
+            if (runEnd != i) {
+              flushRun();
+              runStart = i;
+            }
+            runEnd = next;
+            whitespace = false;
+            if (next == end) {
+              break;
+            }
+            i = next;
+          }
+        }
+        index = i;
+        scan(cbuf[i]);
+      }
+      flushRun();
+    } finally {
+      src = null;
+      srcBytes = null;
+      srcCharset = null;
+    }
+  }
+
+  @Override
+  public void write(int c) throws IOException {
+    single[0] = (char) c;
+    scan(single, 0, 1);
+  }
+
+  @Override
+  public void write(char[] cbuf, int off, int len) throws IOException {
+    scan(cbuf, off, len);
+  }
+
+  @Override
+  public void write(String str, int off, int len) throws IOException {
+    if (len == 1) {
+      write(str.charAt(off));
+    } else {
+      char[] c = chunk;
+      if (c == null) {
+        c = new char[CHUNK_SIZE];
+        chunk = c;
+      }
+      while (len > 0) {
+        int count = Math.min(len, CHUNK_SIZE);
+        str.getChars(off, off + count, c, 0);
+        scan(c, 0, count);
+        off += count;
+        len -= count;
+      }
+    }
+  }
+
+  /**
+   * Writes characters that are also available encoded, one byte per character.  Each run of characters that passes
+   * through unchanged is written along with its bytes, so the wrapped writer may copy the bytes directly.
+   *
+   * @param  charset  The encoding of the bytes or {@code null} when ASCII
+   *
+   * @see  ByteSinkWriter#write(java.io.Writer, char[], int, int, byte[], int, int, java.nio.charset.Charset)
+   */
+  void write(char[] cbuf, int off, int len, byte[] bytes, int byteOff, Charset charset) throws IOException {
+    srcBytes = bytes;
+    srcBytesDelta = byteOff - off;
+    srcCharset = charset;
+    scan(cbuf, off, len);
+  }
+
+  /**
+   * Writes everything held, including any pending end tag, to the wrapped writer.  Used before the output is
+   * flushed or this writer is removed.
+   */
+  void finish() throws IOException {
+    resolvePending(false, null);
+    switch (state) {
+      case TAG_OPEN:
+      case START_TAG_NAME:
+      case END_TAG_NAME:
+        release();
+        state = IN_TAG;
+        break;
+      case BEFORE_ATTRIBUTE_VALUE:
+        emit('=');
+        state = IN_TAG;
+        break;
+      case ATTRIBUTE_VALUE:
+        writeValueStart();
+        quote = valueQuote;
+        state = IN_TAG;
+        break;
+      case AFTER_ATTRIBUTE_VALUE:
+        writeValueStart();
+        emit(valueQuote);
+        state = IN_TAG;
+        break;
+      default:
+        // Nothing held
+    }
+  }
+
+  /**
+   * Writes any pending end tag then flushes.  The end tag is kept, since the next tag is not yet known.
+   */
+  @Override
+  public void flush() throws IOException {
+    resolvePending(false, null);
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    finish();
+    out.close();
+  }
+}
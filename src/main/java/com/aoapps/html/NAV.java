@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -44,6 +44,16 @@ public final class NAV<
     PC extends SectioningContent<PC>
     > extends AnyNAV<Document, PC, NAV<PC>, NAV__<PC>, NAV_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private NAV__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private NAV_c<PC> recycledContentC;
+
   NAV(Document document, PC pc) {
     super(document, pc);
   }
@@ -51,16 +61,27 @@ public final class NAV<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.NAV);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseBlock(TagTable.Tag.NAV, closeAttributes);
   }
 
   @Override
   protected NAV__<PC> new__() {
-    return new NAV__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new NAV__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected NAV_c<PC> new_c() {
-    return new NAV_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new NAV_c<>(this);
+    }
+    return recycledContentC;
   }
 }
@@ -0,0 +1,311 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Formats numbers directly into a reusable character buffer, without boxing or intermediate strings.  The output is
+ * identical to {@link Long#toString(long)}, {@link Float#toString(float)}, and {@link Double#toString(double)}, and is
+ * independent of locale.  Floating-point values written in computerized scientific notation or with more
+ * significant digits than are formatted here still fall back to their <code>toString</code>.  Numbers never need
+ * escaping, so they are written as-is.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class NumberWriter {
+
+  /** Make no instances. */
+  private NumberWriter() {
+    throw new AssertionError();
+  }
+
+  /**
+   * The size of buffer required, which fits {@link Long#MIN_VALUE} plus the <code>.0</code> suffix.  This also fits
+   * the plain-notation fractions, which have at most a sign, <code>0.</code>, and fifteen digits.
+   */
+  static final int BUFFER_SIZE = 22;
+
+  /**
+   * Integral floating-point values below this are written in plain notation by {@link Double#toString(double)} and
+   * {@link Float#toString(float)}.
+   */
+  private static final double PLAIN_LIMIT = 1e7;
+
+  /**
+   * Formats the given value right-aligned to the given end of the buffer.
+   *
+   * @return  The index of the first character
+   */
+  private static int format(long value, char[] buf, int end) {
+    boolean negative = value < 0;
+    // Work in negative numbers to support Long.MIN_VALUE
+    long v = negative ? value : -value;
+    int pos = end;
+    do {
+      long q = v / 10;
+      buf[--pos] = (char) ('0' + (q * 10 - v));
+      v = q;
+    } while (v != 0);
+    if (negative) {
+      buf[--pos] = '-';
+    }
+    return pos;
+  }
+
+  static void write(long value, char[] buf, Writer out) throws IOException {
+    int start = format(value, buf, BUFFER_SIZE);
+    out.write(buf, start, BUFFER_SIZE - start);
+  }
+
+  /**
+   * Fractional values at or above this are written in plain notation by {@link Double#toString(double)} and
+   * {@link Float#toString(float)}.
+   */
+  private static final double PLAIN_MIN = 1e-3;
+
+  /**
+   * The most fraction digits tried for a double, beyond which its shortest form has more significant digits than the
+   * scaled value can hold exactly.
+   */
+  private static final int DOUBLE_MAX_PLACES = 15;
+
+  /**
+   * The scaled value of a double must stay below this for its digits to be exact.
+   */
+  private static final double DOUBLE_MAX_SCALED = 1e15;
+
+  /**
+   * The most fraction digits tried for a float.
+   */
+  private static final int FLOAT_MAX_PLACES = 10;
+
+  /**
+   * The scaled value of a float must stay below this, since a float has no more than seven significant digits.
+   */
+  private static final double FLOAT_MAX_SCALED = 1e6;
+
+  private static final double[] POW10 = new double[DOUBLE_MAX_PLACES + 1];
+
+  private static final float[] FLOAT_POW10 = new float[FLOAT_MAX_PLACES + 1];
+
+  static {
+    double pow = 1;
+    for (int i = 0; i < POW10.length; i++) {
+      POW10[i] = pow;
+      pow *= 10;
+    }
+    float floatPow = 1;
+    for (int i = 0; i < FLOAT_POW10.length; i++) {
+      FLOAT_POW10[i] = floatPow;
+      floatPow *= 10;
+    }
+  }
+
+  /**
+   * Writes values in plain notation, matching {@link Double#toString(double)}.  Integral values are written with the
+   * <code>.0</code> suffix.  Fractional values are written with the fewest fraction digits that convert back to the
+   * same double.
+   *
+   * <p>Only values within the plain-notation range of {@link Double#toString(double)}, <code>1e-3</code> up to
+   * <code>1e7</code>, with no more than {@value #DOUBLE_MAX_PLACES} significant digits, are formatted without
+   * allocation.  Negative zero, values written in computerized scientific notation, values with more significant
+   * digits, and non-finite values use {@link Double#toString(double)}.</p>
+   */
+  static void write(double value, char[] buf, Writer out) throws IOException {
+    long l = (long) value;
+    if (l == value && Math.abs(value) < PLAIN_LIMIT && (l != 0 || Double.doubleToRawLongBits(value) == 0)) {
+      writeIntegral(l, buf, out);
+    } else {
+      double abs = Math.abs(value);
+      if (abs >= PLAIN_MIN && abs < PLAIN_LIMIT) {
+        for (int places = 1; places <= DOUBLE_MAX_PLACES; places++) {
+          double scaled = abs * POW10[places];
+          if (scaled >= DOUBLE_MAX_SCALED) {
+            break;
+          }
+          long digits = Math.round(scaled);
+          if (digits / POW10[places] == abs) {
+            writeFraction(digits, places, value < 0, buf, out);
+            return;
+          }
+        }
+      }
+      out.write(Double.toString(value));
+    }
+  }
+
+  /**
+   * Writes values in plain notation, matching {@link Float#toString(float)}.  Integral values are written with the
+   * <code>.0</code> suffix.  Fractional values are written with the fewest fraction digits that convert back to the
+   * same float.
+   *
+   * <p>Only values within the plain-notation range of {@link Float#toString(float)}, <code>1e-3</code> up to
+   * <code>1e7</code>, with no more than six significant digits, are formatted without allocation.  Negative zero,
+   * values written in computerized scientific notation, values with more significant digits, and non-finite values
+   * use {@link Float#toString(float)}.</p>
+   */
+  static void write(float value, char[] buf, Writer out) throws IOException {
+    long l = (long) value;
+    if (l == value && Math.abs(value) < PLAIN_LIMIT && (l != 0 || Float.floatToRawIntBits(value) == 0)) {
+      writeIntegral(l, buf, out);
+    } else {
+      float abs = Math.abs(value);
+      if (abs >= PLAIN_MIN && abs < PLAIN_LIMIT) {
+        for (int places = 1; places <= FLOAT_MAX_PLACES; places++) {
+          double scaled = abs * POW10[places];
+          if (scaled >= FLOAT_MAX_SCALED) {
+            break;
+          }
+          long digits = Math.round(scaled);
+          if (digits / FLOAT_POW10[places] == abs) {
+            writeFraction(digits, places, value < 0, buf, out);
+            return;
+          }
+        }
+      }
+      out.write(Float.toString(value));
+    }
+  }
+
+  /**
+   * The number of decimal places written by {@link #writeDecimal(double, char[], java.io.Writer)}.
+   */
+  static final int DECIMAL_PLACES = 4;
+
+  private static final long DECIMAL_SCALE = 10000;
+
+  /**
+   * Values at or above this are written by {@link BigDecimal#toPlainString()} to avoid overflow.
+   */
+  private static final double DECIMAL_LIMIT = 1e11;
+
+  /**
+   * Writes the given value in plain notation, rounded to {@link #DECIMAL_PLACES} decimal places, without trailing
+   * zeros or a trailing decimal point.  This is suitable for CSS, which does not allow exponents in all contexts.
+   * Unlike {@link Double#toString(double)}, nothing is allocated for values below {@link #DECIMAL_LIMIT}.
+   *
+   * @throws  IllegalArgumentException  when the value is not finite
+   */
+  static void writeDecimal(double value, char[] buf, Writer out) throws IOException {
+    int start = formatDecimal(value, buf);
+    if (start == -1) {
+      out.write(toPlainString(value));
+    } else {
+      out.write(buf, start, BUFFER_SIZE - start);
+    }
+  }
+
+  /**
+   * Gets the number of characters written by {@link #writeDecimal(double, char[], java.io.Writer)}, formatting into
+   * the given buffer but writing nothing.
+   *
+   * @throws  IllegalArgumentException  when the value is not finite
+   */
+  static int decimalLength(double value, char[] buf) {
+    int start = formatDecimal(value, buf);
+    return (start == -1) ? toPlainString(value).length() : (BUFFER_SIZE - start);
+  }
+
+  /**
+   * Gets the number of characters written by {@link #write(long, char[], java.io.Writer)}, formatting into the given
+   * buffer but writing nothing.
+   */
+  static int length(long value, char[] buf) {
+    return BUFFER_SIZE - format(value, buf, BUFFER_SIZE);
+  }
+
+  private static String toPlainString(double value) {
+    return BigDecimal.valueOf(value).setScale(DECIMAL_PLACES, RoundingMode.HALF_UP).stripTrailingZeros().toPlainString();
+  }
+
+  /**
+   * Formats the given value for {@link #writeDecimal(double, char[], java.io.Writer)}, right-aligned to the end of
+   * the buffer.
+   *
+   * @return  The index of the first character or {@code -1} when at or above {@link #DECIMAL_LIMIT}, which is not
+   *          formatted into the buffer
+   *
+   * @throws  IllegalArgumentException  when the value is not finite
+   */
+  private static int formatDecimal(double value, char[] buf) {
+    if (!Double.isFinite(value)) {
+      throw new IllegalArgumentException("Not finite: " + value);
+    }
+    if (Math.abs(value) >= DECIMAL_LIMIT) {
+      return -1;
+    }
+    long scaled = Math.round(value * DECIMAL_SCALE);
+    boolean negative = scaled < 0;
+    long abs = negative ? -scaled : scaled;
+    int pos = BUFFER_SIZE;
+    int fraction = (int) (abs % DECIMAL_SCALE);
+    if (fraction != 0) {
+      int places = DECIMAL_PLACES;
+      while (fraction % 10 == 0) {
+        fraction /= 10;
+        places--;
+      }
+      for (int i = 0; i < places; i++) {
+        buf[--pos] = (char) ('0' + (fraction % 10));
+        fraction /= 10;
+      }
+      buf[--pos] = '.';
+    }
+    long integer = abs / DECIMAL_SCALE;
+    pos = format(negative ? -integer : integer, buf, pos);
+    if (negative && integer == 0) {
+      buf[--pos] = '-';
+    }
+    return pos;
+  }
+
+  /**
+   * Writes the given non-negative digits with the given number of them after the decimal point, zero-padded.
+   */
+  private static void writeFraction(long digits, int places, boolean negative, char[] buf, Writer out)
+      throws IOException {
+    int pos = BUFFER_SIZE;
+    for (int i = 0; i < places; i++) {
+      buf[--pos] = (char) ('0' + (digits % 10));
+      digits /= 10;
+    }
+    buf[--pos] = '.';
+    pos = format(negative ? -digits : digits, buf, pos);
+    if (negative && digits == 0) {
+      buf[--pos] = '-';
+    }
+    out.write(buf, pos, BUFFER_SIZE - pos);
+  }
+
+  private static void writeIntegral(long value, char[] buf, Writer out) throws IOException {
+    buf[BUFFER_SIZE - 2] = '.';
+    buf[BUFFER_SIZE - 1] = '0';
+    int start = format(value, buf, BUFFER_SIZE - 2);
+    out.write(buf, start, BUFFER_SIZE - start);
+  }
+}
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class OL<
     PC extends PalpableContent<PC>
     > extends AnyOL<Document, PC, OL<PC>, OL__<PC>, OL_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private OL__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private OL_c<PC> recycledContentC;
+
   OL(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class OL<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.OL);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseBlock(TagTable.Tag.OL, closeAttributes);
   }
 
   @Override
   protected OL__<PC> new__() {
-    return new OL__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new OL__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected OL_c<PC> new_c() {
-    return new OL_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new OL_c<>(this);
+    }
+    return recycledContentC;
   }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -44,6 +44,16 @@ public final class OUTPUT<
     PC extends Union_Palpable_Phrasing<PC>
     > extends AnyOUTPUT<Document, PC, OUTPUT<PC>, OUTPUT__<PC>, OUTPUT_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private OUTPUT__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private OUTPUT_c<PC> recycledContentC;
+
   OUTPUT(Document document, PC pc) {
     super(document, pc);
   }
@@ -51,16 +61,27 @@ public final class OUTPUT<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenInline(TagTable.Tag.OUTPUT);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseInline(TagTable.Tag.OUTPUT, closeAttributes);
   }
 
   @Override
   protected OUTPUT__<PC> new__() {
-    return new OUTPUT__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new OUTPUT__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected OUTPUT_c<PC> new_c() {
-    return new OUTPUT_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new OUTPUT_c<>(this);
+    }
+    return recycledContentC;
   }
 }
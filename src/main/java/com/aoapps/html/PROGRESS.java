@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -51,7 +51,76 @@ public final class PROGRESS<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenInline(TagTable.Tag.PROGRESS);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseInline(TagTable.Tag.PROGRESS, closeAttributes);
+  }
+
+  /**
+   * See <a href="https://developer.mozilla.org/en-US/docs/Web/HTML/Element/progress#attr-value">&lt;progress&gt;: value attribute</a>.
+   *
+   * <p>Formatted directly to the output, with no boxing or intermediate string.</p>
+   */
+  public PROGRESS<PC> value(long value) throws IOException {
+    document.writeAttribute("value", value);
+    return this;
+  }
+
+  /**
+   * See <a href="https://developer.mozilla.org/en-US/docs/Web/HTML/Element/progress#attr-value">&lt;progress&gt;: value attribute</a>.
+   *
+   * <p>Formatted directly to the output, with no boxing or intermediate string when in plain notation.  The
+   * output is the same as {@link Float#toString(float)}.</p>
+   */
+  public PROGRESS<PC> value(float value) throws IOException {
+    document.writeAttribute("value", value);
+    return this;
+  }
+
+  /**
+   * See <a href="https://developer.mozilla.org/en-US/docs/Web/HTML/Element/progress#attr-value">&lt;progress&gt;: value attribute</a>.
+   *
+   * <p>Formatted directly to the output, with no boxing or intermediate string when in plain notation.  The
+   * output is the same as {@link Double#toString(double)}.</p>
+   */
+  public PROGRESS<PC> value(double value) throws IOException {
+    document.writeAttribute("value", value);
+    return this;
+  }
+
+  /**
+   * See <a href="https://developer.mozilla.org/en-US/docs/Web/HTML/Element/progress#attr-max">&lt;progress&gt;: max attribute</a>.
+   *
+   * <p>Formatted directly to the output, with no boxing or intermediate string.</p>
+   */
+  public PROGRESS<PC> max(long max) throws IOException {
+    document.writeAttribute("max", max);
+    return this;
+  }
+
+  /**
+   * See <a href="https://developer.mozilla.org/en-US/docs/Web/HTML/Element/progress#attr-max">&lt;progress&gt;: max attribute</a>.
+   *
+   * <p>Formatted directly to the output, with no boxing or intermediate string when in plain notation.  The
+   * output is the same as {@link Float#toString(float)}.</p>
+   */
+  public PROGRESS<PC> max(float max) throws IOException {
+    document.writeAttribute("max", max);
+    return this;
+  }
+
+  /**
+   * See <a href="https://developer.mozilla.org/en-US/docs/Web/HTML/Element/progress#attr-max">&lt;progress&gt;: max attribute</a>.
+   *
+   * <p>Formatted directly to the output, with no boxing or intermediate string when in plain notation.  The
+   * output is the same as {@link Double#toString(double)}.</p>
+   */
+  public PROGRESS<PC> max(double max) throws IOException {
+    document.writeAttribute("max", max);
+    return this;
   }
 
   @Override
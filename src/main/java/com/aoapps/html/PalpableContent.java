@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -71,7 +71,7 @@ public interface PalpableContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    ADDRESS<__> e = new ADDRESS<>(document, pc);
+    ADDRESS<__> e = document.element(pc, ADDRESS.class, ADDRESS::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -111,7 +111,7 @@ public interface PalpableContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    BLOCKQUOTE<__> e = new BLOCKQUOTE<>(document, pc);
+    BLOCKQUOTE<__> e = document.element(pc, BLOCKQUOTE.class, BLOCKQUOTE::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -153,7 +153,7 @@ public interface PalpableContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    DL<__> e = new DL<>(document, pc);
+    DL<__> e = document.element(pc, DL.class, DL::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -193,7 +193,7 @@ public interface PalpableContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    FOOTER<__> e = new FOOTER<>(document, pc);
+    FOOTER<__> e = document.element(pc, FOOTER.class, FOOTER::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -229,7 +229,7 @@ public interface PalpableContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    FORM<__> e = new FORM<>(document, pc);
+    FORM<__> e = document.element(pc, FORM.class, FORM::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -284,7 +284,7 @@ public interface PalpableContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    HEADER<__> e = new HEADER<>(document, pc);
+    HEADER<__> e = document.element(pc, HEADER.class, HEADER::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -328,7 +328,7 @@ public interface PalpableContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    MAIN<__> e = new MAIN<>(document, pc);
+    MAIN<__> e = document.element(pc, MAIN.class, MAIN::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -371,7 +371,7 @@ public interface PalpableContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    OL<__> e = new OL<>(document, pc);
+    OL<__> e = document.element(pc, OL.class, OL::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -406,7 +406,7 @@ public interface PalpableContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    P<__> e = new P<>(document, pc);
+    P<__> e = document.element(pc, P.class, P::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -440,7 +440,7 @@ public interface PalpableContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    PRE<__> e = new PRE<>(document, pc);
+    PRE<__> e = document.element(pc, PRE.class, PRE::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -487,7 +487,7 @@ public interface PalpableContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    TABLE<__> e = new TABLE<>(document, pc);
+    TABLE<__> e = document.element(pc, TABLE.class, TABLE::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -524,7 +524,7 @@ public interface PalpableContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    UL<__> e = new UL<>(document, pc);
+    UL<__> e = document.element(pc, UL.class, UL::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
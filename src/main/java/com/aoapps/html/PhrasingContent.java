@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -167,7 +167,7 @@ public interface PhrasingContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    BR<__> e = new BR<>(document, pc);
+    BR<__> e = document.element(pc, BR.class, BR::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -185,7 +185,7 @@ public interface PhrasingContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    DATALIST<__> e = new DATALIST<>(document, pc);
+    DATALIST<__> e = document.element(pc, DATALIST.class, DATALIST::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -221,7 +221,7 @@ public interface PhrasingContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    DEL<__> e = new DEL<>(document, pc);
+    DEL<__> e = document.element(pc, DEL.class, DEL::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -280,7 +280,7 @@ public interface PhrasingContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    WBR<__> e = new WBR<>(document, pc);
+    WBR<__> e = document.element(pc, WBR.class, WBR::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -0,0 +1,148 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import com.aoapps.encoding.Serialization;
+
+/**
+ * Checks the body of a raw text element, <code>&lt;style&gt;</code> or <code>&lt;script&gt;</code>, for any sequence
+ * that would end the element or change how it is parsed.  Raw text cannot be escaped, so content containing these
+ * sequences is rejected.
+ *
+ * <p>The body is checked incrementally in a single pass, so may be streamed in chunks of any size.  Sequences split
+ * across chunks are still found.  A new checker is required for each body.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class RawTextChecker {
+
+  private final char[][] patterns;
+
+  /**
+   * The Knuth-Morris-Pratt failure function for each pattern.
+   */
+  private final int[][] failures;
+
+  /**
+   * The number of characters currently matched for each pattern.
+   */
+  private final int[] matched;
+
+  /**
+   * The position of the next character, for error messages.
+   */
+  private long position;
+
+  /**
+   * @param  tag  Either {@link TagTable.Tag#STYLE} or {@link TagTable.Tag#SCRIPT}
+   * @param  serialization  When {@link Serialization#XML}, the body is also checked for the end of a
+   *                        <code>CDATA</code> section
+   */
+  RawTextChecker(TagTable.Tag tag, Serialization serialization) {
+    String end;
+    boolean script;
+    switch (tag) {
+      case STYLE:
+        end = "</style";
+        script = false;
+        break;
+      case SCRIPT:
+        end = "</script";
+        script = true;
+        break;
+      default:
+        throw new IllegalArgumentException("Not a raw text element: " + tag);
+    }
+    int count = 1 + (script ? 1 : 0) + (serialization == Serialization.XML ? 1 : 0);
+    patterns = new char[count][];
+    int i = 0;
+    patterns[i++] = end.toCharArray();
+    if (script) {
+      // Enters the script data escaped state
+      patterns[i++] = "<!--".toCharArray();
+    }
+    if (serialization == Serialization.XML) {
+      patterns[i++] = "]]>".toCharArray();
+    }
+    failures = new int[count][];
+    for (i = 0; i < count; i++) {
+      failures[i] = failure(patterns[i]);
+    }
+    matched = new int[count];
+  }
+
+  private static int[] failure(char[] pattern) {
+    int[] failure = new int[pattern.length];
+    int k = 0;
+    for (int i = 1; i < pattern.length; i++) {
+      while (k > 0 && pattern[i] != pattern[k]) {
+        k = failure[k - 1];
+      }
+      if (pattern[i] == pattern[k]) {
+        k++;
+      }
+      failure[i] = k;
+    }
+    return failure;
+  }
+
+  /**
+   * Checks the next chunk of the body.
+   *
+   * @throws  IllegalArgumentException  when the body contains a sequence that cannot be written in raw text
+   */
+  void check(char[] cbuf, int off, int len) {
+    char[][] p = patterns;
+    int count = p.length;
+    int end = off + len;
+    for (int i = off; i < end; i++) {
+      char c = cbuf[i];
+      if (c >= 'A' && c <= 'Z') {
+        c += 'a' - 'A';
+      }
+      for (int j = 0; j < count; j++) {
+        char[] pattern = p[j];
+        int k = matched[j];
+        if (k == 0 && c != pattern[0]) {
+          // Fast path: not at the start of any pattern
+          continue;
+        }
+        int[] failure = failures[j];
+        while (k > 0 && c != pattern[k]) {
+          k = failure[k - 1];
+        }
+        if (c == pattern[k]) {
+          k++;
+          if (k == pattern.length) {
+            throw new IllegalArgumentException(
+                "Raw text may not contain \"" + new String(pattern) + "\" at position "
+                    + (position + (i - off) - (k - 1)));
+          }
+        }
+        matched[j] = k;
+      }
+    }
+    position += len;
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+/**
+ * Flight Recorder events for attributing rendering latency to parts of a page.  Each has a default threshold, so only
+ * slow spans are committed; the thresholds may be changed in the recording settings.  When Flight Recorder is not
+ * recording an event, nothing is allocated for it.
+ *
+ * <p>The document and element spans begin when the open tag is written and end when the end tag is written, so they
+ * cover both the lambda forms, such as <code>table__(…)</code>, and the other forms, such as
+ * <code>table().attr(…).__(…)</code> and <code>table_c()</code>.  A span whose element is never closed, such as when
+ * its body throws an exception, is not committed.</p>
+ *
+ * <p>The <code>jdk.jfr</code> module is optional.  When it is not in the boot layer, such as on a runtime image
+ * without it or on the module path without <code>--add-modules jdk.jfr</code>, each event is {@code null} and costs
+ * nothing at all.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class RenderEvents {
+
+  /** Make no instances. */
+  private RenderEvents() {
+    throw new AssertionError();
+  }
+
+  private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr")
+      .map(RenderEvents.class.getModule()::canRead)
+      .orElse(false);
+
+  /**
+   * Begins the rendering of an entire document, from <code>&lt;html&gt;</code> through <code>&lt;/html&gt;</code>.
+   *
+   * @return  The event to {@linkplain #end(java.lang.Object) end} or {@code null} when not recording
+   */
+  static Object beginDocument(Document document) {
+    return AVAILABLE ? JfrEvents.beginDocument(document) : null;
+  }
+
+  /**
+   * Begins the rendering of a selected element and its body: <code>&lt;body&gt;</code>, <code>&lt;table&gt;</code>,
+   * <code>&lt;form&gt;</code>, or <code>&lt;section&gt;</code>.
+   *
+   * @return  The event to {@linkplain #end(java.lang.Object) end} or {@code null} when not recording
+   */
+  static Object beginElement(String element) {
+    return AVAILABLE ? JfrEvents.beginElement(element) : null;
+  }
+
+  /**
+   * Begins the writing of a cached fragment, including its rendering on a miss.
+   *
+   * @return  The event to {@linkplain #endFragment(java.lang.Object, java.lang.Object, boolean, int) end} or
+   *          {@code null} when not recording
+   */
+  static Object beginFragment() {
+    return AVAILABLE ? JfrEvents.beginFragment() : null;
+  }
+
+  /**
+   * Begins a flush of the document output.
+   *
+   * @return  The event to {@linkplain #end(java.lang.Object) end} or {@code null} when not recording
+   */
+  static Object beginFlush() {
+    return AVAILABLE ? JfrEvents.beginFlush() : null;
+  }
+
+  /**
+   * Begins the writing of text by the paths in this module that write text directly.
+   *
+   * @param  length  The number of characters of text, or {@code -1} when not known in advance
+   *
+   * @return  The event to {@linkplain #end(java.lang.Object) end} or {@code null} when not recording
+   */
+  static Object beginText(long length) {
+    return AVAILABLE ? JfrEvents.beginText(length) : null;
+  }
+
+  /**
+   * Ends and commits an event, if its duration is over its threshold.
+   *
+   * @param  event  The event or {@code null} when not recording
+   */
+  static void end(Object event) {
+    if (event != null) {
+      JfrEvents.commit(event);
+    }
+  }
+
+  /**
+   * Ends and commits a fragment event, if its duration is over its threshold.
+   *
+   * @param  event  The event or {@code null} when not recording
+   */
+  static void endFragment(Object event, Object key, boolean hit, int length) {
+    if (event != null) {
+      JfrEvents.commitFragment(event, key, hit, length);
+    }
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Counts what a document writes, for finding expensive pages.  Attach with
+ * {@link Document#setMetrics(com.aoapps.html.RenderMetrics)}, typically on a sampling of requests.
+ *
+ * <p>All counts are taken from the markup as it is written, so they include everything written by the document,
+ * including raw output and cached fragments.  When no metrics are attached, the document writes directly to its
+ * output with no additional cost.</p>
+ *
+ * <p>This is not thread-safe and should only be attached to one document at a time.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class RenderMetrics {
+
+  private final Map<String, long[]> elements = new HashMap<>();
+  private long attributes;
+  private long textChars;
+  private long references;
+  private long chars;
+  private long bytes;
+  private long writes;
+  private long flushes;
+  private int maxDepth;
+
+  void elementOpened(String name) {
+    long[] count = elements.get(name);
+    if (count == null) {
+      elements.put(name, new long[] {1});
+    } else {
+      count[0]++;
+    }
+  }
+
+  void attributeWritten() {
+    attributes++;
+  }
+
+  void textWritten(int count) {
+    textChars += count;
+  }
+
+  void referenceWritten() {
+    references++;
+  }
+
+  void write(int count) {
+    writes++;
+    chars += count;
+  }
+
+  void flushed() {
+    flushes++;
+  }
+
+  void setBytes(long bytes) {
+    this.bytes = bytes;
+  }
+
+  void depth(int depth) {
+    if (depth > maxDepth) {
+      maxDepth = depth;
+    }
+  }
+
+  /**
+   * Gets the number of elements opened, by tag name.
+   */
+  public Map<String, Long> getElements() {
+    Map<String, Long> counts = new TreeMap<>();
+    for (Map.Entry<String, long[]> entry : elements.entrySet()) {
+      counts.put(entry.getKey(), entry.getValue()[0]);
+    }
+    return Collections.unmodifiableMap(counts);
+  }
+
+  /**
+   * Gets the total number of elements opened.
+   */
+  public long getElementCount() {
+    long total = 0;
+    for (long[] count : elements.values()) {
+      total += count[0];
+    }
+    return total;
+  }
+
+  /**
+   * Gets the number of attributes written.
+   */
+  public long getAttributes() {
+    return attributes;
+  }
+
+  /**
+   * Gets the number of characters written as text, outside of tags, including character references.
+   */
+  public long getTextChars() {
+    return textChars;
+  }
+
+  /**
+   * Gets the number of character references written, such as <code>&amp;lt;</code>, in both text and attribute
+   * values.  This is the number of characters that were escaped.
+   */
+  public long getReferences() {
+    return references;
+  }
+
+  /**
+   * Gets the total number of characters written.
+   */
+  public long getChars() {
+    return chars;
+  }
+
+  /**
+   * Gets the number of bytes encoded, as of the last flush, when writing to an {@link java.io.OutputStream} or
+   * {@link java.nio.channels.WritableByteChannel}.  Otherwise, the encoding is not known and this is {@code 0}.
+   */
+  public long getBytes() {
+    return bytes;
+  }
+
+  /**
+   * Gets the number of calls to write on the underlying writer.
+   */
+  public long getWrites() {
+    return writes;
+  }
+
+  /**
+   * Gets the number of calls to flush on the underlying writer.
+   */
+  public long getFlushes() {
+    return flushes;
+  }
+
+  /**
+   * Gets the maximum nesting depth of elements.
+   */
+  public int getMaxDepth() {
+    return maxDepth;
+  }
+
+  @Override
+  public String toString() {
+    return RenderMetrics.class.getSimpleName()
+        + "{elements=" + getElementCount()
+        + ", attributes=" + attributes
+        + ", textChars=" + textChars
+        + ", references=" + references
+        + ", chars=" + chars
+        + ", bytes=" + bytes
+        + ", writes=" + writes
+        + ", flushes=" + flushes
+        + ", maxDepth=" + maxDepth
+        + '}';
+  }
+}
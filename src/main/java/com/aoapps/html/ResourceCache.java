@@ -0,0 +1,410 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import com.aoapps.encoding.Serialization;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A bounded cache of static files, such as critical CSS and JavaScript, that are inlined into
+ * <code>&lt;style&gt;</code> and <code>&lt;script&gt;</code> bodies.  Each file is read and checked once, then
+ * copied to the output on each hit.
+ *
+ * <p>Files are keyed by path, element, and {@link Serialization}, and are reloaded when their file key, last modified
+ * time, or size changes.  This costs one file attribute lookup per use.  Each file is copied when loaded, so changes
+ * to the file after it is checked never affect the output.</p>
+ *
+ * <p>Files smaller than {@link #DIRECT_THRESHOLD} bytes are kept decoded on the heap.  Larger files are kept as bytes
+ * in a direct buffer, off the heap.  When writing these to a document with the same, ASCII-compatible, character
+ * encoding as the files, the bytes are copied to the output directly, without decoding or encoding.  Otherwise they
+ * are decoded in chunks as written.  Only one form of each file is kept.</p>
+ *
+ * <p>The least recently used file is evicted when either the maximum number of files or the maximum total bytes is
+ * exceeded.</p>
+ *
+ * <p>This is thread-safe and may be shared by all documents.</p>
+ *
+ * @see  MetadataContent#style__(com.aoapps.html.ResourceCache, java.nio.file.Path)
+ * @see  ScriptSupportingContent#script__(com.aoapps.html.ResourceCache, java.nio.file.Path)
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class ResourceCache {
+
+  /**
+   * Files of at least this many bytes are kept as bytes in a direct buffer.
+   */
+  public static final int DIRECT_THRESHOLD = 64 * 1024;
+
+  /**
+   * The number of characters decoded at a time from direct buffers.
+   */
+  private static final int CHUNK_SIZE = 4096;
+
+  /**
+   * The identity of a resource.
+   */
+  private static final class Key {
+
+    private final Path file;
+    private final TagTable.Tag tag;
+    private final Serialization serialization;
+    private final int hash;
+
+    private Key(Path file, TagTable.Tag tag, Serialization serialization) {
+      this.file = file;
+      this.tag = tag;
+      this.serialization = serialization;
+      int h = file.hashCode();
+      h = h * 31 + tag.hashCode();
+      h = h * 31 + serialization.hashCode();
+      this.hash = h;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return
+          hash == other.hash
+              && tag == other.tag
+              && serialization == other.serialization
+              && file.equals(other.file);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  /**
+   * A checked file.
+   */
+  static final class Resource {
+
+    private final Object fileKey;
+    private final FileTime lastModified;
+    private final long size;
+
+    /**
+     * The number of file bytes, after any byte order mark.
+     */
+    private final int length;
+
+    /**
+     * The file bytes, after any byte order mark, or {@code null} when decoded.  A direct buffer copied from the file.
+     * Never modified, and only read through duplicates.
+     */
+    private final ByteBuffer bytes;
+
+    /**
+     * The decoded file, or {@code null} when kept as bytes.
+     */
+    private final char[] chars;
+
+    private final Charset charset;
+
+    private Resource(BasicFileAttributes attributes, int length, ByteBuffer bytes, char[] chars, Charset charset) {
+      this.fileKey = attributes.fileKey();
+      this.lastModified = attributes.lastModifiedTime();
+      this.size = attributes.size();
+      this.length = length;
+      this.bytes = bytes;
+      this.chars = chars;
+      this.charset = charset;
+    }
+
+    private boolean isCurrent(BasicFileAttributes attributes) {
+      return
+          size == attributes.size()
+              && lastModified.equals(attributes.lastModifiedTime())
+              && Objects.equals(fileKey, attributes.fileKey());
+    }
+
+    /**
+     * Writes this resource.  When kept as bytes, the bytes are copied directly when writing to a
+     * {@link ByteSinkWriter} in the same, ASCII-compatible, character encoding.
+     */
+    void writeTo(Writer out) throws IOException {
+      if (chars != null) {
+        out.write(chars, 0, chars.length);
+      } else {
+        if (out instanceof ByteSinkWriter) {
+          ByteSinkWriter sink = (ByteSinkWriter) out;
+          if (sink.isAsciiCompatible() && sink.getCharset().equals(charset)) {
+            sink.writeBytes(bytes.duplicate());
+            return;
+          }
+        }
+        CharsetDecoder decoder = newDecoder(charset);
+        ByteBuffer in = bytes.duplicate();
+        char[] buf = new char[CHUNK_SIZE];
+        CharBuffer cb = CharBuffer.wrap(buf);
+        CoderResult result;
+        do {
+          result = decoder.decode(in, cb, true);
+          if (result.isError()) {
+            // Already checked when loaded
+            throw new AssertionError(result.toString());
+          }
+          out.write(buf, 0, cb.position());
+          cb.clear();
+        } while (result.isOverflow());
+        while (decoder.flush(cb).isOverflow()) {
+          out.write(buf, 0, cb.position());
+          cb.clear();
+        }
+        out.write(buf, 0, cb.position());
+      }
+    }
+  }
+
+  private static CharsetDecoder newDecoder(Charset charset) {
+    return charset.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPORT)
+        .onUnmappableCharacter(CodingErrorAction.REPORT);
+  }
+
+  private final int maxResources;
+  private final long maxBytes;
+  private final Charset charset;
+
+  private final LinkedHashMap<Key, Resource> resources = new LinkedHashMap<>(16, 0.75f, true);
+
+  private long totalBytes;
+  private long hits;
+  private long misses;
+  private long evictions;
+
+  /**
+   * @param  maxResources  The maximum number of files retained
+   * @param  maxBytes      The maximum total bytes in all retained files, including those in direct buffers.  A file
+   *                       larger than this is read and checked each time.
+   * @param  charset       The character encoding of the files
+   */
+  public ResourceCache(int maxResources, long maxBytes, Charset charset) {
+    if (maxResources < 1) {
+      throw new IllegalArgumentException("maxResources < 1: " + maxResources);
+    }
+    if (maxBytes < 1) {
+      throw new IllegalArgumentException("maxBytes < 1: " + maxBytes);
+    }
+    this.maxResources = maxResources;
+    this.maxBytes = maxBytes;
+    this.charset = Objects.requireNonNull(charset);
+  }
+
+  /**
+   * Creates a cache of UTF-8 files limited only by the number of files.
+   *
+   * @param  maxResources  The maximum number of files retained
+   */
+  public ResourceCache(int maxResources) {
+    this(maxResources, Long.MAX_VALUE, StandardCharsets.UTF_8);
+  }
+
+  public int getMaxResources() {
+    return maxResources;
+  }
+
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  public Charset getCharset() {
+    return charset;
+  }
+
+  /**
+   * Gets the number of files currently retained.
+   */
+  public synchronized int size() {
+    return resources.size();
+  }
+
+  /**
+   * Gets the total bytes in all files currently retained.
+   */
+  public synchronized long getTotalBytes() {
+    return totalBytes;
+  }
+
+  /**
+   * Gets the number of times a file was written from this cache.
+   */
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  /**
+   * Gets the number of times a file was not found, or had changed, and had to be read.
+   */
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Gets the number of files removed to stay within the limits.
+   */
+  public synchronized long getEvictions() {
+    return evictions;
+  }
+
+  /**
+   * Removes all files.  The counters are not reset.
+   */
+  public synchronized void clear() {
+    resources.clear();
+    totalBytes = 0;
+  }
+
+  /**
+   * Gets a file, reading and checking it when not yet cached or changed since cached.
+   *
+   * @throws  IllegalArgumentException  when the file contains a sequence that cannot be written in the element
+   */
+  Resource get(Path file, TagTable.Tag tag, Serialization serialization) throws IOException {
+    Key key = new Key(file.toAbsolutePath().normalize(), tag, serialization);
+    BasicFileAttributes attributes = Files.readAttributes(key.file, BasicFileAttributes.class);
+    synchronized (this) {
+      Resource resource = resources.get(key);
+      if (resource != null && resource.isCurrent(attributes)) {
+        hits++;
+        return resource;
+      }
+      misses++;
+    }
+    Resource resource = load(key, attributes);
+    long size = resource.length;
+    if (size <= maxBytes) {
+      synchronized (this) {
+        Resource old = resources.put(key, resource);
+        if (old != null) {
+          // Changed or loaded concurrently by another thread
+          totalBytes -= old.length;
+        }
+        totalBytes += size;
+        Iterator<Map.Entry<Key, Resource>> iter = resources.entrySet().iterator();
+        while (resources.size() > maxResources || totalBytes > maxBytes) {
+          Resource eldest = iter.next().getValue();
+          iter.remove();
+          totalBytes -= eldest.length;
+          evictions++;
+        }
+      }
+    }
+    return resource;
+  }
+
+  private Resource load(Key key, BasicFileAttributes attributes) throws IOException {
+    ByteBuffer bytes;
+    try (FileChannel channel = FileChannel.open(key.file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException("File too large: " + key.file);
+      }
+      // Copied instead of mapped, so the file may be changed or truncated while cached
+      bytes = (size >= DIRECT_THRESHOLD) ? ByteBuffer.allocateDirect((int) size) : ByteBuffer.allocate((int) size);
+      while (bytes.hasRemaining() && channel.read(bytes) != -1) {
+        // Read fully
+      }
+      bytes.flip();
+    }
+    if (
+        StandardCharsets.UTF_8.equals(charset)
+            && bytes.remaining() >= 3
+            && bytes.get(0) == (byte) 0xEF
+            && bytes.get(1) == (byte) 0xBB
+            && bytes.get(2) == (byte) 0xBF
+    ) {
+      bytes.position(3);
+      bytes = bytes.slice();
+    }
+    int length = bytes.remaining();
+    RawTextChecker checker = new RawTextChecker(key.tag, key.serialization);
+    CharsetDecoder decoder = newDecoder(charset);
+    char[] chars;
+    try {
+      if (!bytes.isDirect()) {
+        CharBuffer decoded = decoder.decode(bytes);
+        chars = new char[decoded.remaining()];
+        decoded.get(chars);
+        checker.check(chars, 0, chars.length);
+      } else {
+        chars = null;
+        // Check in chunks, without keeping the decoded characters
+        ByteBuffer in = bytes.duplicate();
+        char[] buf = new char[CHUNK_SIZE];
+        CharBuffer cb = CharBuffer.wrap(buf);
+        CoderResult result;
+        do {
+          result = decoder.decode(in, cb, true);
+          if (result.isError()) {
+            result.throwException();
+          }
+          checker.check(buf, 0, cb.position());
+          cb.clear();
+        } while (result.isOverflow());
+        while (decoder.flush(cb).isOverflow()) {
+          checker.check(buf, 0, cb.position());
+          cb.clear();
+        }
+        checker.check(buf, 0, cb.position());
+      }
+    } catch (CharacterCodingException e) {
+      throw new IOException("Unable to decode as " + charset + ": " + key.file, e);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(key.file + ": " + e.getMessage(), e);
+    }
+    // Only one form is kept
+    return (chars != null)
+        ? new Resource(attributes, length, null, chars, charset)
+        : new Resource(attributes, length, bytes, null, charset);
+  }
+}
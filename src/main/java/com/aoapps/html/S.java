@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class S<
     PC extends Union_Palpable_Phrasing<PC>
     > extends AnyS<Document, PC, S<PC>, S__<PC>, S_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private S__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private S_c<PC> recycledContentC;
+
   S(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class S<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenInline(TagTable.Tag.S);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseInline(TagTable.Tag.S, closeAttributes);
   }
 
   @Override
   protected S__<PC> new__() {
-    return new S__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new S__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected S_c<PC> new_c() {
-    return new S_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new S_c<>(this);
+    }
+    return recycledContentC;
   }
 }
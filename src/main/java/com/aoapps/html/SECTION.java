@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -44,6 +44,21 @@ public final class SECTION<
     PC extends SectioningContent<PC>
     > extends AnySECTION<Document, PC, SECTION<PC>, SECTION__<PC>, SECTION_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private SECTION__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private SECTION_c<PC> recycledContentC;
+
+  /**
+   * The Flight Recorder event spanning this element, or {@code null} when not recording.
+   */
+  private Object event;
+
   SECTION(Document document, PC pc) {
     super(document, pc);
   }
@@ -51,16 +66,30 @@ public final class SECTION<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    event = RenderEvents.beginElement("section");
+    document.writeOpenBlock(TagTable.Tag.SECTION);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseBlock(TagTable.Tag.SECTION, closeAttributes);
+    RenderEvents.end(event);
+    event = null;
   }
 
   @Override
   protected SECTION__<PC> new__() {
-    return new SECTION__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new SECTION__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected SECTION_c<PC> new_c() {
-    return new SECTION_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new SECTION_c<>(this);
+    }
+    return recycledContentC;
   }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -67,7 +67,7 @@ public interface SELECT_content<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    OPTGROUP<__> e = new OPTGROUP<>(document, pc);
+    OPTGROUP<__> e = document.element(pc, OPTGROUP.class, OPTGROUP::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
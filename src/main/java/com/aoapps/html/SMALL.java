@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class SMALL<
     PC extends Union_Palpable_Phrasing<PC>
     > extends AnySMALL<Document, PC, SMALL<PC>, SMALL__<PC>, SMALL_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private SMALL__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private SMALL_c<PC> recycledContentC;
+
   SMALL(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class SMALL<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenInline(TagTable.Tag.SMALL);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseInline(TagTable.Tag.SMALL, closeAttributes);
   }
 
   @Override
   protected SMALL__<PC> new__() {
-    return new SMALL__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new SMALL__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected SMALL_c<PC> new_c() {
-    return new SMALL_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new SMALL_c<>(this);
+    }
+    return recycledContentC;
   }
 }
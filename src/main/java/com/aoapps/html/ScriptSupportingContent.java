@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -26,8 +26,13 @@ package com.aoapps.html;
 import com.aoapps.html.any.AnySCRIPT;
 import com.aoapps.html.any.AnyScriptSupportingContent;
 import com.aoapps.html.any.Suppliers;
+import com.aoapps.lang.io.function.IOConsumerE;
 import com.aoapps.lang.io.function.IOSupplierE;
 import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 
 /**
  * See <a href="https://html.spec.whatwg.org/multipage/dom.html#script-supporting-elements">3.2.5.2.9 Script-supporting elements</a>.
@@ -105,6 +110,87 @@ public interface ScriptSupportingContent<
   default <Ex extends Throwable> SCRIPT<__> script(IOSupplierE<AnySCRIPT.Type, Ex> type) throws IOException, Ex {
     return script((type == null) ? null : type.get());
   }
+
+  /**
+   * Writes a <code>&lt;script&gt;</code> with the given file as its body.  The file is read and checked once, then
+   * copied from the cache on each use.
+   *
+   * @return  This content model
+   *
+   * @throws  IllegalArgumentException  when the file contains a sequence that cannot be written in the element, such
+   *                                    as <code>&lt;/script</code>
+   *
+   * @see  ResourceCache
+   */
+  default __ script__(ResourceCache cache, Path file) throws IOException {
+    getDocument().writeRawText(TagTable.Tag.SCRIPT, cache, file);
+    @SuppressWarnings("unchecked")
+    __ content = (__) this;
+    return content;
+  }
+
+  /**
+   * Writes a <code>&lt;script&gt;</code>, streaming its body from the given reader through a fixed buffer.  The
+   * body is checked as it is written.  The reader is not closed.
+   *
+   * @return  This content model
+   *
+   * @throws  IllegalArgumentException  when the content contains a sequence that cannot be written in the element,
+   *                                    such as <code>&lt;/script</code>
+   */
+  default __ script__(Reader script) throws IOException {
+    getDocument().writeRawText(TagTable.Tag.SCRIPT, script);
+    @SuppressWarnings("unchecked")
+    __ content = (__) this;
+    return content;
+  }
+
+  /**
+   * Writes a <code>&lt;script&gt;</code>, streaming its body from the given channel through a fixed buffer.  The
+   * body is checked as it is written.  The channel is not closed.
+   *
+   * @return  This content model
+   *
+   * @throws  IllegalArgumentException  when the content contains a sequence that cannot be written in the element,
+   *                                    such as <code>&lt;/script</code>
+   */
+  default __ script__(ReadableByteChannel script, Charset charset) throws IOException {
+    getDocument().writeRawText(TagTable.Tag.SCRIPT, script, charset);
+    @SuppressWarnings("unchecked")
+    __ content = (__) this;
+    return content;
+  }
+
+  /**
+   * Writes a <code>&lt;script type="application/json"&gt;</code>, streaming the JSON directly into its body.
+   *
+   * @param  <Ex>  An arbitrary exception type that may be thrown
+   *
+   * @return  This content model
+   *
+   * @see  JsonWriter
+   */
+  default <Ex extends Throwable> __ json__(IOConsumerE<? super JsonWriter, Ex> json) throws IOException, Ex {
+    return json__("application/json", json);
+  }
+
+  /**
+   * Writes a <code>&lt;script&gt;</code> of the given JSON type, such as <code>application/ld+json</code>, streaming
+   * the JSON directly into its body.  The <code>&lt;script&gt;</code> is closed even when the body throws an
+   * exception.
+   *
+   * @param  <Ex>  An arbitrary exception type that may be thrown
+   *
+   * @return  This content model
+   *
+   * @see  JsonWriter
+   */
+  default <Ex extends Throwable> __ json__(String type, IOConsumerE<? super JsonWriter, Ex> json) throws IOException, Ex {
+    getDocument().writeJson(type, json);
+    @SuppressWarnings("unchecked")
+    __ content = (__) this;
+    return content;
+  }
   // </editor-fold>
   // Inherited: TEMPLATE
 }
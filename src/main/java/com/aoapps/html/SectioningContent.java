@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -56,7 +56,7 @@ public interface SectioningContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    ARTICLE<__> e = new ARTICLE<>(document, pc);
+    ARTICLE<__> e = document.element(pc, ARTICLE.class, ARTICLE::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -92,7 +92,7 @@ public interface SectioningContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    ASIDE<__> e = new ASIDE<>(document, pc);
+    ASIDE<__> e = document.element(pc, ASIDE.class, ASIDE::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -128,7 +128,7 @@ public interface SectioningContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    NAV<__> e = new NAV<>(document, pc);
+    NAV<__> e = document.element(pc, NAV.class, NAV::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -164,7 +164,7 @@ public interface SectioningContent<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    SECTION<__> e = new SECTION<>(document, pc);
+    SECTION<__> e = document.element(pc, SECTION.class, SECTION::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -43,6 +43,21 @@ public final class TABLE<
     PC extends PalpableContent<PC>
     > extends AnyTABLE<Document, PC, TABLE<PC>, TABLE__<PC>, TABLE_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private TABLE__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private TABLE_c<PC> recycledContentC;
+
+  /**
+   * The Flight Recorder event spanning this element, or {@code null} when not recording.
+   */
+  private Object event;
+
   TABLE(Document document, PC pc) {
     super(document, pc);
   }
@@ -50,16 +65,30 @@ public final class TABLE<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    event = RenderEvents.beginElement("table");
+    document.writeOpenBlock(TagTable.Tag.TABLE);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseBlock(TagTable.Tag.TABLE, closeAttributes);
+    RenderEvents.end(event);
+    event = null;
   }
 
   @Override
   protected TABLE__<PC> new__() {
-    return new TABLE__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new TABLE__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected TABLE_c<PC> new_c() {
-    return new TABLE_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new TABLE_c<>(this);
+    }
+    return recycledContentC;
   }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -27,6 +27,10 @@ import com.aoapps.encoding.Serialization;
 import com.aoapps.html.any.AnyTABLE_content;
 import com.aoapps.lang.io.function.IOConsumerE;
 import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Stream;
 
 /**
  * <ul>
@@ -64,7 +68,7 @@ public interface TABLE_content<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    CAPTION<__> e = new CAPTION<>(document, pc);
+    CAPTION<__> e = document.element(pc, CAPTION.class, CAPTION::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -98,7 +102,7 @@ public interface TABLE_content<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    COLGROUP<__> e = new COLGROUP<>(document, pc);
+    COLGROUP<__> e = document.element(pc, COLGROUP.class, COLGROUP::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -132,7 +136,7 @@ public interface TABLE_content<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    THEAD<__> e = new THEAD<>(document, pc);
+    THEAD<__> e = document.element(pc, THEAD.class, THEAD::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -166,7 +170,7 @@ public interface TABLE_content<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    TBODY<__> e = new TBODY<>(document, pc);
+    TBODY<__> e = document.element(pc, TBODY.class, TBODY::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -192,6 +196,61 @@ public interface TABLE_content<
     return tbody()._c();
   }
 
+  /**
+   * Creates a tbody element with no attributes, containing one <code>&lt;tr&gt;</code> per row.
+   *
+   * @param  <T>   The type of row
+   * @param  <Ex>  An arbitrary exception type that may be thrown
+   *
+   * @return  This content model, which will be the parent content model of child elements
+   *
+   * @see  TableRows#rows(java.util.Iterator, int, java.util.List)
+   */
+  default <T, Ex extends Throwable> __ tbody__(
+      Iterator<? extends T> rows,
+      int flushRows,
+      List<? extends CellRenderer<? super T, ? extends Ex>> cells
+  ) throws IOException, Ex {
+    return tbody_c().rows(rows, flushRows, cells).__();
+  }
+
+  /**
+   * Creates a tbody element with no attributes, containing one <code>&lt;tr&gt;</code> per row.
+   *
+   * @param  <T>   The type of row
+   * @param  <Ex>  An arbitrary exception type that may be thrown
+   *
+   * @return  This content model, which will be the parent content model of child elements
+   *
+   * @see  TableRows#rows(java.util.Spliterator, int, java.util.List)
+   */
+  default <T, Ex extends Throwable> __ tbody__(
+      Spliterator<? extends T> rows,
+      int flushRows,
+      List<? extends CellRenderer<? super T, ? extends Ex>> cells
+  ) throws IOException, Ex {
+    return tbody_c().rows(rows, flushRows, cells).__();
+  }
+
+  /**
+   * Creates a tbody element with no attributes, containing one <code>&lt;tr&gt;</code> per row.
+   * The stream is not closed.
+   *
+   * @param  <T>   The type of row
+   * @param  <Ex>  An arbitrary exception type that may be thrown
+   *
+   * @return  This content model, which will be the parent content model of child elements
+   *
+   * @see  TableRows#rows(java.util.stream.Stream, int, java.util.List)
+   */
+  default <T, Ex extends Throwable> __ tbody__(
+      Stream<? extends T> rows,
+      int flushRows,
+      List<? extends CellRenderer<? super T, ? extends Ex>> cells
+  ) throws IOException, Ex {
+    return tbody_c().rows(rows, flushRows, cells).__();
+  }
+
   // </editor-fold>
   // <editor-fold defaultstate="collapsed" desc="Inherited: TR (deprecated to encourage use of <tbody> for SGML/XML consistency)">
   /**
@@ -240,7 +299,7 @@ public interface TABLE_content<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    TFOOT<__> e = new TFOOT<>(document, pc);
+    TFOOT<__> e = document.element(pc, TFOOT.class, TFOOT::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class TD<
     PC extends TR_content<PC>
     > extends AnyTD<Document, PC, TD<PC>, TD__<PC>, TD_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private TD__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private TD_c<PC> recycledContentC;
+
   TD(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class TD<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.TD);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseLine(TagTable.Tag.TD, closeAttributes);
   }
 
   @Override
   protected TD__<PC> new__() {
-    return new TD__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new TD__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected TD_c<PC> new_c() {
-    return new TD_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new TD_c<>(this);
+    }
+    return recycledContentC;
   }
 }
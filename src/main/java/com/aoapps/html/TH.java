@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class TH<
     PC extends TR_content<PC>
     > extends AnyTH<Document, PC, TH<PC>, TH__<PC>, TH_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private TH__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private TH_c<PC> recycledContentC;
+
   TH(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class TH<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.TH);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseLine(TagTable.Tag.TH, closeAttributes);
   }
 
   @Override
   protected TH__<PC> new__() {
-    return new TH__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new TH__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected TH_c<PC> new_c() {
-    return new TH_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new TH_c<>(this);
+    }
+    return recycledContentC;
   }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class THEAD<
     PC extends TABLE_content<PC>
     > extends AnyTHEAD<Document, PC, THEAD<PC>, THEAD__<PC>, THEAD_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private THEAD__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private THEAD_c<PC> recycledContentC;
+
   THEAD(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class THEAD<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.THEAD);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseBlock(TagTable.Tag.THEAD, closeAttributes);
   }
 
   @Override
   protected THEAD__<PC> new__() {
-    return new THEAD__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new THEAD__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected THEAD_c<PC> new_c() {
-    return new THEAD_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new THEAD_c<>(this);
+    }
+    return recycledContentC;
   }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class TR<
     PC extends Union_TBODY_THEAD_TFOOT<PC>
     > extends AnyTR<Document, PC, TR<PC>, TR__<PC>, TR_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private TR__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private TR_c<PC> recycledContentC;
+
   TR(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class TR<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.TR);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseBlock(TagTable.Tag.TR, closeAttributes);
   }
 
   @Override
   protected TR__<PC> new__() {
-    return new TR__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new TR__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected TR_c<PC> new_c() {
-    return new TR_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new TR_c<>(this);
+    }
+    return recycledContentC;
   }
 }
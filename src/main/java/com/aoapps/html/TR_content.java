@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -61,7 +61,7 @@ public interface TR_content<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    TD<__> e = new TD<>(document, pc);
+    TD<__> e = document.element(pc, TD.class, TD::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -95,7 +95,7 @@ public interface TR_content<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    TH<__> e = new TH<>(document, pc);
+    TH<__> e = document.element(pc, TH.class, TH::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -0,0 +1,134 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+
+/**
+ * Row streaming for {@link TBODY}, {@link THEAD}, and {@link TFOOT}.  Rows are written as
+ * <code>&lt;th&gt;</code> cells within {@link THEAD} and as <code>&lt;td&gt;</code> cells otherwise.
+ *
+ * @param  <__>  This content model, which will be the parent content model of child elements
+ *
+ * @author  AO Industries, Inc.
+ */
+public interface TableRows<
+    __ extends TableRows<__>
+    > extends Union_TBODY_THEAD_TFOOT<__> {
+
+  /**
+   * Writes one <code>&lt;tr&gt;</code> per row, with one cell per cell renderer.  Rows are
+   * consumed as they are written, so memory use does not grow with the number of rows.
+   *
+   * <p>No lambdas are created per row or cell.  With {@linkplain Document#setRecycleElements(boolean) element recycling}
+   * enabled, no elements are created after the first row either.</p>
+   *
+   * @param  <T>   The type of row
+   * @param  <Ex>  An arbitrary exception type that may be thrown
+   *
+   * @param  flushRows  The document is {@linkplain Document#flush() flushed} after every this many rows, so the
+   *                    client starts receiving output immediately.  {@code 0} to never flush.
+   * @param  cells      The cell renderers, one per column
+   *
+   * @return  This content model
+   */
+  default <T, Ex extends Throwable> __ rows(
+      Iterator<? extends T> rows,
+      int flushRows,
+      List<? extends CellRenderer<? super T, ? extends Ex>> cells
+  ) throws IOException, Ex {
+    if (flushRows < 0) {
+      throw new IllegalArgumentException("flushRows < 0: " + flushRows);
+    }
+    Document document = getDocument();
+    boolean header = this instanceof THEAD__ || this instanceof THEAD_c;
+    int numCells = cells.size();
+    int unflushed = 0;
+    while (rows.hasNext()) {
+      T row = rows.next();
+      TR_c<__> tr = tr_c();
+      for (int i = 0; i < numCells; i++) {
+        if (header) {
+          TH_c<TR_c<__>> th = tr.th_c();
+          cells.get(i).render(row, th);
+          th.__();
+        } else {
+          TD_c<TR_c<__>> td = tr.td_c();
+          cells.get(i).render(row, td);
+          td.__();
+        }
+      }
+      tr.__();
+      if (flushRows != 0 && ++unflushed == flushRows) {
+        document.flush();
+        unflushed = 0;
+      }
+    }
+    @SuppressWarnings("unchecked")
+    __ content = (__) this;
+    return content;
+  }
+
+  /**
+   * Writes one <code>&lt;tr&gt;</code> per row, with one cell per cell renderer.
+   *
+   * @param  <T>   The type of row
+   * @param  <Ex>  An arbitrary exception type that may be thrown
+   *
+   * @return  This content model
+   *
+   * @see  #rows(java.util.Iterator, int, java.util.List)
+   */
+  default <T, Ex extends Throwable> __ rows(
+      Spliterator<? extends T> rows,
+      int flushRows,
+      List<? extends CellRenderer<? super T, ? extends Ex>> cells
+  ) throws IOException, Ex {
+    return rows(Spliterators.iterator(rows), flushRows, cells);
+  }
+
+  /**
+   * Writes one <code>&lt;tr&gt;</code> per row, with one cell per cell renderer.
+   * The stream is not closed.
+   *
+   * @param  <T>   The type of row
+   * @param  <Ex>  An arbitrary exception type that may be thrown
+   *
+   * @return  This content model
+   *
+   * @see  #rows(java.util.Iterator, int, java.util.List)
+   */
+  default <T, Ex extends Throwable> __ rows(
+      Stream<? extends T> rows,
+      int flushRows,
+      List<? extends CellRenderer<? super T, ? extends Ex>> cells
+  ) throws IOException, Ex {
+    return rows(rows.iterator(), flushRows, cells);
+  }
+}
@@ -0,0 +1,277 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import com.aoapps.encoding.Serialization;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Immutable, pre-encoded tag sequences for every element in this package, such as <code>&lt;div</code>,
+ * <code>&lt;/li&gt;</code>, and <code>&gt;&lt;/td&gt;</code>.  Each sequence is written with a single bulk write or,
+ * when writing to a {@link ByteSinkWriter} in an ASCII-compatible encoding, a single byte copy.
+ *
+ * <p>The elements write their open and end tags through this table, by way of
+ * {@link Document#writeOpenBlock(com.aoapps.html.TagTable.Tag)} and related methods.  Only the elements whose open tag
+ * has more than the tag name, such as <code>&lt;html&gt;</code>, <code>&lt;input&gt;</code>,
+ * <code>&lt;script&gt;</code>, and <code>&lt;style&gt;</code>, write their own tags in ao-fluent-html-any.  Void
+ * elements are closed by ao-fluent-html-any.  The paths in this package that write markup directly, such as
+ * {@link Document#writeJson(java.lang.String, com.aoapps.lang.io.function.IOConsumerE)}, also use this table.</p>
+ *
+ * <p>There is one table per {@link Serialization}, which determines how void elements are closed.  The tag
+ * sequences are the same for every {@link com.aoapps.encoding.Doctype}, so the doctype is not part of the key.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class TagTable {
+
+  /**
+   * The elements in this package.
+   */
+  enum Tag {
+    A(false),
+    ABBR(false),
+    ADDRESS(false),
+    AREA(true),
+    ARTICLE(false),
+    ASIDE(false),
+    B(false),
+    BASE(true),
+    BDI(false),
+    BDO(false),
+    BLOCKQUOTE(false),
+    BODY(false),
+    BR(true),
+    CAPTION(false),
+    CITE(false),
+    CODE(false),
+    COL(true),
+    COLGROUP(false),
+    DATA(false),
+    DATALIST(false),
+    DD(false),
+    DEL(false),
+    DFN(false),
+    DIV(false),
+    DL(false),
+    DT(false),
+    EM(false),
+    FOOTER(false),
+    FORM(false),
+    H1(false),
+    H2(false),
+    H3(false),
+    H4(false),
+    H5(false),
+    H6(false),
+    HEAD(false),
+    HEADER(false),
+    HR(true),
+    HTML(false),
+    I(false),
+    IMG(true),
+    INPUT(true),
+    INS(false),
+    KBD(false),
+    LABEL(false),
+    LI(false),
+    LINK(true),
+    MAIN(false),
+    MAP(false),
+    MARK(false),
+    MENU(false),
+    META(true),
+    METER(false),
+    NAV(false),
+    OBJECT(false),
+    OL(false),
+    OPTGROUP(false),
+    OPTION(false),
+    OUTPUT(false),
+    P(false),
+    PARAM(true),
+    PRE(false),
+    PROGRESS(false),
+    Q(false),
+    S(false),
+    SAMP(false),
+    SCRIPT(false),
+    SECTION(false),
+    SELECT(false),
+    SMALL(false),
+    SPAN(false),
+    STRONG(false),
+    STYLE(false),
+    SUB(false),
+    SUP(false),
+    TABLE(false),
+    TBODY(false),
+    TD(false),
+    TEXTAREA(false),
+    TFOOT(false),
+    TH(false),
+    THEAD(false),
+    TITLE(false),
+    TR(false),
+    U(false),
+    UL(false),
+    VAR(false),
+    WBR(true);
+
+    private final boolean isVoid;
+
+    private Tag(boolean isVoid) {
+      this.isVoid = isVoid;
+    }
+
+    /**
+     * Is this a void element, which has no content and no end tag?
+     */
+    boolean isVoid() {
+      return isVoid;
+    }
+  }
+
+  private static final Tag[] tags = Tag.values();
+
+  private static final TagTable[] tables;
+
+  static {
+    Serialization[] serializations = Serialization.values();
+    tables = new TagTable[serializations.length];
+    for (Serialization serialization : serializations) {
+      tables[serialization.ordinal()] = new TagTable(serialization);
+    }
+  }
+
+  /**
+   * Gets the table for the given serialization.
+   */
+  static TagTable getInstance(Serialization serialization) {
+    return tables[serialization.ordinal()];
+  }
+
+  private final char[] selfClose;
+  private final byte[] selfCloseBytes;
+
+  private final char[][] open;
+  private final byte[][] openBytes;
+
+  private final char[][] close;
+  private final byte[][] closeBytes;
+
+  private final char[][] closeEmpty;
+  private final byte[][] closeEmptyBytes;
+
+  private TagTable(Serialization serialization) {
+    String selfCloseStr = (serialization == Serialization.XML) ? " />" : ">";
+    selfClose = selfCloseStr.toCharArray();
+    selfCloseBytes = selfCloseStr.getBytes(StandardCharsets.US_ASCII);
+    int len = tags.length;
+    open = new char[len][];
+    openBytes = new byte[len][];
+    close = new char[len][];
+    closeBytes = new byte[len][];
+    closeEmpty = new char[len][];
+    closeEmptyBytes = new byte[len][];
+    for (Tag tag : tags) {
+      int i = tag.ordinal();
+      String name = tag.name().toLowerCase(Locale.ROOT);
+      String openStr = "<" + name;
+      open[i] = openStr.toCharArray();
+      openBytes[i] = openStr.getBytes(StandardCharsets.US_ASCII);
+      if (!tag.isVoid()) {
+        String closeStr = "</" + name + ">";
+        close[i] = closeStr.toCharArray();
+        closeBytes[i] = closeStr.getBytes(StandardCharsets.US_ASCII);
+        String closeEmptyStr = ">" + closeStr;
+        closeEmpty[i] = closeEmptyStr.toCharArray();
+        closeEmptyBytes[i] = closeEmptyStr.getBytes(StandardCharsets.US_ASCII);
+      }
+    }
+  }
+
+  /**
+   * Writes the pre-encoded form of the given sequence.
+   */
+  private static void write(Writer out, char[] chars, byte[] bytes) throws IOException {
+    ByteSinkWriter.write(out, chars, 0, chars.length, bytes, 0, bytes.length, null);
+  }
+
+  /**
+   * Writes the start of the open tag, such as <code>&lt;div</code>, to be followed by attributes then
+   * {@link #writeOpenEnd(java.io.Writer, com.aoapps.html.TagTable.Tag)}.
+   */
+  void writeOpenStart(Writer out, Tag tag) throws IOException {
+    int i = tag.ordinal();
+    write(out, open[i], openBytes[i]);
+  }
+
+  /**
+   * Writes the end of the open tag, which is <code>&gt;</code> or, for void elements in XML,
+   * <code> /&gt;</code>.
+   */
+  void writeOpenEnd(Writer out, Tag tag) throws IOException {
+    if (tag.isVoid()) {
+      write(out, selfClose, selfCloseBytes);
+    } else {
+      out.write('>');
+    }
+  }
+
+  /**
+   * Writes the end tag, such as <code>&lt;/td&gt;</code>.
+   *
+   * @throws  IllegalArgumentException  when the element is void
+   */
+  void writeClose(Writer out, Tag tag) throws IOException {
+    if (tag.isVoid()) {
+      throw new IllegalArgumentException("Void elements have no end tag: " + tag);
+    }
+    int i = tag.ordinal();
+    write(out, close[i], closeBytes[i]);
+  }
+
+  /**
+   * Writes the end tag, such as <code>&lt;/td&gt;</code>, or, when the open tag has not yet been ended, the end of
+   * the open tag along with the end tag, such as <code>&gt;&lt;/td&gt;</code>.
+   *
+   * @param  closeAttributes  Is the open tag still open after its attributes?
+   *
+   * @throws  IllegalArgumentException  when the element is void
+   */
+  void writeClose(Writer out, Tag tag, boolean closeAttributes) throws IOException {
+    if (!closeAttributes) {
+      writeClose(out, tag);
+    } else {
+      if (tag.isVoid()) {
+        throw new IllegalArgumentException("Void elements have no end tag: " + tag);
+      }
+      int i = tag.ordinal();
+      write(out, closeEmpty[i], closeEmptyBytes[i]);
+    }
+  }
+}
@@ -0,0 +1,336 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.lang.io.function.IOConsumerE;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A document recorded once with the normal fluent API, then replayed with arguments.  The recording is a sequence of
+ * literal segments, already serialized and encoded, separated by holes for text, attribute values, and fragments.
+ * Replaying writes each literal segment in a single bulk write, or byte copy when writing to an
+ * {@link java.io.OutputStream} or {@link java.nio.channels.WritableByteChannel}, filling each hole from the
+ * arguments.
+ *
+ * <pre>Template template = Template.compile(EncodingContext.DEFAULT, (document, holes) -&gt;
+ *   holes.attribute(document.div(), "title", 0).__(div -&gt; div
+ *     .h1__(h1 -&gt; holes.text(1))
+ *     .p__(p -&gt; p.text("Static text is written once, at compile time."))
+ *     .div__(body -&gt; holes.fragment(2))
+ *   )
+ * );
+ * IOConsumerE&lt;Document, IOException&gt; body = d -&gt; d.text(message);
+ * template.writeTo(document, title, heading, body);</pre>
+ *
+ * <p>The template is recorded without indentation, at depth zero.  It may only be replayed into documents of the same
+ * {@link Serialization} and {@link Doctype}.</p>
+ *
+ * <p>This is immutable and thread-safe once compiled.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class Template {
+
+  /**
+   * Defines the structure of a template, using the given holes to mark where arguments are written.
+   *
+   * @param  <Ex>  An arbitrary exception type that may be thrown
+   */
+  @FunctionalInterface
+  public static interface Definition<Ex extends Throwable> {
+    void define(Document document, Holes holes) throws IOException, Ex;
+  }
+
+  private static final byte TEXT = 0;
+  private static final byte ATTRIBUTE = 1;
+  private static final byte FRAGMENT = 2;
+
+  /**
+   * Matches attribute names that are safe to write as-is.
+   */
+  private static final Pattern ATTRIBUTE_NAME = Pattern.compile("[a-zA-Z_:][-a-zA-Z0-9_:.]*");
+
+  /**
+   * Marks the holes while recording a template.
+   */
+  public static final class Holes {
+
+    private final BufferWriter buffer;
+    private final List<Integer> positions = new ArrayList<>();
+    private final List<Byte> types = new ArrayList<>();
+    private final List<Integer> indexes = new ArrayList<>();
+    private final List<String> names = new ArrayList<>();
+    private boolean done;
+
+    private Holes(BufferWriter buffer) {
+      this.buffer = buffer;
+    }
+
+    private void add(byte type, int index, String name) {
+      if (done) {
+        throw new IllegalStateException("Template already compiled");
+      }
+      if (index < 0) {
+        throw new IllegalArgumentException("index < 0: " + index);
+      }
+      positions.add(buffer.length());
+      types.add(type);
+      indexes.add(index);
+      names.add(name);
+    }
+
+    /**
+     * Marks a hole written with {@link Document#text(java.lang.Object)}.
+     * Must be called where text is allowed, such as within the body of an element.
+     *
+     * @param  index  The index of the argument
+     */
+    public void text(int index) {
+      add(TEXT, index, null);
+    }
+
+    /**
+     * Marks a hole for the value of an attribute, written as <code> name="value"</code> with the value escaped.  The attribute is omitted
+     * when the argument is {@code null}.  Must be called while the open tag is being written, before the element
+     * body or close.
+     *
+     * @param  element  The element being written, returned for chaining
+     * @param  name     The attribute name, which must be a valid name needing no encoding
+     * @param  index    The index of the argument
+     *
+     * @return  the given element
+     */
+    public <E> E attribute(E element, String name, int index) {
+      if (!ATTRIBUTE_NAME.matcher(name).matches()) {
+        throw new IllegalArgumentException("Invalid attribute name: " + name);
+      }
+      add(ATTRIBUTE, index, name);
+      return element;
+    }
+
+    /**
+     * Marks a hole written by an argument of type
+     * {@link IOConsumerE IOConsumerE&lt;? super Document, ? extends IOException&gt;}.
+     * Must be called where the content written by the argument is allowed.
+     *
+     * @param  index  The index of the argument
+     */
+    public void fragment(int index) {
+      add(FRAGMENT, index, null);
+    }
+  }
+
+  /**
+   * Records a template.  The definition is run once, without indentation, at depth zero.
+   *
+   * @param  <Ex>  An arbitrary exception type that may be thrown
+   */
+  public static <Ex extends Throwable> Template compile(EncodingContext encodingContext, Definition<Ex> definition) throws IOException, Ex {
+    BufferWriter buffer = new BufferWriter();
+    Holes holes = new Holes(buffer);
+    definition.define(new Document(encodingContext, buffer), holes);
+    holes.done = true;
+    return new Template(encodingContext, buffer.toCharArray(), holes);
+  }
+
+  private final Serialization serialization;
+  private final Doctype doctype;
+  private final Charset characterEncoding;
+
+  /**
+   * All literal segments, concatenated.
+   */
+  private final char[] chars;
+
+  /**
+   * The offsets of each literal segment within {@link #chars}, with one more segment than holes.
+   */
+  private final int[] charOffsets;
+
+  private final byte[] holeTypes;
+  private final int[] holeIndexes;
+
+  /**
+   * The attribute holes as <code> name="</code>, {@code null} for other holes.
+   */
+  private final char[][] attributeStarts;
+
+  private final int argumentCount;
+
+  /**
+   * The literal segments encoded in {@link #characterEncoding}, created on first replay to a {@link ByteSinkWriter}.
+   */
+  private volatile Encoded encoded;
+
+  private static final class Encoded {
+    private final byte[] bytes;
+    private final int[] byteOffsets;
+
+    private Encoded(byte[] bytes, int[] byteOffsets) {
+      this.bytes = bytes;
+      this.byteOffsets = byteOffsets;
+    }
+  }
+
+  private Template(EncodingContext encodingContext, char[] chars, Holes holes) {
+    this.serialization = encodingContext.getSerialization();
+    this.doctype = encodingContext.getDoctype();
+    this.characterEncoding = encodingContext.getCharacterEncoding();
+    this.chars = chars;
+    int count = holes.types.size();
+    charOffsets = new int[count + 2];
+    holeTypes = new byte[count];
+    holeIndexes = new int[count];
+    attributeStarts = new char[count][];
+    int maxIndex = -1;
+    for (int i = 0; i < count; i++) {
+      charOffsets[i + 1] = holes.positions.get(i);
+      holeTypes[i] = holes.types.get(i);
+      int index = holes.indexes.get(i);
+      holeIndexes[i] = index;
+      maxIndex = Math.max(maxIndex, index);
+      String name = holes.names.get(i);
+      if (name != null) {
+        attributeStarts[i] = (' ' + name + "=\"").toCharArray();
+      }
+    }
+    charOffsets[count + 1] = chars.length;
+    argumentCount = maxIndex + 1;
+  }
+
+  /**
+   * Gets the number of arguments required by {@link #writeTo(com.aoapps.html.Document, java.lang.Object...)}.
+   */
+  public int getArgumentCount() {
+    return argumentCount;
+  }
+
+  private Encoded getEncoded() {
+    Encoded e = encoded;
+    if (e == null) {
+      int segments = charOffsets.length - 1;
+      byte[][] encodedSegments = new byte[segments][];
+      int[] byteOffsets = new int[segments + 1];
+      for (int i = 0; i < segments; i++) {
+        byte[] segment = new String(chars, charOffsets[i], charOffsets[i + 1] - charOffsets[i]).getBytes(characterEncoding);
+        encodedSegments[i] = segment;
+        byteOffsets[i + 1] = byteOffsets[i] + segment.length;
+      }
+      byte[] bytes = new byte[byteOffsets[segments]];
+      for (int i = 0; i < segments; i++) {
+        System.arraycopy(encodedSegments[i], 0, bytes, byteOffsets[i], encodedSegments[i].length);
+      }
+      e = new Encoded(bytes, byteOffsets);
+      encoded = e;
+    }
+    return e;
+  }
+
+  private void writeSegment(Writer out, int segment) throws IOException {
+    int start = charOffsets[segment];
+    int len = charOffsets[segment + 1] - start;
+    if (len > 0) {
+      if (out instanceof ByteSinkWriter || out instanceof MinifyingWriter || out instanceof MetricsWriter) {
+        Encoded e = getEncoded();
+        int byteStart = e.byteOffsets[segment];
+        ByteSinkWriter.write(
+            out, chars, start, len, e.bytes, byteStart, e.byteOffsets[segment + 1] - byteStart, characterEncoding
+        );
+      } else {
+        out.write(chars, start, len);
+      }
+    }
+  }
+
+  /**
+   * Replays this template into the given document.
+   *
+   * @param  args  The arguments for the holes, by index.  Fragment arguments must be of type
+   *               {@link IOConsumerE IOConsumerE&lt;? super Document, ? extends IOException&gt;}.  Any other
+   *               exception thrown by a fragment is propagated unchecked.
+   *
+   * @return  the given document
+   *
+   * @throws  IllegalArgumentException  when the document has a different serialization or doctype, or when too few
+   *                                    arguments are given
+   */
+  @SuppressWarnings("unchecked")
+  public Document writeTo(Document document, Object... args) throws IOException {
+    EncodingContext encodingContext = document.encodingContext;
+    if (encodingContext.getSerialization() != serialization || encodingContext.getDoctype() != doctype) {
+      throw new IllegalArgumentException(
+          "Template compiled for " + serialization + " and " + doctype + ", but document is "
+              + encodingContext.getSerialization() + " and " + encodingContext.getDoctype()
+      );
+    }
+    if (args.length < argumentCount) {
+      throw new IllegalArgumentException("Expected " + argumentCount + " arguments, got " + args.length);
+    }
+    int holes = holeTypes.length;
+    for (int i = 0; i < holes; i++) {
+      writeSegment(document.getRawUnsafe(null), i);
+      Object arg = args[holeIndexes[i]];
+      switch (holeTypes[i]) {
+        case TEXT: {
+          Object event = RenderEvents.beginText(
+              (arg instanceof CharSequence) ? ((CharSequence) arg).length() : -1
+          );
+          try {
+            document.text(arg);
+          } finally {
+            RenderEvents.end(event);
+          }
+          break;
+        }
+        case ATTRIBUTE:
+          if (arg != null) {
+            Writer out = document.getRawUnsafe(null);
+            char[] start = attributeStarts[i];
+            out.write(start, 0, start.length);
+            CharSequence value = (arg instanceof CharSequence) ? (CharSequence) arg : String.valueOf(arg);
+            HtmlEscaper.attribute(value, 0, value.length(), out);
+            out.write('"');
+          }
+          break;
+        case FRAGMENT:
+          if (arg != null) {
+            ((IOConsumerE<? super Document, IOException>) arg).accept(document);
+          }
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+    writeSegment(document.getRawUnsafe(null), holes);
+    return document;
+  }
+}
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -24,6 +24,15 @@
 package com.aoapps.html;
 
 import com.aoapps.html.any.AnyTextContent;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
  * See <a href="https://html.spec.whatwg.org/multipage/dom.html#text-content">3.2.5.2.5 Phrasing content / Text</a>.
@@ -32,10 +41,192 @@ import com.aoapps.html.any.AnyTextContent;
  *
  * @author  AO Industries, Inc.
  */
-@SuppressWarnings("MarkerInterface")
 public interface TextContent<
     __ extends TextContent<__>
     > extends AnyTextContent<Document, __>,
     Content<__> {
 
+  /**
+   * Writes the given characters as text, escaped directly from the array with no intermediate {@link String} or copy.
+   *
+   * @param  cbuf  When {@code null}, nothing is written
+   *
+   * @return  This content model
+   */
+  @Override
+  default __ text(char[] cbuf) throws IOException {
+    if (cbuf != null) {
+      getDocument().writeText(cbuf, 0, cbuf.length);
+    }
+    @SuppressWarnings("unchecked")
+    __ content = (__) this;
+    return content;
+  }
+
+  /**
+   * Writes the given characters as text, escaped directly from the array with no intermediate {@link String} or copy.
+   *
+   * @param  cbuf  When {@code null}, nothing is written
+   *
+   * @return  This content model
+   */
+  @Override
+  default __ text(char[] cbuf, int offset, int len) throws IOException {
+    if (cbuf != null) {
+      getDocument().writeText(cbuf, offset, len);
+    }
+    @SuppressWarnings("unchecked")
+    __ content = (__) this;
+    return content;
+  }
+
+  /**
+   * Writes the remaining characters of the given buffer as text, without changing its position.  When the buffer is
+   * backed by an accessible array, the text is escaped directly from the array with no intermediate
+   * {@link String} or copy.
+   *
+   * @param  text  When {@code null}, nothing is written
+   *
+   * @return  This content model
+   */
+  default __ text(CharBuffer text) throws IOException {
+    if (text != null) {
+      Document document = getDocument();
+      if (text.hasArray()) {
+        document.writeText(text.array(), text.arrayOffset() + text.position(), text.remaining());
+      } else {
+        // CharSequence methods are relative to the position
+        document.writeText(text, 0, text.remaining());
+      }
+    }
+    @SuppressWarnings("unchecked")
+    __ content = (__) this;
+    return content;
+  }
+
+  /**
+   * Writes all characters from the given reader as text, streamed through a fixed, reusable buffer so memory use is
+   * constant regardless of the length of the text.  The reader is not closed.
+   *
+   * @param  text  When {@code null}, nothing is written
+   *
+   * @return  This content model
+   */
+  default __ text(Reader text) throws IOException {
+    if (text != null) {
+      getDocument().writeText(text);
+    }
+    @SuppressWarnings("unchecked")
+    __ content = (__) this;
+    return content;
+  }
+
+  /**
+   * Writes all bytes from the given channel as text, decoded and streamed through fixed buffers so memory use is
+   * constant regardless of the length of the text.  The channel is not closed.
+   *
+   * @param  text  When {@code null}, nothing is written
+   *
+   * @return  This content model
+   *
+   * @throws  java.nio.charset.CharacterCodingException  when the bytes are not valid in the given encoding
+   */
+  default __ text(ReadableByteChannel text, Charset charset) throws IOException {
+    if (text != null) {
+      getDocument().writeText(text, charset);
+    }
+    @SuppressWarnings("unchecked")
+    __ content = (__) this;
+    return content;
+  }
+
+  /**
+   * Writes the contents of the given file as text, decoded and streamed through fixed buffers so memory use is
+   * constant regardless of the size of the file.  A {@link Path} passed to <code>text(Object)</code> is still written
+   * as its string form.
+   *
+   * @param  file  When {@code null}, nothing is written
+   *
+   * @return  This content model
+   *
+   * @throws  java.nio.charset.CharacterCodingException  when the file is not valid in the given encoding
+   */
+  default __ textFile(Path file, Charset charset) throws IOException {
+    if (file != null) {
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        return text(channel, charset);
+      }
+    }
+    @SuppressWarnings("unchecked")
+    __ content = (__) this;
+    return content;
+  }
+
+  /**
+   * Writes the contents of the given UTF-8 file as text, decoded and streamed through fixed buffers so memory use is
+   * constant regardless of the size of the file.
+   *
+   * @param  file  When {@code null}, nothing is written
+   *
+   * @return  This content model
+   *
+   * @throws  java.nio.charset.CharacterCodingException  when the file is not valid UTF-8
+   *
+   * @see  #textFile(java.nio.file.Path, java.nio.charset.Charset)
+   */
+  default __ textFile(Path file) throws IOException {
+    return textFile(file, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Writes the given number as text, formatted directly to the output with no boxing or intermediate string.
+   * The output is the same as {@link Integer#toString(int)}.
+   *
+   * @return  This content model
+   */
+  default __ text(int value) throws IOException {
+    getDocument().writeNumber(value);
+    @SuppressWarnings("unchecked")
+    __ content = (__) this;
+    return content;
+  }
+
+  /**
+   * Writes the given number as text, formatted directly to the output with no boxing or intermediate string.
+   * The output is the same as {@link Long#toString(long)}.
+   *
+   * @return  This content model
+   */
+  default __ text(long value) throws IOException {
+    getDocument().writeNumber(value);
+    @SuppressWarnings("unchecked")
+    __ content = (__) this;
+    return content;
+  }
+
+  /**
+   * Writes the given number as text, formatted directly to the output with no boxing or intermediate string when
+   * in plain notation.  The output is the same as {@link Float#toString(float)}.
+   *
+   * @return  This content model
+   */
+  default __ text(float value) throws IOException {
+    getDocument().writeNumber(value);
+    @SuppressWarnings("unchecked")
+    __ content = (__) this;
+    return content;
+  }
+
+  /**
+   * Writes the given number as text, formatted directly to the output with no boxing or intermediate string when
+   * in plain notation.  The output is the same as {@link Double#toString(double)}.
+   *
+   * @return  This content model
+   */
+  default __ text(double value) throws IOException {
+    getDocument().writeNumber(value);
+    @SuppressWarnings("unchecked")
+    __ content = (__) this;
+    return content;
+  }
 }
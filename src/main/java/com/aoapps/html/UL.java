@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class UL<
     PC extends PalpableContent<PC>
     > extends AnyUL<Document, PC, UL<PC>, UL__<PC>, UL_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private UL__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private UL_c<PC> recycledContentC;
+
   UL(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class UL<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenBlock(TagTable.Tag.UL);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseBlock(TagTable.Tag.UL, closeAttributes);
   }
 
   @Override
   protected UL__<PC> new__() {
-    return new UL__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new UL__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected UL_c<PC> new_c() {
-    return new UL_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new UL_c<>(this);
+    }
+    return recycledContentC;
   }
 }
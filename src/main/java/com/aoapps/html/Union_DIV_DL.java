@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -51,7 +51,7 @@ public interface Union_DIV_DL<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    DD<__> e = new DD<>(document, pc);
+    DD<__> e = document.element(pc, DD.class, DD::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -85,7 +85,7 @@ public interface Union_DIV_DL<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    DT<__> e = new DT<>(document, pc);
+    DT<__> e = document.element(pc, DT.class, DT::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
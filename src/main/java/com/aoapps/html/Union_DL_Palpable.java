@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -51,7 +51,7 @@ public interface Union_DL_Palpable<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    DIV<__> e = new DIV<>(document, pc);
+    DIV<__> e = document.element(pc, DIV.class, DIV::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -347,7 +347,7 @@ public interface Union_Interactive_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    LABEL<__> e = new LABEL<>(document, pc);
+    LABEL<__> e = document.element(pc, LABEL.class, LABEL::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
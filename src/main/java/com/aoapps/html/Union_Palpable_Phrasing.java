@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -64,7 +64,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    ABBR<__> e = new ABBR<>(document, pc);
+    ABBR<__> e = document.element(pc, ABBR.class, ABBR::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -99,7 +99,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    B<__> e = new B<>(document, pc);
+    B<__> e = document.element(pc, B.class, B::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -133,7 +133,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    BDI<__> e = new BDI<>(document, pc);
+    BDI<__> e = document.element(pc, BDI.class, BDI::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -169,7 +169,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    BDO<__> e = new BDO<>(document, pc);
+    BDO<__> e = document.element(pc, BDO.class, BDO::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -236,7 +236,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    CITE<__> e = new CITE<>(document, pc);
+    CITE<__> e = document.element(pc, CITE.class, CITE::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -270,7 +270,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    CODE<__> e = new CODE<>(document, pc);
+    CODE<__> e = document.element(pc, CODE.class, CODE::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -357,7 +357,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    DFN<__> e = new DFN<>(document, pc);
+    DFN<__> e = document.element(pc, DFN.class, DFN::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -391,7 +391,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    EM<__> e = new EM<>(document, pc);
+    EM<__> e = document.element(pc, EM.class, EM::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -426,7 +426,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    I<__> e = new I<>(document, pc);
+    I<__> e = document.element(pc, I.class, I::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -463,7 +463,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    INS<__> e = new INS<>(document, pc);
+    INS<__> e = document.element(pc, INS.class, INS::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -481,7 +481,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    KBD<__> e = new KBD<>(document, pc);
+    KBD<__> e = document.element(pc, KBD.class, KBD::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -516,7 +516,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    MAP<__> e = new MAP<>(document, pc);
+    MAP<__> e = document.element(pc, MAP.class, MAP::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -549,7 +549,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    MARK<__> e = new MARK<>(document, pc);
+    MARK<__> e = document.element(pc, MARK.class, MARK::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -623,7 +623,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    OUTPUT<__> e = new OUTPUT<>(document, pc);
+    OUTPUT<__> e = document.element(pc, OUTPUT.class, OUTPUT::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -695,7 +695,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    Q<__> e = new Q<>(document, pc);
+    Q<__> e = document.element(pc, Q.class, Q::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -731,7 +731,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    S<__> e = new S<>(document, pc);
+    S<__> e = document.element(pc, S.class, S::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -765,7 +765,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    SAMP<__> e = new SAMP<>(document, pc);
+    SAMP<__> e = document.element(pc, SAMP.class, SAMP::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -800,7 +800,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    SMALL<__> e = new SMALL<>(document, pc);
+    SMALL<__> e = document.element(pc, SMALL.class, SMALL::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -834,7 +834,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    SPAN<__> e = new SPAN<>(document, pc);
+    SPAN<__> e = document.element(pc, SPAN.class, SPAN::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -868,7 +868,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    STRONG<__> e = new STRONG<>(document, pc);
+    STRONG<__> e = document.element(pc, STRONG.class, STRONG::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -902,7 +902,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    SUB<__> e = new SUB<>(document, pc);
+    SUB<__> e = document.element(pc, SUB.class, SUB::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -936,7 +936,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    SUP<__> e = new SUP<>(document, pc);
+    SUP<__> e = document.element(pc, SUP.class, SUP::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -974,7 +974,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    U<__> e = new U<>(document, pc);
+    U<__> e = document.element(pc, U.class, U::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -1008,7 +1008,7 @@ public interface Union_Palpable_Phrasing<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    VAR<__> e = new VAR<>(document, pc);
+    VAR<__> e = document.element(pc, VAR.class, VAR::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -68,7 +68,7 @@ public interface Union_TBODY_THEAD_TFOOT<
     @SuppressWarnings("unchecked")
     __ pc = (__) this;
     Document document = getDocument();
-    TR<__> e = new TR<>(document, pc);
+    TR<__> e = document.element(pc, TR.class, TR::new);
     e.writeOpen(document.getRawUnsafe(null));
     return e;
   }
@@ -1,6 +1,6 @@
 /*
  * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
- * Copyright (C) 2021, 2022, 2025  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -42,6 +42,16 @@ public final class VAR<
     PC extends Union_Palpable_Phrasing<PC>
     > extends AnyVAR<Document, PC, VAR<PC>, VAR__<PC>, VAR_c<PC>> {
 
+  /**
+   * The content model for lambda bodies, created on first use and reused when this element is recycled.
+   */
+  private VAR__<PC> recycledContent;
+
+  /**
+   * The content model for {@link #_c()}, created on first use and reused when this element is recycled.
+   */
+  private VAR_c<PC> recycledContentC;
+
   VAR(Document document, PC pc) {
     super(document, pc);
   }
@@ -49,16 +59,27 @@ public final class VAR<
   // Expose to this package, avoiding public to keep a clean API for optimal code assist
   @Override
   protected void writeOpen(Writer unsafe) throws IOException {
-    super.writeOpen(unsafe);
+    document.writeOpenInline(TagTable.Tag.VAR);
+  }
+
+  @Override
+  protected void writeClose(Writer unsafe, boolean closeAttributes) throws IOException {
+    document.writeCloseInline(TagTable.Tag.VAR, closeAttributes);
   }
 
   @Override
   protected VAR__<PC> new__() {
-    return new VAR__<>(this);
+    if (recycledContent == null) {
+      recycledContent = new VAR__<>(this);
+    }
+    return recycledContent;
   }
 
   @Override
   protected VAR_c<PC> new_c() {
-    return new VAR_c<>(this);
+    if (recycledContentC == null) {
+      recycledContentC = new VAR_c<>(this);
+    }
+    return recycledContentC;
   }
 }
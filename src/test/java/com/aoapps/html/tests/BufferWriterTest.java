@@ -0,0 +1,174 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.aoapps.html.BufferWriter;
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import org.junit.Test;
+
+/**
+ * @see  BufferWriter
+ *
+ * @author  AO Industries, Inc.
+ */
+public class BufferWriterTest {
+
+  @Test
+  public void testAppendString() {
+    BufferWriter out = new BufferWriter();
+    out.append("abc").append("defg", 1, 3);
+    assertEquals("abcef", out.toString());
+  }
+
+  @Test
+  public void testAppendStringBuilder() {
+    BufferWriter out = new BufferWriter();
+    out.append(new StringBuilder("abc")).append(new StringBuilder("defg"), 1, 3);
+    assertEquals("abcef", out.toString());
+  }
+
+  @Test
+  public void testAppendBufferWriter() {
+    BufferWriter other = new BufferWriter();
+    other.append("defg");
+    BufferWriter out = new BufferWriter();
+    out.append("abc").append(other).append(other, 1, 3);
+    assertEquals("abcdefgef", out.toString());
+  }
+
+  @Test
+  public void testAppendSelf() {
+    BufferWriter out = new BufferWriter(2);
+    out.append("ab").append(out).append(out, 1, 3);
+    assertEquals("ababba", out.toString());
+  }
+
+  @Test
+  public void testAppendCharSequence() {
+    BufferWriter out = new BufferWriter();
+    out.append(CharBuffer.wrap("abc")).append(CharBuffer.wrap("defg"), 1, 3);
+    assertEquals("abcef", out.toString());
+  }
+
+  @Test
+  public void testAppendNull() {
+    BufferWriter out = new BufferWriter();
+    out.append(null).append(null, 1, 3);
+    assertEquals("nullul", out.toString());
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testAppendOutOfBounds() {
+    new BufferWriter().append("abc", 2, 4);
+  }
+
+  @Test
+  public void testGrowth() {
+    BufferWriter out = new BufferWriter(1);
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      out.write('a' + (i % 26));
+      out.write("xy");
+      out.write(new char[]{'1', '2', '3'}, 1, 2);
+      expected.append((char) ('a' + (i % 26))).append("xy23");
+    }
+    assertEquals(expected.length(), out.length());
+    assertEquals(expected.toString(), out.toString());
+  }
+
+  @Test
+  public void testGrowthFromEmpty() {
+    BufferWriter out = new BufferWriter(0);
+    out.write('a');
+    out.write("bcd");
+    assertEquals("abcd", out.toString());
+  }
+
+  @Test
+  public void testResetRetainsCapacity() {
+    BufferWriter out = new BufferWriter(4);
+    out.write("abcdefghijklmnop");
+    int capacity = out.capacity();
+    assertEquals(16, capacity);
+    assertSame(out, out.reset());
+    assertEquals(0, out.length());
+    assertEquals("", out.toString());
+    assertEquals(capacity, out.capacity());
+    out.write("qr");
+    assertEquals("qr", out.toString());
+    assertEquals(capacity, out.capacity());
+  }
+
+  @Test
+  public void testCharAt() {
+    BufferWriter out = new BufferWriter();
+    out.write("abc");
+    assertEquals('b', out.charAt(1));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testCharAtPastLength() {
+    BufferWriter out = new BufferWriter();
+    out.write("abc");
+    out.reset();
+    out.charAt(0);
+  }
+
+  @Test
+  public void testSubSequence() {
+    BufferWriter out = new BufferWriter();
+    out.write("abcdef");
+    assertEquals("cde", out.subSequence(2, 5));
+    assertEquals("", out.subSequence(3, 3));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testSubSequencePastLength() {
+    BufferWriter out = new BufferWriter(16);
+    out.write("abc");
+    out.subSequence(1, 4);
+  }
+
+  @Test
+  public void testToCharArray() {
+    BufferWriter out = new BufferWriter(16);
+    out.write("abc");
+    assertArrayEquals(new char[]{'a', 'b', 'c'}, out.toCharArray());
+  }
+
+  @Test
+  public void testWriteTo() throws IOException {
+    BufferWriter out = new BufferWriter();
+    out.write("abc");
+    CharArrayWriter target = new CharArrayWriter();
+    target.write('>');
+    out.writeTo(target);
+    assertEquals(">abc", target.toString());
+  }
+}
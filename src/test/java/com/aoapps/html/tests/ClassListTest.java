@@ -0,0 +1,133 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.ClassList;
+import com.aoapps.html.Document;
+import java.io.IOException;
+import org.junit.Test;
+
+/**
+ * Tests {@link ClassList} written as the <code>class</code> attribute.
+ *
+ * @see  ClassList
+ * @see  Document#classList()
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ClassListTest {
+
+  private static String render(ClassList classList) throws IOException {
+    BufferWriter out = new BufferWriter();
+    new Document(out).div().clazz(classList).__();
+    return out.toString();
+  }
+
+  private static String render(String clazz) throws IOException {
+    BufferWriter out = new BufferWriter();
+    new Document(out).div().clazz(clazz).__();
+    return out.toString();
+  }
+
+  @Test
+  public void testAdd() throws IOException {
+    ClassList classList = new ClassList().add("row").addIf(true, "odd", "even").addIf(false, "selected");
+    assertEquals(2, classList.size());
+    assertEquals("row odd", classList.toString());
+    assertEquals("row odd".length(), classList.getLength());
+    assertEquals("<div class=\"row odd\"></div>", render(classList));
+  }
+
+  @Test
+  public void testNullAndEmptySkipped() throws IOException {
+    ClassList classList = new ClassList().add((String) null).add("").add("a", null, "", "b");
+    assertEquals(2, classList.size());
+    assertEquals(render("a b"), render(classList));
+  }
+
+  @Test
+  public void testDuplicates() {
+    assertEquals("a b a", new ClassList().add("a", "b", "a").toString());
+  }
+
+  @Test
+  public void testDistinct() throws IOException {
+    ClassList classList = new ClassList().setDistinct(true).add("a", "b", "a", "c", "b");
+    assertEquals(3, classList.size());
+    assertEquals("<div class=\"a b c\"></div>", render(classList));
+  }
+
+  @Test
+  public void testEmptyOmitsAttribute() throws IOException {
+    ClassList classList = new ClassList();
+    assertEquals(0, classList.getLength());
+    assertEquals("<div></div>", render(classList));
+    assertEquals("<div></div>", render(classList.add((String) null).add("")));
+  }
+
+  @Test
+  public void testEscaping() throws IOException {
+    ClassList classList = new ClassList().add("a&b", "<x>", "\"q\"");
+    assertEquals(render("a&b <x> \"q\""), render(classList));
+    assertEquals("<div class=\"a&amp;b &lt;x&gt; &quot;q&quot;\"></div>", render(classList));
+  }
+
+  @Test
+  public void testWhitespaceRejected() {
+    for (String clazz : new String[] {"a b", " a", "a ", "a\tb", "a\nb", "a\fb", "a\rb"}) {
+      ClassList classList = new ClassList();
+      try {
+        classList.add(clazz);
+        fail("Whitespace not rejected: \"" + clazz + '"');
+      } catch (IllegalArgumentException e) {
+        assertEquals(0, classList.size());
+      }
+    }
+  }
+
+  @Test
+  public void testTrim() {
+    ClassList classList = new ClassList().add("a", "b");
+    assertSame(classList, classList.trim());
+    assertEquals("a b", classList.trim().toString());
+  }
+
+  @Test
+  public void testDocumentReusesList() {
+    Document document = new Document(new BufferWriter());
+    ClassList first = document.classList().setDistinct(true).add("a", "a");
+    assertEquals(1, first.size());
+    ClassList second = document.classList();
+    assertSame(first, second);
+    assertEquals(0, second.size());
+    assertFalse(second.getDistinct());
+    assertEquals(2, second.add("a", "a").size());
+  }
+}
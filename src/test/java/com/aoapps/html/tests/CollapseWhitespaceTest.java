@@ -0,0 +1,185 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.Document;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+/**
+ * Tests collapsing whitespace in text, which is kept as-is within <code>&lt;pre&gt;</code>,
+ * <code>&lt;textarea&gt;</code>, <code>&lt;script&gt;</code>, and <code>&lt;style&gt;</code>.
+ *
+ * @see  Document#setCollapseWhitespace(boolean)
+ *
+ * @author  AO Industries, Inc.
+ */
+public class CollapseWhitespaceTest {
+
+  private static final EncodingContext ENCODING_CONTEXT = new EncodingContext() {
+    @Override
+    public Serialization getSerialization() {
+      return Serialization.SGML;
+    }
+
+    @Override
+    public Doctype getDoctype() {
+      return Doctype.HTML5;
+    }
+
+    @Override
+    public Charset getCharacterEncoding() {
+      return StandardCharsets.UTF_8;
+    }
+  };
+
+  /**
+   * Writes the given markup, both at once and one character at a time, which must give the same result.
+   */
+  private static String collapse(String html) throws IOException {
+    BufferWriter out = new BufferWriter();
+    Document document = new Document(ENCODING_CONTEXT, out).setCollapseWhitespace(true);
+    document.getRawUnsafe(null).write(html);
+    document.setCollapseWhitespace(false);
+    String result = out.toString();
+
+    BufferWriter single = new BufferWriter();
+    document = new Document(ENCODING_CONTEXT, single).setCollapseWhitespace(true);
+    Writer raw = document.getRawUnsafe(null);
+    for (int i = 0; i < html.length(); i++) {
+      raw.write(html.charAt(i));
+    }
+    document.setCollapseWhitespace(false);
+    assertEquals(result, single.toString());
+    return result;
+  }
+
+  @Test
+  public void testEnabledAgainAfterSetOut() throws IOException {
+    BufferWriter first = new BufferWriter();
+    Document document = new Document(ENCODING_CONTEXT, first).setCollapseWhitespace(true);
+    BufferWriter second = new BufferWriter();
+    document.setOut(second);
+    document.setCollapseWhitespace(true);
+    document.getRawUnsafe(null).write("<p>  a \n b</p>");
+    document.setCollapseWhitespace(false);
+    assertEquals("", first.toString());
+    assertEquals("<p> a b</p>", second.toString());
+  }
+
+  @Test
+  public void testCollapsed() throws IOException {
+    assertEquals("<p> a b c </p>", collapse("<p>  a \t\n b\r\n\f c\n</p>"));
+    assertEquals("<div> <p>a</p> </div>", collapse("<div>\n\t<p>a</p>\n</div>"));
+  }
+
+  @Test
+  public void testSingleSpacesUnchanged() throws IOException {
+    String html = "<p>a b c</p>";
+    assertEquals(html, collapse(html));
+  }
+
+  @Test
+  public void testNewlineBecomesSpace() throws IOException {
+    assertEquals("<p>a b</p>", collapse("<p>a\nb</p>"));
+  }
+
+  @Test
+  public void testPreserved() throws IOException {
+    assertEquals(
+        "<p> a </p><pre>  a\n\tb  </pre><p> b </p>",
+        collapse("<p>  a  </p><pre>  a\n\tb  </pre><p>  b  </p>")
+    );
+    assertEquals(
+        "<textarea>  a\n\n  b</textarea> c",
+        collapse("<textarea>  a\n\n  b</textarea>\n\n c")
+    );
+  }
+
+  @Test
+  public void testPreservedUpperCase() throws IOException {
+    assertEquals("<PRE>  a  </PRE> b", collapse("<PRE>  a  </PRE>  b"));
+  }
+
+  @Test
+  public void testPreservedWithinNested() throws IOException {
+    assertEquals(
+        "<pre>  <b>  a  </b>  <pre>  b  </pre>  c  </pre> d",
+        collapse("<pre>  <b>  a  </b>  <pre>  b  </pre>  c  </pre>  d")
+    );
+    assertEquals(
+        "<pre>  <textarea>  a  </textarea>  b  </pre> c",
+        collapse("<pre>  <textarea>  a  </textarea>  b  </pre>  c")
+    );
+  }
+
+  @Test
+  public void testUnmatchedEndTag() throws IOException {
+    assertEquals("</pre> a <pre>  b  </pre>", collapse("</pre>  a  <pre>  b  </pre>"));
+  }
+
+  @Test
+  public void testRawTextUnchanged() throws IOException {
+    String html = "<script>\n  var a = \"  b  \";\n</script><style>\n  p {\n    margin:  0;\n  }\n</style>";
+    assertEquals(html, collapse(html));
+  }
+
+  @Test
+  public void testTagsAndCommentsUnchanged() throws IOException {
+    String html = "<div\n  title=\"a  b\"\n  class=\"c\"><!--  d\n  e  --></div>";
+    assertEquals(html, collapse(html));
+  }
+
+  @Test
+  public void testIndentation() throws IOException {
+    BufferWriter out = new BufferWriter();
+    Document document = new Document(ENCODING_CONTEXT, out).setCollapseWhitespace(true);
+    document.setIndent(true);
+    document.div__(div -> div.div__(inner -> inner.text("a")));
+    document.setCollapseWhitespace(false);
+    assertEquals(-1, out.toString().indexOf('\t'));
+    assertEquals(-1, out.toString().indexOf("  "));
+  }
+
+  @Test
+  public void testOutputStreamMatchesWriter() throws IOException {
+    String html = "<p>  caf\u00e9 \n a  </p><pre>  b\n  </pre>\n<textarea>\n  c</textarea>";
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    Document document = new Document(ENCODING_CONTEXT, bytes).setCollapseWhitespace(true);
+    document.getRawUnsafe(null).write(html);
+    document.setCollapseWhitespace(false);
+    document.flush();
+    assertEquals(collapse(html), new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+  }
+}
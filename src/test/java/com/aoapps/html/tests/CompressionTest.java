@@ -0,0 +1,245 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.Compression;
+import com.aoapps.html.Document;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import org.junit.Test;
+
+/**
+ * Tests the compressing output streams of {@link Compression}.
+ *
+ * @see  Compression
+ *
+ * @author  AO Industries, Inc.
+ */
+public class CompressionTest {
+
+  private static final EncodingContext ENCODING_CONTEXT = new EncodingContext() {
+    @Override
+    public Serialization getSerialization() {
+      return Serialization.SGML;
+    }
+
+    @Override
+    public Doctype getDoctype() {
+      return Doctype.HTML5;
+    }
+
+    @Override
+    public Charset getCharacterEncoding() {
+      return StandardCharsets.UTF_8;
+    }
+  };
+
+  /**
+   * Writes the head of the test page.
+   */
+  private static void head(Document document) throws IOException {
+    document.getRawUnsafe(null).write("<!DOCTYPE html>\n<html lang=\"en\">");
+    document.head__(head -> head.title__("Caf\u00e9"));
+  }
+
+  /**
+   * Writes the body of the test page.
+   */
+  private static void body(Document document) throws IOException {
+    document.body__(body -> {
+      for (int i = 0; i < 100; i++) {
+        body.div__(div -> div.p__("Paragraph \u20ac"));
+      }
+    });
+    document.getRawUnsafe(null).write("</html>");
+  }
+
+  private static String expected() throws IOException {
+    BufferWriter out = new BufferWriter();
+    Document document = new Document(ENCODING_CONTEXT, out);
+    head(document);
+    body(document);
+    return out.toString();
+  }
+
+  /**
+   * Renders the test page to the given stream, then closes the stream.
+   */
+  private static void render(OutputStream out) throws IOException {
+    Document document = new Document(ENCODING_CONTEXT, out);
+    head(document);
+    body(document);
+    document.flush();
+    out.close();
+  }
+
+  private static String read(InputStream in) throws IOException {
+    try (InputStream i = in) {
+      return new String(i.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  /**
+   * Inflates the given bytes until more input is needed, which is the end of the data written before a flush.
+   */
+  private static String inflate(Inflater inflater, byte[] bytes, int off, int len) throws DataFormatException {
+    inflater.setInput(bytes, off, len);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buf = new byte[256];
+    int count;
+    do {
+      count = inflater.inflate(buf);
+      out.write(buf, 0, count);
+    } while (count > 0);
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void testGzipRoundTrip() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    render(Compression.gzip(bytes));
+    assertEquals(expected(), read(new GZIPInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+  }
+
+  @Test
+  public void testDeflateRoundTrip() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    render(Compression.deflate(bytes));
+    assertEquals(expected(), read(new InflaterInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+  }
+
+  @Test
+  public void testDeflateFlushIsDecodable() throws IOException, DataFormatException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (OutputStream out = Compression.deflate(bytes)) {
+      Document document = new Document(ENCODING_CONTEXT, out);
+      head(document);
+      document.flush();
+      BufferWriter head = new BufferWriter();
+      head(new Document(ENCODING_CONTEXT, head));
+      byte[] prefix = bytes.toByteArray();
+      Inflater inflater = new Inflater();
+      try {
+        assertEquals(head.toString(), inflate(inflater, prefix, 0, prefix.length));
+      } finally {
+        inflater.end();
+      }
+    }
+  }
+
+  @Test
+  public void testGzipFlushIsDecodable() throws IOException, DataFormatException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (OutputStream out = Compression.gzip(bytes)) {
+      Document document = new Document(ENCODING_CONTEXT, out);
+      head(document);
+      document.flush();
+      BufferWriter head = new BufferWriter();
+      head(new Document(ENCODING_CONTEXT, head));
+      byte[] prefix = bytes.toByteArray();
+      // Raw deflate data after the 10-byte gzip header
+      Inflater inflater = new Inflater(true);
+      try {
+        assertEquals(head.toString(), inflate(inflater, prefix, 10, prefix.length - 10));
+      } finally {
+        inflater.end();
+      }
+    }
+  }
+
+  @Test
+  public void testDictionaryRoundTrip() throws IOException, DataFormatException {
+    byte[] dictionary = Compression.getDictionary(Serialization.SGML, Doctype.HTML5);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    render(Compression.deflate(bytes, Deflater.BEST_COMPRESSION, dictionary));
+    byte[] compressed = bytes.toByteArray();
+
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(compressed);
+      assertEquals(0, inflater.inflate(new byte[1]));
+      assertTrue(inflater.needsDictionary());
+      Adler32 adler = new Adler32();
+      adler.update(dictionary);
+      assertEquals((int) adler.getValue(), inflater.getAdler());
+      inflater.setDictionary(dictionary);
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buf = new byte[256];
+      while (!inflater.finished()) {
+        out.write(buf, 0, inflater.inflate(buf));
+      }
+      assertEquals(expected(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+    } finally {
+      inflater.end();
+    }
+
+    ByteArrayOutputStream plain = new ByteArrayOutputStream();
+    render(Compression.deflate(plain, Deflater.BEST_COMPRESSION, null));
+    assertTrue(compressed.length < plain.size());
+  }
+
+  @Test
+  public void testDictionaryIsRenderedMarkup() {
+    String dictionary = new String(
+        Compression.getDictionary(Serialization.SGML, Doctype.HTML5),
+        StandardCharsets.US_ASCII
+    );
+    assertTrue(dictionary, dictionary.startsWith("<!DOCTYPE html>\n<html lang=\"en\"><head>"));
+    assertTrue(dictionary, dictionary.contains("<meta charset=\"UTF-8\"><meta name=\"viewport\""));
+    String xml = new String(
+        Compression.getDictionary(Serialization.XML, Doctype.HTML5),
+        StandardCharsets.US_ASCII
+    );
+    assertTrue(xml, xml.contains("<html xmlns=\"http://www.w3.org/1999/xhtml\" lang=\"en\"><head>"));
+    assertTrue(xml, xml.contains("<br /><hr />"));
+  }
+
+  @Test
+  public void testGetDictionaryReturnsCopy() {
+    byte[] dictionary = Compression.getDictionary(Serialization.SGML, Doctype.HTML5);
+    byte[] expected = dictionary.clone();
+    Arrays.fill(dictionary, (byte) 0);
+    assertArrayEquals(expected, Compression.getDictionary(Serialization.SGML, Doctype.HTML5));
+  }
+}
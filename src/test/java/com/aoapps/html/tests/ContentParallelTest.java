@@ -0,0 +1,111 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.Content;
+import com.aoapps.html.Document;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.CompletionException;
+import org.junit.Test;
+
+/**
+ * @see  Content#parallel(java.util.concurrent.Executor, java.lang.Iterable)
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ContentParallelTest {
+
+  private static String renderSerial(boolean indent) throws IOException {
+    BufferWriter out = new BufferWriter();
+    Document document = new Document(out);
+    document.setIndent(indent);
+    document.ul__(ul -> ul
+        .li__("One")
+        .li__("Two")
+        .li__("Three")
+    ).p__("After");
+    return out.toString();
+  }
+
+  private static String renderParallel(boolean indent) throws IOException {
+    BufferWriter out = new BufferWriter();
+    Document document = new Document(out);
+    document.setIndent(indent);
+    document.ul__(ul -> ul.parallel(Arrays.asList(
+        () -> {
+          // Finishes loading last
+          Thread.sleep(50);
+          return content -> content.li__("One");
+        },
+        () -> content -> content.li__("Two"),
+        () -> null,
+        () -> content -> content.li__("Three")
+    ))).p__("After");
+    return out.toString();
+  }
+
+  @Test
+  public void testRenderedInOrder() throws IOException {
+    for (boolean indent : new boolean[] {false, true}) {
+      assertEquals("indent " + indent, renderSerial(indent), renderParallel(indent));
+    }
+  }
+
+  @Test
+  public void testIOExceptionUnwrapped() {
+    IOException expected = new IOException("Test");
+    try {
+      new Document(new BufferWriter()).ul__(ul -> ul.parallel(Arrays.asList(
+          () -> content -> content.li__("One"),
+          () -> {
+            throw expected;
+          }
+      )));
+      fail("IOException expected");
+    } catch (IOException e) {
+      assertSame(expected, e);
+    }
+  }
+
+  @Test
+  public void testCheckedExceptionWrapped() throws IOException {
+    InterruptedException expected = new InterruptedException("Test");
+    try {
+      new Document(new BufferWriter()).ul__(ul -> ul.parallel(Arrays.asList(
+          () -> {
+            throw expected;
+          }
+      )));
+      fail("CompletionException expected");
+    } catch (CompletionException e) {
+      assertSame(expected, e.getCause());
+    }
+  }
+}
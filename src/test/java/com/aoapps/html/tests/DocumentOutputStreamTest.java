@@ -0,0 +1,181 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+/**
+ * Tests {@link Document} writing directly to an {@link java.io.OutputStream} or
+ * {@link java.nio.channels.WritableByteChannel}.
+ *
+ * @see  Document
+ *
+ * @author  AO Industries, Inc.
+ */
+public class DocumentOutputStreamTest {
+
+  private static final String[] CHARSETS = {
+      "UTF-8",
+      "ISO-8859-1",
+      "US-ASCII",
+      "UTF-16",
+      "UTF-16LE",
+      "windows-1252",
+      "Shift_JIS",
+      "GB18030"
+  };
+
+  private static final String[] SAMPLES = {
+      "<div class=\"a\">plain ascii</div>",
+      "caf\u00e9 \u20ac \u4e2d\u6587 \ud83d\ude00 end",
+      "lone high \ud83d x, lone low \ude00 y, trailing high \ud83d",
+      "\u0000\u0001\u007f\u0080\u00ff\u0100\u07ff\u0800\uffff"
+  };
+
+  private static final int[] CHUNKS = {1, 2, 3, 7, 1000};
+
+  private static EncodingContext encodingContext(Charset charset) {
+    return new EncodingContext() {
+      @Override
+      public Serialization getSerialization() {
+        return Serialization.SGML;
+      }
+
+      @Override
+      public Doctype getDoctype() {
+        return Doctype.HTML5;
+      }
+
+      @Override
+      public Charset getCharacterEncoding() {
+        return charset;
+      }
+    };
+  }
+
+  /**
+   * Writes the given string in chunks, rotating through each of the ways to write to a writer.
+   */
+  private static void write(Writer out, String str, int chunk) throws IOException {
+    for (int i = 0; i < str.length(); i += chunk) {
+      int end = Math.min(str.length(), i + chunk);
+      switch ((i / chunk) % 4) {
+        case 0:
+          out.write(str, i, end - i);
+          break;
+        case 1:
+          out.write(str.toCharArray(), i, end - i);
+          break;
+        case 2:
+          out.append(new StringBuilder(str), i, end);
+          break;
+        default:
+          for (int j = i; j < end; j++) {
+            out.write(str.charAt(j));
+          }
+      }
+    }
+  }
+
+  private static byte[] expected(Charset charset, String str, int chunk) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (Writer out = new OutputStreamWriter(bytes, charset)) {
+      write(out, str, chunk);
+    }
+    return bytes.toByteArray();
+  }
+
+  @Test
+  public void testOutputStreamMatchesOutputStreamWriter() throws IOException {
+    for (String name : CHARSETS) {
+      Charset charset = Charset.forName(name);
+      for (String sample : SAMPLES) {
+        for (int chunk : CHUNKS) {
+          ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+          Document document = new Document(encodingContext(charset), bytes);
+          try (Writer out = document.getRawUnsafe(null)) {
+            write(out, sample, chunk);
+          }
+          assertArrayEquals(
+              name + ", chunk " + chunk + ": " + sample,
+              expected(charset, sample, chunk),
+              bytes.toByteArray()
+          );
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testChannelWithSmallBufferMatchesOutputStreamWriter() throws IOException {
+    for (String name : CHARSETS) {
+      Charset charset = Charset.forName(name);
+      for (String sample : SAMPLES) {
+        for (int chunk : CHUNKS) {
+          ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+          // Offset within a larger array, with only five bytes usable
+          ByteBuffer buffer = ByteBuffer.allocate(16);
+          buffer.position(3).limit(8);
+          Document document = new Document(encodingContext(charset), Channels.newChannel(bytes), buffer.slice());
+          try (Writer out = document.getRawUnsafe(null)) {
+            write(out, sample, chunk);
+          }
+          assertArrayEquals(
+              name + ", chunk " + chunk + ": " + sample,
+              expected(charset, sample, chunk),
+              bytes.toByteArray()
+          );
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testSetOutFlushesPrevious() throws IOException {
+    ByteArrayOutputStream first = new ByteArrayOutputStream();
+    ByteArrayOutputStream second = new ByteArrayOutputStream();
+    Document document = new Document(encodingContext(StandardCharsets.UTF_8), first);
+    document.getRawUnsafe(null).write("first");
+    document.setOut(second, ByteBuffer.allocate(64));
+    assertEquals("first", new String(first.toByteArray(), StandardCharsets.UTF_8));
+    document.getRawUnsafe(null).write("second");
+    document.flush();
+    assertEquals("second", new String(second.toByteArray(), StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.Document;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+/**
+ * Tests the open and end tags written from the pre-encoded tag table, for each serialization and to both character
+ * and byte output.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ElementTagsTest {
+
+  private static final String SGML =
+      "<div id=\"a\"></div><div><span>x</span><br><b></b></div>"
+          + "<ul><li>1</li><li></li></ul>"
+          + "<table><tbody><tr><td>c</td><td></td></tr></tbody></table>"
+          + "<p>y<br></p>";
+
+  private static final String XML =
+      "<div id=\"a\"></div><div><span>x</span><br /><b></b></div>"
+          + "<ul><li>1</li><li></li></ul>"
+          + "<table><tbody><tr><td>c</td><td></td></tr></tbody></table>"
+          + "<p>y<br /></p>";
+
+  private static EncodingContext encodingContext(Serialization serialization, Charset charset) {
+    return new EncodingContext() {
+      @Override
+      public Serialization getSerialization() {
+        return serialization;
+      }
+
+      @Override
+      public Doctype getDoctype() {
+        return Doctype.HTML5;
+      }
+
+      @Override
+      public Charset getCharacterEncoding() {
+        return charset;
+      }
+    };
+  }
+
+  private static void render(Document document) throws IOException {
+    document
+        .div().id("a").__()
+        .div__(div -> div.span__("x").br__().b().__())
+        .ul__(ul -> ul.li__("1").li().__())
+        .table__(table -> table.tbody__(tbody -> tbody.tr__(tr -> tr.td__("c").td().__())))
+        .p__(p -> p.text("y").br__());
+  }
+
+  private static String renderWriter(Serialization serialization) throws IOException {
+    BufferWriter out = new BufferWriter();
+    render(new Document(encodingContext(serialization, StandardCharsets.UTF_8), out));
+    return out.toString();
+  }
+
+  private static String renderBytes(Serialization serialization, Charset charset) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Document document = new Document(encodingContext(serialization, charset), out);
+    render(document);
+    document.flush();
+    return new String(out.toByteArray(), charset);
+  }
+
+  @Test
+  public void testSgml() throws IOException {
+    assertEquals(SGML, renderWriter(Serialization.SGML));
+  }
+
+  @Test
+  public void testXml() throws IOException {
+    assertEquals(XML, renderWriter(Serialization.XML));
+  }
+
+  @Test
+  public void testSgmlBytes() throws IOException {
+    assertEquals(SGML, renderBytes(Serialization.SGML, StandardCharsets.UTF_8));
+    assertEquals(SGML, renderBytes(Serialization.SGML, StandardCharsets.UTF_16));
+  }
+
+  @Test
+  public void testXmlBytes() throws IOException {
+    assertEquals(XML, renderBytes(Serialization.XML, StandardCharsets.UTF_8));
+    assertEquals(XML, renderBytes(Serialization.XML, StandardCharsets.UTF_16));
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.Document;
+import com.aoapps.html.FragmentCache;
+import java.io.IOException;
+import org.junit.Test;
+
+/**
+ * @see  FragmentCache
+ *
+ * @author  AO Industries, Inc.
+ */
+public class FragmentCacheTest {
+
+  private static String render(FragmentCache cache, boolean indent) throws IOException {
+    BufferWriter out = new BufferWriter();
+    Document document = new Document(out);
+    document.setIndent(indent);
+    document.div__(div -> div
+        .cached(cache, "nav", nav -> nav.ul__(ul -> ul
+            .li__("One")
+            .li__("Two")
+        ))
+        .p__("After")
+    );
+    return out.toString();
+  }
+
+  private static String renderUncached(boolean indent) throws IOException {
+    BufferWriter out = new BufferWriter();
+    Document document = new Document(out);
+    document.setIndent(indent);
+    document.div__(div -> div
+        .ul__(ul -> ul
+            .li__("One")
+            .li__("Two")
+        )
+        .p__("After")
+    );
+    return out.toString();
+  }
+
+  @Test
+  public void testHitMatchesMiss() throws IOException {
+    for (boolean indent : new boolean[] {false, true}) {
+      FragmentCache cache = new FragmentCache(16);
+      String miss = render(cache, indent);
+      String hit = render(cache, indent);
+      assertEquals("indent " + indent, renderUncached(indent), miss);
+      assertEquals("indent " + indent, miss, hit);
+      assertEquals(1, cache.getMisses());
+      assertEquals(1, cache.getHits());
+    }
+  }
+
+  @Test
+  public void testKeyedByIndent() throws IOException {
+    FragmentCache cache = new FragmentCache(16);
+    assertEquals(renderUncached(false), render(cache, false));
+    assertEquals(renderUncached(true), render(cache, true));
+    assertEquals(2, cache.getMisses());
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void testEviction() throws IOException {
+    FragmentCache cache = new FragmentCache(1);
+    render(cache, false);
+    render(cache, true);
+    assertEquals(1, cache.size());
+    assertEquals(1, cache.getEvictions());
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.Document;
+import com.aoapps.html.HtmlToken;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+/**
+ * Tests that {@link HtmlToken} writes the same as its raw value, through each of its pre-escaped forms.
+ *
+ * @see  HtmlToken
+ *
+ * @author  AO Industries, Inc.
+ */
+public class HtmlTokenTest {
+
+  private static final String[] VALUES = {
+      "card shadow-sm p-3",
+      "Totals & Averages",
+      "<b>\"quoted\" 'single'</b>",
+      "caf\u00e9 \u20ac \u4e2d\u6587 \ud83d\ude00",
+      "  padded  ",
+      ""
+  };
+
+  private static final Charset[] CHARSETS = {
+      StandardCharsets.UTF_8,
+      StandardCharsets.ISO_8859_1,
+      StandardCharsets.UTF_16
+  };
+
+  @FunctionalInterface
+  private static interface Body {
+    void render(Document document, Object value) throws IOException;
+  }
+
+  private static EncodingContext encodingContext(Charset charset) {
+    return new EncodingContext() {
+      @Override
+      public Serialization getSerialization() {
+        return Serialization.SGML;
+      }
+
+      @Override
+      public Doctype getDoctype() {
+        return Doctype.HTML5;
+      }
+
+      @Override
+      public Charset getCharacterEncoding() {
+        return charset;
+      }
+    };
+  }
+
+  private static String render(Body body, Object value) throws IOException {
+    BufferWriter out = new BufferWriter();
+    body.render(new Document(out), value);
+    return out.toString();
+  }
+
+  private static byte[] renderBytes(Charset charset, Body body, Object value) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    Document document = new Document(encodingContext(charset), bytes);
+    body.render(document, value);
+    document.flush();
+    return bytes.toByteArray();
+  }
+
+  private static final Body TEXT = (document, value) -> document.div__(div -> div.text(value));
+
+  private static final Body ATTRIBUTE = (document, value) -> document.div().title(value).__();
+
+  private static final Body CLASS = (document, value) -> document.div().clazz(value).__();
+
+  private static void assertSameAsString(Body body) throws IOException {
+    for (String value : VALUES) {
+      assertEquals(value, render(body, value), render(body, HtmlToken.of(value)));
+      for (Charset charset : CHARSETS) {
+        assertArrayEquals(
+            charset + ": " + value,
+            renderBytes(charset, body, value),
+            renderBytes(charset, body, HtmlToken.of(value))
+        );
+      }
+    }
+  }
+
+  @Test
+  public void testText() throws IOException {
+    assertSameAsString(TEXT);
+    assertEquals("<div>Totals &amp; Averages</div>", render(TEXT, HtmlToken.of("Totals & Averages")));
+  }
+
+  @Test
+  public void testAttribute() throws IOException {
+    assertSameAsString(ATTRIBUTE);
+    assertSameAsString(CLASS);
+    String html = render(ATTRIBUTE, HtmlToken.of("\"a\" & <b>"));
+    assertEquals("<div title=\"&quot;a&quot; &amp; &lt;b&gt;\"></div>", html);
+  }
+
+  @Test
+  public void testTextAndAttributeForms() throws IOException {
+    HtmlToken token = HtmlToken.of("\"a\"");
+    assertEquals(
+        "<div title=\"&quot;a&quot;\">\"a\"</div>",
+        render((document, value) -> document.div().title(value).__(div -> div.text(value)), token)
+    );
+  }
+
+  @Test
+  public void testTrim() {
+    HtmlToken trimmed = HtmlToken.of("card");
+    assertSame(trimmed, trimmed.trim());
+    HtmlToken padded = HtmlToken.of("  card  ");
+    assertEquals("card", padded.trim().toString());
+    assertSame(padded.trim(), padded.trim());
+    assertSame(padded.trim(), padded.trim().trim());
+    assertEquals("", HtmlToken.of(" \t ").trim().toString());
+  }
+}
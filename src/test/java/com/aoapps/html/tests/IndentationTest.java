@@ -0,0 +1,133 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.Document;
+import java.io.IOException;
+import java.io.StringReader;
+import org.junit.Test;
+
+/**
+ * Tests the newlines and indentation of the elements written by {@link Document}.
+ *
+ * @see  Document#setAutonli(boolean)
+ * @see  Document#setIndent(boolean)
+ *
+ * @author  AO Industries, Inc.
+ */
+public class IndentationTest {
+
+  @Test
+  public void testNewlineWhenNotAtNewline() throws IOException {
+    BufferWriter out = new BufferWriter();
+    Document document = new Document(out);
+    document.setAutonli(true).setIndent(true);
+    document.getRawUnsafe(false).write("a");
+    document.script__(new StringReader("b"));
+    assertTrue(out.toString(), out.toString().startsWith("a\n<script"));
+  }
+
+  @Test
+  public void testNoExtraNewlineWhenAtNewline() throws IOException {
+    BufferWriter out = new BufferWriter();
+    Document document = new Document(out);
+    document.setAutonli(true).setIndent(true);
+    document.getRawUnsafe(true).write("a\n");
+    document.json__(json -> json.beginArray().endArray());
+    assertTrue(out.toString(), out.toString().startsWith("a\n<script"));
+  }
+
+  @Test
+  public void testNoIndentation() throws IOException {
+    BufferWriter out = new BufferWriter();
+    Document document = new Document(out);
+    document.getRawUnsafe(false).write("a");
+    document.script__(new StringReader("b"));
+    assertTrue(out.toString(), out.toString().startsWith("a<script"));
+  }
+
+  @Test
+  public void testSameAsUnindentedWithoutWhitespace() throws IOException {
+    BufferWriter indented = new BufferWriter();
+    Document document = new Document(indented);
+    document.setAutonli(true).setIndent(true);
+    document.script__(new StringReader("a")).script__(new StringReader("b"));
+
+    BufferWriter plain = new BufferWriter();
+    new Document(plain).script__(new StringReader("a")).script__(new StringReader("b"));
+    assertEquals(plain.toString(), indented.toString().replace("\n", "").replace(" ", ""));
+  }
+
+  @Test
+  public void testNewlineWithoutIndentation() throws IOException {
+    BufferWriter out = new BufferWriter();
+    Document document = new Document(out);
+    document.setAutonli(true);
+    document.setDepth(2);
+    document.getRawUnsafe(false).write("a");
+    document.script__(new StringReader("b"));
+    assertTrue(out.toString(), out.toString().startsWith("a\n<script"));
+  }
+
+  @Test
+  public void testIndentedWithSpaces() throws IOException {
+    BufferWriter out = new BufferWriter();
+    Document document = new Document(out);
+    document.setAutonli(true).setIndent(true);
+    document.setDepth(2);
+    document.getRawUnsafe(false).write("a");
+    document.script__(new StringReader("b"));
+    assertTrue(out.toString(), out.toString().startsWith("a\n    <script"));
+  }
+
+  @Test
+  public void testIndentedWhenAtNewline() throws IOException {
+    BufferWriter out = new BufferWriter();
+    Document document = new Document(out);
+    document.setAutonli(true).setIndent(true);
+    document.setDepth(1);
+    document.getRawUnsafe(true).write("a\n");
+    document.div__("b");
+    assertTrue(out.toString(), out.toString().startsWith("a\n  <div>"));
+  }
+
+  @Test
+  public void testDeeperThanPrecomputed() throws IOException {
+    BufferWriter out = new BufferWriter();
+    Document document = new Document(out);
+    document.setAutonli(true).setIndent(true);
+    document.setDepth(100);
+    document.getRawUnsafe(false).write("a");
+    document.script__(new StringReader("b"));
+    StringBuilder expected = new StringBuilder("a\n");
+    for (int i = 0; i < 200; i++) {
+      expected.append(' ');
+    }
+    assertTrue(out.toString(), out.toString().startsWith(expected.append("<script").toString()));
+  }
+}
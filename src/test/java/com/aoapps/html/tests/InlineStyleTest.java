@@ -0,0 +1,100 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.InlineStyle;
+import java.io.IOException;
+import org.junit.Test;
+
+/**
+ * @see  InlineStyle
+ *
+ * @author  AO Industries, Inc.
+ */
+public class InlineStyleTest {
+
+  private static void assertLength(InlineStyle style) throws IOException {
+    String str = style.toString();
+    assertEquals(str, str.length(), style.getLength());
+    BufferWriter out = new BufferWriter();
+    style.writeTo(out);
+    assertEquals(str, out.toString());
+    for (int off = 0; off <= str.length(); off++) {
+      BufferWriter part = new BufferWriter();
+      style.writeTo(part, off, str.length() - off);
+      assertEquals(str.substring(off), part.toString());
+    }
+  }
+
+  @Test
+  public void testEmpty() throws IOException {
+    InlineStyle style = new InlineStyle();
+    assertEquals("", style.toString());
+    assertEquals(0, style.getLength());
+    assertSame(style, style.trim());
+  }
+
+  @Test
+  public void testLength() throws IOException {
+    InlineStyle style = new InlineStyle()
+        .property("color", "red")
+        .property("width", 100, "%")
+        .property("z-index", -1)
+        .property("line-height", 1.25)
+        .property("margin", -0.5, "em")
+        .property("left", 0.00001, "px")
+        .property("top", 123456789012.5, "px")
+        .property("order", Long.MIN_VALUE)
+        .property("--empty", "");
+    assertEquals(
+        "color:red;width:100%;z-index:-1;line-height:1.25;margin:-0.5em;left:0px;top:123456789012.5px;"
+            + "order:-9223372036854775808",
+        style.toString()
+    );
+    assertLength(style);
+    style.clear().property("opacity", 0.12345);
+    assertEquals("opacity:0.1235", style.toString());
+    assertLength(style);
+  }
+
+  @Test
+  public void testTrim() throws IOException {
+    InlineStyle style = new InlineStyle().property("a", " x ").property("width", 1, "px");
+    assertSame(style, style.trim());
+    style.property("font-family", "serif \t ");
+    InlineStyle trimmed = style.trim();
+    assertNotSame(style, trimmed);
+    assertEquals(style.toString().trim(), trimmed.toString());
+    assertEquals("a: x ;width:1px;font-family:serif", trimmed.toString());
+    assertLength(trimmed);
+    // The original is unchanged
+    assertEquals("a: x ;width:1px;font-family:serif \t ", style.toString());
+    assertSame(trimmed, trimmed.trim());
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.Document;
+import com.aoapps.html.JsonWriter;
+import com.aoapps.lang.io.function.IOConsumerE;
+import java.io.IOException;
+import org.junit.Test;
+
+/**
+ * @see  JsonWriter
+ *
+ * @author  AO Industries, Inc.
+ */
+public class JsonWriterTest {
+
+  private static String json(IOConsumerE<? super JsonWriter, IOException> json) throws IOException {
+    BufferWriter out = new BufferWriter();
+    new Document(out).json__(json);
+    String html = out.toString();
+    String start = "<script type=\"application/json\">";
+    String end = "</script>";
+    assertEquals(html, 0, html.indexOf(start));
+    assertEquals(html, html.length() - end.length(), html.indexOf("</script"));
+    return html.substring(start.length(), html.length() - end.length());
+  }
+
+  @Test
+  public void testStructure() throws IOException {
+    assertEquals(
+        "{\"a\":[1,-2.5,true,false,null],\"b\":{},\"c\":[]}",
+        json(json -> json
+            .beginObject()
+            .name("a").beginArray()
+            .value(1).value(-2.5).value(true).value(false).nullValue()
+            .endArray()
+            .name("b").beginObject().endObject()
+            .name("c").beginArray().endArray()
+            .endObject()
+        )
+    );
+  }
+
+  @Test
+  public void testScriptEndEscaped() throws IOException {
+    assertEquals(
+        "{\"\\u003c/script\\u003e\":\"\\u003c/SCRIPT\\u003e\\u003c!-- \\u0026 \\u003c/script\"}",
+        json(json -> json
+            .beginObject()
+            .name("</script>").value("</SCRIPT><!-- & </script")
+            .endObject()
+        )
+    );
+  }
+
+  @Test
+  public void testStringEscapes() throws IOException {
+    assertEquals(
+        "\"\\\"\\\\\\b\\t\\n\\f\\r\\u0000\\u001f\\u2028\\u2029/'\\ud83d\\ude00\"",
+        json(json -> json.value("\"\\\b\t\n\f\r\u0000\u001f\u2028\u2029/'\ud83d\ude00"))
+    );
+  }
+
+  @Test
+  public void testClosedOnException() throws IOException {
+    IOException expected = new IOException("Test");
+    BufferWriter out = new BufferWriter();
+    try {
+      new Document(out).json__(json -> {
+        json.beginArray().value("partial");
+        throw expected;
+      });
+      fail("IOException expected");
+    } catch (IOException e) {
+      assertSame(expected, e);
+    }
+    assertEquals("<script type=\"application/json\">[\"partial\"</script>", out.toString());
+  }
+
+  @Test
+  public void testClosedWhenIncomplete() throws IOException {
+    BufferWriter out = new BufferWriter();
+    try {
+      new Document(out).json__(json -> json.beginObject());
+      fail("IllegalStateException expected");
+    } catch (IllegalStateException e) {
+      // Expected
+    }
+    assertEquals("<script type=\"application/json\">{</script>", out.toString());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testMultipleValues() throws IOException {
+    json(json -> json.value(1).value(2));
+  }
+}
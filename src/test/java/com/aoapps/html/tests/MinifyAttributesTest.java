@@ -0,0 +1,193 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.Document;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.Test;
+
+/**
+ * Tests minifying attributes into their short boolean or unquoted forms.
+ *
+ * @see  Document#setMinifyAttributes(boolean)
+ *
+ * @author  AO Industries, Inc.
+ */
+public class MinifyAttributesTest {
+
+  private static final EncodingContext ENCODING_CONTEXT = new EncodingContext() {
+    @Override
+    public Serialization getSerialization() {
+      return Serialization.SGML;
+    }
+
+    @Override
+    public Doctype getDoctype() {
+      return Doctype.HTML5;
+    }
+
+    @Override
+    public Charset getCharacterEncoding() {
+      return StandardCharsets.UTF_8;
+    }
+  };
+
+  /**
+   * Writes the given markup, both at once and one character at a time, which must give the same result.
+   */
+  private static String minify(String html) throws IOException {
+    BufferWriter out = new BufferWriter();
+    Document document = new Document(ENCODING_CONTEXT, out).setMinifyAttributes(true);
+    document.getRawUnsafe(null).write(html);
+    document.setMinifyAttributes(false);
+    String result = out.toString();
+
+    BufferWriter single = new BufferWriter();
+    document = new Document(ENCODING_CONTEXT, single).setMinifyAttributes(true);
+    Writer raw = document.getRawUnsafe(null);
+    for (int i = 0; i < html.length(); i++) {
+      raw.write(html.charAt(i));
+    }
+    document.setMinifyAttributes(false);
+    assertEquals(result, single.toString());
+    return result;
+  }
+
+  @Test
+  public void testEnabledAgainAfterSetOut() throws IOException {
+    BufferWriter first = new BufferWriter();
+    Document document = new Document(ENCODING_CONTEXT, first).setMinifyAttributes(true);
+    BufferWriter second = new BufferWriter();
+    document.setOut(second);
+    document.setMinifyAttributes(true);
+    document.getRawUnsafe(null).write("<input type=\"text\" checked=\"checked\">");
+    document.setMinifyAttributes(false);
+    assertEquals("", first.toString());
+    assertEquals("<input type=text checked>", second.toString());
+  }
+
+  @Test
+  public void testBooleanShortForm() throws IOException {
+    assertEquals("<input checked>", minify("<input checked=\"checked\">"));
+    assertEquals("<input disabled>", minify("<input disabled=\"\">"));
+    assertEquals("<option selected>", minify("<option selected='selected'>"));
+    assertEquals("<input READONLY>", minify("<input READONLY=\"ReadOnly\">"));
+    assertEquals("<select multiple required>", minify("<select multiple=\"multiple\" required=\"\">"));
+  }
+
+  @Test
+  public void testBooleanAlreadyShort() throws IOException {
+    assertEquals("<input checked disabled>", minify("<input checked disabled>"));
+  }
+
+  @Test
+  public void testBooleanOtherValueKept() throws IOException {
+    assertEquals("<input checked=true>", minify("<input checked=\"true\">"));
+  }
+
+  @Test
+  public void testNotBooleanKeepsEmptyValue() throws IOException {
+    assertEquals("<img alt=\"\">", minify("<img alt=\"\">"));
+    assertEquals("<div title=title data-x=\"\">", minify("<div title=\"title\" data-x=\"\">"));
+  }
+
+  @Test
+  public void testUnquoted() throws IOException {
+    assertEquals("<input type=text name=q>", minify("<input type=\"text\" name='q'>"));
+    assertEquals("<a href=/a/b?c&amp;d#e>", minify("<a href=\"/a/b?c&amp;d#e\">"));
+    assertEquals("<a href=\"/a/b?c=d\">", minify("<a href=\"/a/b?c=d\">"));
+    assertEquals("<div class=a\nid=b>", minify("<div class=\"a\"\nid=\"b\">"));
+  }
+
+  @Test
+  public void testAlreadyUnquoted() throws IOException {
+    assertEquals("<input type=text>", minify("<input type=text>"));
+  }
+
+  @Test
+  public void testSpecialCharactersStayQuoted() throws IOException {
+    for (String value : Arrays.asList("a b", "a\tb", "a=b", "a<b", "a>b", "a`b", "a'b")) {
+      String html = "<div title=\"" + value + "\">";
+      assertEquals(html, minify(html));
+    }
+    assertEquals("<div title='a\"b'>", minify("<div title='a\"b'>"));
+  }
+
+  @Test
+  public void testBeforeSlashStaysQuoted() throws IOException {
+    // The slash would become part of an unquoted value
+    assertEquals("<a href=\"x\"/>", minify("<a href=\"x\"/>"));
+    assertEquals("<a href=x />", minify("<a href=\"x\" />"));
+  }
+
+  @Test
+  public void testLongValueUnchanged() throws IOException {
+    char[] chars = new char[1000];
+    Arrays.fill(chars, 'a');
+    String html = "<div title=\"" + new String(chars) + "\" id=\"b\">";
+    assertEquals("<div title=\"" + new String(chars) + "\" id=b>", minify(html));
+  }
+
+  @Test
+  public void testTextUnchanged() throws IOException {
+    String html = "<p>checked=\"checked\" a=\"b\"</p><!-- <input checked=\"checked\"> -->";
+    assertEquals(html, minify(html));
+  }
+
+  @Test
+  public void testRawTextUnchanged() throws IOException {
+    String html = "<script>var a = \"<input checked=\\\"checked\\\">\";</script><style>a[title=\"b\"]{}</style>";
+    assertEquals(html, minify(html));
+  }
+
+  @Test
+  public void testAttributesOfRawTextElement() throws IOException {
+    assertEquals(
+        "<script type=module async>x=\"y\"</script>",
+        minify("<script type=\"module\" async=\"async\">x=\"y\"</script>")
+    );
+  }
+
+  @Test
+  public void testOutputStreamMatchesWriter() throws IOException {
+    String html = "<input type=\"checkbox\" checked=\"checked\" value=\"caf\u00e9\" title=\"a b\">";
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    Document document = new Document(ENCODING_CONTEXT, bytes).setMinifyAttributes(true);
+    document.getRawUnsafe(null).write(html);
+    document.setMinifyAttributes(false);
+    document.flush();
+    assertEquals(minify(html), new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,243 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.Document;
+import com.aoapps.html.P__;
+import com.aoapps.html.TextContent;
+import java.io.IOException;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests that numbers written as text and attributes match their {@code toString()} forms.
+ *
+ * @see  com.aoapps.html.TextContent#text(long)
+ * @see  com.aoapps.html.TextContent#text(double)
+ * @see  com.aoapps.html.IMG#width(int)
+ * @see  com.aoapps.html.INPUT.Number#value(double)
+ * @see  com.aoapps.html.METER#value(double)
+ * @see  com.aoapps.html.PROGRESS#value(double)
+ *
+ * @author  AO Industries, Inc.
+ */
+public class NumberTextTest {
+
+  private static final long[] LONGS = {
+      0, 1, -1, 9, 10, -10, 99, 100, 12345, -12345,
+      Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE + 1L, Integer.MIN_VALUE - 1L,
+      999_999_999_999_999_999L, 1_000_000_000_000_000_000L,
+      Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE + 1
+  };
+
+  private static final double[] DOUBLES = {
+      0.0, -0.0, 1.0, -1.0, 0.5, -0.5, 0.1, 1.5, 100.0, 123456.0,
+      9_999_999.0, -9_999_999.0, 1e7, -1e7, 1e7 - 0.5, 12345678.0,
+      1e-3, 1e-4, 9.999e-4, 1e21, 1e22, 1e100, -1e100,
+      (double) Long.MAX_VALUE, (double) Long.MIN_VALUE,
+      Double.MAX_VALUE, -Double.MAX_VALUE, Double.MIN_VALUE, Double.MIN_NORMAL,
+      Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+      Math.PI, Math.E
+  };
+
+  /**
+   * Short decimals, such as prices and percentages, which are written without allocation.
+   */
+  private static final double[] SHORT_DOUBLES = {
+      0.01, 0.05, 0.25, -0.25, 1.1, 2.5, 19.99, -19.99, 33.3, 66.67, 99.95, 100.5, 1234.56, 1234567.89,
+      9_999_999.99, 0.001, 0.125, 0.3, 0.1 + 0.2, 1.0 / 3, 12.345678901234, -0.009
+  };
+
+  private static final float[] SHORT_FLOATS = {
+      0.01f, 0.05f, 0.25f, -0.25f, 1.1f, 2.5f, 19.99f, -19.99f, 33.3f, 66.67f, 99.95f, 1234.56f, 123456.7f,
+      0.001f, 0.3f, 1.0f / 3, -0.009f
+  };
+
+  private static final float[] FLOATS = {
+      0.0f, -0.0f, 1.0f, -1.0f, 0.5f, 0.1f, 100.0f, 9_999_999.0f, 1e7f, 16_777_216.0f,
+      1e-3f, 1e-4f, 1e38f,
+      Float.MAX_VALUE, -Float.MAX_VALUE, Float.MIN_VALUE, Float.MIN_NORMAL,
+      Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY,
+      (float) Math.PI
+  };
+
+  @FunctionalInterface
+  private static interface Body {
+    void render(P__<Document> p) throws IOException;
+  }
+
+  private static String render(Body body) throws IOException {
+    BufferWriter out = new BufferWriter();
+    new Document(out).p__(body::render);
+    String html = out.toString();
+    return html.substring("<p>".length(), html.length() - "</p>".length());
+  }
+
+  @FunctionalInterface
+  private static interface IndentedBody {
+    void render(TextContent<?> content) throws IOException;
+  }
+
+  /**
+   * Renders with automatic newlines and indentation, where the text begins a line of a nested block.
+   */
+  private static String renderIndented(IndentedBody body) throws IOException {
+    BufferWriter out = new BufferWriter();
+    new Document(out).setAutonli(true).setIndent(true).div__(outer -> outer.div__(body::render));
+    return out.toString();
+  }
+
+  private static void assertLong(long value) throws IOException {
+    assertEquals(Long.toString(value), render(p -> p.text(value)));
+    if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+      int i = (int) value;
+      assertEquals(Integer.toString(i), render(p -> p.text(i)));
+    }
+  }
+
+  private static void assertDouble(double value) throws IOException {
+    assertEquals(Double.toString(value), render(p -> p.text(value)));
+  }
+
+  private static void assertFloat(float value) throws IOException {
+    assertEquals(Float.toString(value), render(p -> p.text(value)));
+  }
+
+  @Test
+  public void testLongEdgeValues() throws IOException {
+    for (long value : LONGS) {
+      assertLong(value);
+    }
+  }
+
+  @Test
+  public void testDoubleEdgeValues() throws IOException {
+    for (double value : DOUBLES) {
+      assertDouble(value);
+    }
+  }
+
+  @Test
+  public void testFloatEdgeValues() throws IOException {
+    for (float value : FLOATS) {
+      assertFloat(value);
+    }
+  }
+
+  @Test
+  public void testShortDecimals() throws IOException {
+    for (double value : SHORT_DOUBLES) {
+      assertDouble(value);
+    }
+    for (float value : SHORT_FLOATS) {
+      assertFloat(value);
+      assertDouble(value);
+    }
+    assertEquals("19.99", render(p -> p.text(19.99)));
+    assertEquals("-0.25", render(p -> p.text(-0.25f)));
+    assertEquals("0.30000000000000004", render(p -> p.text(0.1 + 0.2)));
+  }
+
+  @Test
+  public void testRandomDecimals() throws IOException {
+    Random random = new Random(0);
+    for (int i = 0; i < 10000; i++) {
+      int cents = random.nextInt(2_000_000) - 1_000_000;
+      assertDouble(cents / 100.0);
+      assertFloat(cents / 100.0f);
+      assertDouble(random.nextDouble() * 1000);
+      assertFloat(random.nextFloat() * 1000);
+    }
+  }
+
+  @Test
+  public void testNumericAttributes() throws IOException {
+    assertEquals(
+        render(p -> p.img().width(Integer.valueOf(640)).height(Integer.valueOf(-1)).__()),
+        render(p -> p.img().width(640).height(-1).__())
+    );
+    assertEquals(
+        render(p -> p.input().number().value((Object) 42L).__()),
+        render(p -> p.input().number().value(42L).__())
+    );
+    assertEquals(
+        render(p -> p.input().number().value((Object) 19.99).__()),
+        render(p -> p.input().number().value(19.99).__())
+    );
+    assertEquals(
+        render(p -> p.input().number().value((Object) 0.1f).__()),
+        render(p -> p.input().number().value(0.1f).__())
+    );
+    assertEquals(
+        render(p -> p.meter().attribute("value", 0.6).attribute("min", 0L).attribute("max", 1.5f).__()),
+        render(p -> p.meter().value(0.6).min(0L).max(1.5f).__())
+    );
+    assertEquals(
+        render(p -> p.progress().attribute("value", 70L).attribute("max", 100.0).__()),
+        render(p -> p.progress().value(70).max(100.0).__())
+    );
+  }
+
+  @Test
+  public void testRandom() throws IOException {
+    Random random = new Random(0);
+    for (int i = 0; i < 10000; i++) {
+      assertLong(random.nextLong());
+      assertLong(random.nextInt());
+      assertDouble(random.nextInt(20_000_000) - 10_000_000);
+      assertDouble(Double.longBitsToDouble(random.nextLong()));
+      assertFloat(random.nextInt(20_000_000) - 10_000_000);
+      assertFloat(Float.intBitsToFloat(random.nextInt()));
+    }
+  }
+
+  @Test
+  public void testIndented() throws IOException {
+    assertEquals("\n<div>\n  <div>\n    42\n  </div>\n</div>\n", renderIndented(c -> c.text(42)));
+    assertEquals(renderIndented(c -> c.text((Object) 42)), renderIndented(c -> c.text(42)));
+    assertEquals(renderIndented(c -> c.text((Object) (-42L))), renderIndented(c -> c.text(-42L)));
+    assertEquals(renderIndented(c -> c.text((Object) 1.5f)), renderIndented(c -> c.text(1.5f)));
+    assertEquals(renderIndented(c -> c.text((Object) 19.99)), renderIndented(c -> c.text(19.99)));
+    assertEquals(
+        renderIndented(c -> {
+          c.text("a\n");
+          c.text((Object) 1e100);
+          c.text(" b");
+        }),
+        renderIndented(c -> {
+          c.text("a\n");
+          c.text(1e100);
+          c.text(" b");
+        })
+    );
+  }
+
+  @Test
+  public void testFollowedByText() throws IOException {
+    assertEquals("-42 &lt;1.0&gt;", render(p -> p.text(-42L).text(" <").text(1.0).text(">")));
+  }
+}
@@ -0,0 +1,250 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.Document;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+/**
+ * Tests omitting optional end tags, following
+ * <a href="https://html.spec.whatwg.org/multipage/syntax.html#optional-tags">13.1.2.4 Optional tags</a>.
+ *
+ * @see  Document#setOmitEndTags(boolean)
+ *
+ * @author  AO Industries, Inc.
+ */
+public class OmitEndTagsTest {
+
+  private static final EncodingContext ENCODING_CONTEXT = new EncodingContext() {
+    @Override
+    public Serialization getSerialization() {
+      return Serialization.SGML;
+    }
+
+    @Override
+    public Doctype getDoctype() {
+      return Doctype.HTML5;
+    }
+
+    @Override
+    public Charset getCharacterEncoding() {
+      return StandardCharsets.UTF_8;
+    }
+  };
+
+  private static Document newDocument(Writer out) throws IOException {
+    return new Document(ENCODING_CONTEXT, out).setOmitEndTags(true);
+  }
+
+  /**
+   * Writes the given markup, both at once and one character at a time, which must give the same result.
+   */
+  private static String omit(String html) throws IOException {
+    BufferWriter out = new BufferWriter();
+    Document document = newDocument(out);
+    document.getRawUnsafe(null).write(html);
+    document.setOmitEndTags(false);
+    String result = out.toString();
+
+    BufferWriter single = new BufferWriter();
+    document = newDocument(single);
+    Writer raw = document.getRawUnsafe(null);
+    for (int i = 0; i < html.length(); i++) {
+      raw.write(html.charAt(i));
+    }
+    document.setOmitEndTags(false);
+    assertEquals(result, single.toString());
+    return result;
+  }
+
+  @Test
+  public void testEnabledAgainAfterSetOut() throws IOException {
+    BufferWriter first = new BufferWriter();
+    Document document = newDocument(first);
+    BufferWriter second = new BufferWriter();
+    document.setOut(second);
+    document.setOmitEndTags(true);
+    document.getRawUnsafe(null).write("<ul><li>a</li><li>b</li></ul>");
+    document.setOmitEndTags(false);
+    assertEquals("", first.toString());
+    assertEquals("<ul><li>a<li>b</ul>", second.toString());
+  }
+
+  @Test
+  public void testListItems() throws IOException {
+    assertEquals("<ul><li>a<li>b</ul>", omit("<ul><li>a</li><li>b</li></ul>"));
+    assertEquals("<ol><li>a<li>b</ol>", omit("<ol><li>a</li><li>b</li></ol>"));
+    assertEquals("<menu><li>a</menu>", omit("<menu><li>a</li></menu>"));
+  }
+
+  @Test
+  public void testListItemKeptBeforeOtherParent() throws IOException {
+    assertEquals("<div><li>a</li></div>", omit("<div><li>a</li></div>"));
+  }
+
+  @Test
+  public void testDefinitionLists() throws IOException {
+    assertEquals("<dl><dt>a<dd>b<dt>c<dd>d</dl>", omit("<dl><dt>a</dt><dd>b</dd><dt>c</dt><dd>d</dd></dl>"));
+    assertEquals("<dl><div><dt>a<dd>b</div></dl>", omit("<dl><div><dt>a</dt><dd>b</dd></div></dl>"));
+  }
+
+  @Test
+  public void testDefinitionTermKeptBeforeEnd() throws IOException {
+    // The end tag of dt may only be omitted before dt or dd
+    assertEquals("<dl><dt>a</dt></dl>", omit("<dl><dt>a</dt></dl>"));
+  }
+
+  @Test
+  public void testParagraphs() throws IOException {
+    assertEquals("<div><p>a<p>b</div>", omit("<div><p>a</p><p>b</p></div>"));
+    assertEquals("<p>a<ul><li>b</ul>", omit("<p>a</p><ul><li>b</li></ul>"));
+    assertEquals("<p>a<h1>b</h1>", omit("<p>a</p><h1>b</h1>"));
+  }
+
+  @Test
+  public void testParagraphKeptBeforePhrasing() throws IOException {
+    assertEquals("<p>a</p><span>b</span>", omit("<p>a</p><span>b</span>"));
+  }
+
+  @Test
+  public void testParagraphKeptBeforeEndOfNonParent() throws IOException {
+    // The end tag of p may not be omitted when the parent is an a element
+    assertEquals("<a><p>a</p></a>", omit("<a><p>a</p></a>"));
+  }
+
+  @Test
+  public void testOptions() throws IOException {
+    assertEquals(
+        "<select><option>a<option>b<optgroup><option>c</optgroup><option>d</select>",
+        omit("<select><option>a</option><option>b</option><optgroup><option>c</option></optgroup>"
+            + "<option>d</option></select>")
+    );
+    assertEquals("<datalist><option>a</datalist>", omit("<datalist><option>a</option></datalist>"));
+  }
+
+  @Test
+  public void testTables() throws IOException {
+    assertEquals(
+        "<table><thead><tr><th>a<th>b<tbody><tr><td>c<td>d<tr><td>e<td>f</table>",
+        omit("<table><thead><tr><th>a</th><th>b</th></tr></thead><tbody><tr><td>c</td><td>d</td></tr>"
+            + "<tr><td>e</td><td>f</td></tr></tbody></table>")
+    );
+    assertEquals(
+        "<table><tbody><tr><td>a<tfoot><tr><td>b</tfoot></table>",
+        omit("<table><tbody><tr><td>a</td></tr></tbody><tfoot><tr><td>b</td></tr></tfoot></table>")
+    );
+  }
+
+  @Test
+  public void testTextKeepsEndTag() throws IOException {
+    assertEquals("<ul><li>a</li>\n<li>b</ul>", omit("<ul><li>a</li>\n<li>b</li></ul>"));
+    assertEquals("<ul><li>a</li> </ul>", omit("<ul><li>a</li> </ul>"));
+  }
+
+  @Test
+  public void testCommentKeepsEndTag() throws IOException {
+    assertEquals("<ul><li>a</li><!-- c --><li>b</ul>", omit("<ul><li>a</li><!-- c --><li>b</li></ul>"));
+  }
+
+  @Test
+  public void testUpperCase() throws IOException {
+    assertEquals("<UL><LI>a<LI>b</UL>", omit("<UL><LI>a</LI><LI>b</LI></UL>"));
+  }
+
+  @Test
+  public void testUnrecognizedNextTag() throws IOException {
+    assertEquals("<ul><li>a</li><custom-element>", omit("<ul><li>a</li><custom-element>"));
+    assertEquals("<ul><li>a</li><verylongname>", omit("<ul><li>a</li><verylongname>"));
+  }
+
+  @Test
+  public void testRawTextUnchanged() throws IOException {
+    String html = "<script>\"</li><li>\"</script><style>p::after{content:\"</p><p>\"}</style>";
+    assertEquals(html, omit(html));
+  }
+
+  @Test
+  public void testPendingAtEnd() throws IOException {
+    // Written when the next tag is not known
+    assertEquals("<li>a</li>", omit("<li>a</li>"));
+  }
+
+  @Test
+  public void testFlushWritesPending() throws IOException {
+    BufferWriter out = new BufferWriter();
+    Document document = newDocument(out);
+    document.getRawUnsafe(null).write("<ul><li>a</li>");
+    document.flush();
+    assertEquals("<ul><li>a</li>", out.toString());
+    document.getRawUnsafe(null).write("<li>b</li></ul>");
+    document.setOmitEndTags(false);
+    assertEquals("<ul><li>a</li><li>b</ul>", out.toString());
+  }
+
+  @Test
+  public void testElements() throws IOException {
+    BufferWriter out = new BufferWriter();
+    newDocument(out)
+        .ul__(ul -> ul.li__(li -> li.text("a")).li__(li -> li.text("b")))
+        .setOmitEndTags(false);
+    assertEquals("<ul><li>a<li>b</ul>", out.toString());
+  }
+
+  @Test
+  public void testOutputStreamMatchesWriter() throws IOException {
+    for (boolean indent : new boolean[] {false, true}) {
+      BufferWriter out = new BufferWriter();
+      Document document = newDocument(out);
+      document.setIndent(indent);
+      writeTable(document);
+      document.setOmitEndTags(false);
+
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      document = new Document(ENCODING_CONTEXT, bytes).setOmitEndTags(true);
+      document.setIndent(indent);
+      writeTable(document);
+      document.setOmitEndTags(false);
+      document.flush();
+      assertEquals("indent " + indent, out.toString(), new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+    }
+  }
+
+  private static void writeTable(Document document) throws IOException {
+    document.table__(table -> table.tbody__(tbody -> tbody
+        .tr__(tr -> tr.td__(td -> td.text("a\u00e9")).td__(td -> td.text("b")))
+        .tr__(tr -> tr.td__(td -> td.text("c")))
+    ));
+  }
+}
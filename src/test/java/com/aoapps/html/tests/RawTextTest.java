@@ -0,0 +1,187 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.Document;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+/**
+ * Tests <code>&lt;script&gt;</code>, <code>&lt;style&gt;</code>, and text streamed from readers and channels.
+ *
+ * @see  com.aoapps.html.ScriptSupportingContent#script__(java.io.Reader)
+ * @see  com.aoapps.html.ScriptSupportingContent#script__(java.nio.channels.ReadableByteChannel, java.nio.charset.Charset)
+ * @see  com.aoapps.html.MetadataContent#style__(java.nio.channels.ReadableByteChannel, java.nio.charset.Charset)
+ * @see  com.aoapps.html.TextContent#text(java.nio.channels.ReadableByteChannel, java.nio.charset.Charset)
+ *
+ * @author  AO Industries, Inc.
+ */
+public class RawTextTest {
+
+  private static final EncodingContext SGML = new EncodingContext() {
+    @Override
+    public Serialization getSerialization() {
+      return Serialization.SGML;
+    }
+
+    @Override
+    public Doctype getDoctype() {
+      return Doctype.HTML5;
+    }
+
+    @Override
+    public Charset getCharacterEncoding() {
+      return StandardCharsets.UTF_8;
+    }
+  };
+
+  /**
+   * Longer than the transfer buffer, with multi-byte and surrogate pairs throughout, so characters are split between
+   * reads.
+   */
+  private static String script(int minLength) {
+    StringBuilder script = new StringBuilder();
+    while (script.length() < minLength) {
+      script.append("var caf\u00e9 = \"\u4e2d\ud83d\ude00\" < 1 && x;\n");
+    }
+    return script.toString();
+  }
+
+  private static ReadableByteChannel channel(String str, Charset charset) {
+    return Channels.newChannel(new ByteArrayInputStream(str.getBytes(charset)));
+  }
+
+  @Test
+  public void testScriptFromReader() throws IOException {
+    for (int length : new int[] {0, 10, 10000}) {
+      String script = script(length);
+      BufferWriter out = new BufferWriter();
+      new Document(SGML, out).script__(new StringReader(script));
+      assertEquals("<script>" + script + "</script>", out.toString());
+    }
+  }
+
+  @Test
+  public void testScriptFromChannel() throws IOException {
+    for (Charset charset : new Charset[] {StandardCharsets.UTF_8, StandardCharsets.UTF_16}) {
+      for (int length : new int[] {0, 10, 10000}) {
+        String script = script(length);
+        BufferWriter out = new BufferWriter();
+        Document document = new Document(SGML, out);
+        document.script__(channel(script, charset), charset);
+        // Reuses the decoder and buffers
+        document.script__(channel(script, charset), charset);
+        assertEquals(charset + ", length " + length, "<script>" + script + "</script><script>" + script + "</script>",
+            out.toString());
+      }
+    }
+  }
+
+  @Test
+  public void testStyleFromChannel() throws IOException {
+    String css = "p.caf\u00e9::after{content:\"\u4e2d\ud83d\ude00\"}";
+    BufferWriter out = new BufferWriter();
+    new Document(SGML, out).style__(channel(css, StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    assertEquals("<style>" + css + "</style>", out.toString());
+  }
+
+  @Test
+  public void testTextFromChannel() throws IOException {
+    String text = script(10000);
+    BufferWriter expected = new BufferWriter();
+    new Document(SGML, expected).text(text);
+    BufferWriter out = new BufferWriter();
+    new Document(SGML, out).text(channel(text, StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    assertEquals(expected.toString(), out.toString());
+  }
+
+  @Test
+  public void testClosedWhenRejected() throws IOException {
+    BufferWriter out = new BufferWriter();
+    try {
+      new Document(SGML, out).script__(new StringReader("a</script>b"));
+      fail("End tag not rejected");
+    } catch (IllegalArgumentException e) {
+      assertTrue(out.toString(), out.toString().endsWith("</script>"));
+    }
+  }
+
+  @Test
+  public void testClosedWhenReaderFails() throws IOException {
+    Reader failing = new Reader() {
+      private boolean first = true;
+
+      @Override
+      public int read(char[] cbuf, int off, int len) throws IOException {
+        if (first) {
+          first = false;
+          cbuf[off] = 'x';
+          return 1;
+        }
+        throw new IOException("Test failure");
+      }
+
+      @Override
+      public void close() {
+        // Nothing to close
+      }
+    };
+    BufferWriter out = new BufferWriter();
+    try {
+      new Document(SGML, out).script__(failing);
+      fail("IOException not thrown");
+    } catch (IOException e) {
+      assertEquals("Test failure", e.getMessage());
+      assertEquals("<script>x</script>", out.toString());
+    }
+  }
+
+  @Test
+  public void testClosedWhenMalformed() throws IOException {
+    BufferWriter out = new BufferWriter();
+    ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(new byte[] {'a', (byte) 0xff, 'b'}));
+    try {
+      new Document(SGML, out).style__(in, StandardCharsets.UTF_8);
+      fail("Malformed input not rejected");
+    } catch (CharacterCodingException e) {
+      assertTrue(out.toString(), out.toString().endsWith("</style>"));
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.DIV;
+import com.aoapps.html.Document;
+import java.io.IOException;
+import org.junit.Test;
+
+/**
+ * @see  Document#setRecycleElements(boolean)
+ *
+ * @author  AO Industries, Inc.
+ */
+public class RecycleElementsTest {
+
+  private static final String EXPECTED =
+      "<div id=\"a\"><div><div>0</div><div>1</div></div><div><div>0</div><div>1</div></div></div>"
+          + "<div id=\"b\"><div><div>0</div><div>1</div></div><div><div>0</div><div>1</div></div></div>"
+          + "<ul><li><span><span>0</span></span></li><li><span><span>1</span></span></li></ul>"
+          + "<div>c</div><div></div>";
+
+  private static String render(boolean recycle) throws IOException {
+    BufferWriter out = new BufferWriter();
+    Document document = new Document(out).setRecycleElements(recycle);
+    for (String id : new String[]{"a", "b"}) {
+      document.div().id(id).__(outer -> {
+        for (int i = 0; i < 2; i++) {
+          outer.div__(middle -> {
+            for (int j = 0; j < 2; j++) {
+              middle.div__(j);
+            }
+          });
+        }
+      });
+    }
+    document.ul__(ul -> {
+      for (int i = 0; i < 2; i++) {
+        int n = i;
+        ul.li__(li -> li.span__(span -> span.span__(n)));
+      }
+    });
+    document.div_c().text("c").__();
+    document.div().__();
+    return out.toString();
+  }
+
+  @Test
+  public void testSameOutputAsNotRecycled() throws IOException {
+    assertEquals(EXPECTED, render(false));
+    assertEquals(EXPECTED, render(true));
+  }
+
+  @Test
+  public void testRecycledWithinSameParent() throws IOException {
+    Document document = new Document(new BufferWriter()).setRecycleElements(true);
+    DIV<Document> first = document.div();
+    first.__();
+    DIV<Document> second = document.div();
+    second.__();
+    assertSame(first, second);
+  }
+
+  @Test
+  public void testNotRecycledWhenDisabled() throws IOException {
+    Document document = new Document(new BufferWriter());
+    DIV<Document> first = document.div();
+    first.__();
+    DIV<Document> second = document.div();
+    second.__();
+    assertNotSame(first, second);
+  }
+}
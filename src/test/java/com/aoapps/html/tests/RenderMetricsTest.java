@@ -0,0 +1,142 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.Document;
+import com.aoapps.html.RenderMetrics;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.Test;
+
+/**
+ * @see  RenderMetrics
+ *
+ * @author  AO Industries, Inc.
+ */
+public class RenderMetricsTest {
+
+  private static RenderMetrics render(String html) throws IOException {
+    BufferWriter out = new BufferWriter();
+    RenderMetrics metrics = new RenderMetrics();
+    Document document = new Document(out).setMetrics(metrics);
+    document.getRawUnsafe(null).write(html);
+    assertEquals(html, out.toString());
+    return metrics;
+  }
+
+  @Test
+  public void testElementNames() throws IOException {
+    RenderMetrics metrics = render(
+        "<DIV class=\"a\"><p>x</p><Img src=\"a.png\"><my-element></my-element><embed></DIV>"
+    );
+    Map<String, Long> expected = new TreeMap<>();
+    expected.put("div", 1L);
+    expected.put("embed", 1L);
+    expected.put("img", 1L);
+    expected.put("my-element", 1L);
+    expected.put("p", 1L);
+    assertEquals(expected, metrics.getElements());
+    assertEquals(2, metrics.getAttributes());
+    // div > p or div > my-element; img and embed are void
+    assertEquals(2, metrics.getMaxDepth());
+  }
+
+  @Test
+  public void testRawText() throws IOException {
+    RenderMetrics metrics = render(
+        "<script>if (a<b) { x = \"<div>\"; }</SCRIPT><style>p > a { }</style><p>"
+    );
+    Map<String, Long> expected = new TreeMap<>();
+    expected.put("p", 1L);
+    expected.put("script", 1L);
+    expected.put("style", 1L);
+    assertEquals(expected, metrics.getElements());
+    assertEquals(1, metrics.getMaxDepth());
+  }
+
+  private static final EncodingContext SGML = new EncodingContext() {
+    @Override
+    public Serialization getSerialization() {
+      return Serialization.SGML;
+    }
+
+    @Override
+    public Doctype getDoctype() {
+      return Doctype.HTML5;
+    }
+
+    @Override
+    public Charset getCharacterEncoding() {
+      return StandardCharsets.UTF_8;
+    }
+  };
+
+  /**
+   * Renders with optional end tags omitted, so the metrics see the minified output.
+   */
+  private static RenderMetrics renderOmitted(String html, String expected) throws IOException {
+    BufferWriter out = new BufferWriter();
+    RenderMetrics metrics = new RenderMetrics();
+    Document document = new Document(SGML, out).setMetrics(metrics).setOmitEndTags(true);
+    document.getRawUnsafe(null).write(html);
+    document.setOmitEndTags(false);
+    assertEquals(expected, out.toString());
+    return metrics;
+  }
+
+  @Test
+  public void testDepthWithOmittedEndTags() throws IOException {
+    StringBuilder html = new StringBuilder("<ul>");
+    StringBuilder expected = new StringBuilder("<ul>");
+    for (int i = 0; i < 100; i++) {
+      html.append("<li>").append(i).append("</li>");
+      expected.append("<li>").append(i);
+    }
+    html.append("</ul>");
+    expected.append("</ul>");
+    RenderMetrics metrics = renderOmitted(html.toString(), expected.toString());
+    assertEquals(100, (long) metrics.getElements().get("li"));
+    // ul > li
+    assertEquals(2, metrics.getMaxDepth());
+  }
+
+  @Test
+  public void testDepthWithOmittedTableEndTags() throws IOException {
+    String row = "<tr><td>a</td><td>b</td></tr>";
+    String html = "<table><tbody>" + row + row + row + "</tbody></table><div><p>x</p><p>y</p></div>";
+    RenderMetrics metrics = renderOmitted(html, "<table><tbody><tr><td>a<td>b<tr><td>a<td>b<tr><td>a<td>b</table>"
+        + "<div><p>x<p>y</div>");
+    // table > tbody > tr > td
+    assertEquals(4, metrics.getMaxDepth());
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.Document;
+import com.aoapps.html.ResourceCache;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @see  ResourceCache
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ResourceCacheTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private static final EncodingContext UTF_8 = new EncodingContext() {
+    @Override
+    public Serialization getSerialization() {
+      return Serialization.SGML;
+    }
+
+    @Override
+    public Doctype getDoctype() {
+      return Doctype.HTML5;
+    }
+
+    @Override
+    public Charset getCharacterEncoding() {
+      return StandardCharsets.UTF_8;
+    }
+  };
+
+  private static String css(int minLength) {
+    StringBuilder css = new StringBuilder();
+    while (css.length() < minLength) {
+      css.append("p.caf\u00e9::after{content:\"\u4e2d\ud83d\ude00\"}\n");
+    }
+    return css.toString();
+  }
+
+  private static byte[] spaces(int length) {
+    byte[] bytes = new byte[length];
+    Arrays.fill(bytes, (byte) ' ');
+    return bytes;
+  }
+
+  private Path write(String name, byte[] bytes, long lastModified) throws IOException {
+    Path file = folder.getRoot().toPath().resolve(name);
+    Files.write(file, bytes);
+    Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified));
+    return file;
+  }
+
+  /**
+   * Renders the file through both a writer and a stream, checking they match.
+   */
+  private static String render(ResourceCache cache, Path file) throws IOException {
+    BufferWriter out = new BufferWriter();
+    new Document(UTF_8, out).style__(cache, file);
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    new Document(UTF_8, bout).style__(cache, file).flush();
+    String html = out.toString();
+    assertEquals(html, new String(bout.toByteArray(), StandardCharsets.UTF_8));
+    return html;
+  }
+
+  @Test
+  public void testSmallAndLarge() throws IOException {
+    ResourceCache cache = new ResourceCache(10);
+    long totalBytes = 0;
+    for (int length : new int[] {0, 100, ResourceCache.DIRECT_THRESHOLD - 100, ResourceCache.DIRECT_THRESHOLD * 3}) {
+      String css = css(length);
+      byte[] bytes = css.getBytes(StandardCharsets.UTF_8);
+      Path file = write("test-" + length + ".css", bytes, 1000000);
+      for (int i = 0; i < 2; i++) {
+        assertEquals("length " + length, "<style>" + css + "</style>", render(cache, file));
+      }
+      totalBytes += bytes.length;
+      assertEquals(totalBytes, cache.getTotalBytes());
+    }
+    assertEquals(4, cache.getMisses());
+    assertEquals(12, cache.getHits());
+  }
+
+  @Test
+  public void testByteOrderMarkSkipped() throws IOException {
+    ResourceCache cache = new ResourceCache(10);
+    for (int length : new int[] {10, ResourceCache.DIRECT_THRESHOLD}) {
+      String css = css(length);
+      byte[] bytes = ("\ufeff" + css).getBytes(StandardCharsets.UTF_8);
+      Path file = write("bom-" + length + ".css", bytes, 1000000);
+      assertEquals("<style>" + css + "</style>", render(cache, file));
+    }
+  }
+
+  @Test
+  public void testReloadedWhenChanged() throws IOException {
+    ResourceCache cache = new ResourceCache(10);
+    for (int length : new int[] {10, ResourceCache.DIRECT_THRESHOLD}) {
+      String css1 = css(length);
+      Path file = write("changed-" + length + ".css", css1.getBytes(StandardCharsets.UTF_8), 1000000);
+      assertEquals("<style>" + css1 + "</style>", render(cache, file));
+      // Truncated to a shorter file
+      String css2 = "p{}";
+      write("changed-" + length + ".css", css2.getBytes(StandardCharsets.UTF_8), 2000000);
+      assertEquals("<style>" + css2 + "</style>", render(cache, file));
+    }
+  }
+
+  @Test
+  public void testEvictedByBytes() throws IOException {
+    ResourceCache cache = new ResourceCache(10, 1000, StandardCharsets.UTF_8);
+    Path file1 = write("a.css", spaces(600), 1000000);
+    Path file2 = write("b.css", spaces(600), 1000000);
+    render(cache, file1);
+    assertEquals(1, cache.size());
+    assertEquals(600, cache.getTotalBytes());
+    render(cache, file2);
+    assertEquals(1, cache.size());
+    assertEquals(600, cache.getTotalBytes());
+    assertEquals(1, cache.getEvictions());
+  }
+}
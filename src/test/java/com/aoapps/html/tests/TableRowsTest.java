@@ -0,0 +1,102 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.CellRenderer;
+import com.aoapps.html.Document;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * @see  com.aoapps.html.TableRows
+ *
+ * @author  AO Industries, Inc.
+ */
+public class TableRowsTest {
+
+  private static final List<String> ROWS = Arrays.asList("a", "b&c");
+
+  private static final List<CellRenderer<String, RuntimeException>> CELLS = Arrays.asList(
+      (row, cell) -> cell.text(row),
+      (row, cell) -> cell.text(row.length())
+  );
+
+  private static String renderManual(boolean recycle) throws IOException {
+    BufferWriter out = new BufferWriter();
+    new Document(out).setRecycleElements(recycle).table__(table -> table
+        .thead__(thead -> {
+          for (String row : ROWS) {
+            thead.tr__(tr -> tr.th__(c -> c.text(row)).th__(c -> c.text(row.length())));
+          }
+        })
+        .tbody__(tbody -> {
+          for (String row : ROWS) {
+            tbody.tr__(tr -> tr.td__(c -> c.text(row)).td__(c -> c.text(row.length())));
+          }
+        })
+        .tfoot__(tfoot -> {
+          for (String row : ROWS) {
+            tfoot.tr__(tr -> tr.td__(c -> c.text(row)).td__(c -> c.text(row.length())));
+          }
+        })
+    );
+    return out.toString();
+  }
+
+  private static String renderRows(boolean recycle) throws IOException {
+    BufferWriter out = new BufferWriter();
+    new Document(out).setRecycleElements(recycle).table__(table -> table
+        .thead__(thead -> thead.rows(ROWS.iterator(), 0, CELLS))
+        .tbody__(ROWS.spliterator(), 1, CELLS)
+        .tfoot__(tfoot -> tfoot.rows(ROWS.stream(), 0, CELLS))
+    );
+    return out.toString();
+  }
+
+  @Test
+  public void testMatchesManual() throws IOException {
+    for (boolean recycle : new boolean[] {false, true}) {
+      assertEquals("recycle " + recycle, renderManual(recycle), renderRows(recycle));
+    }
+  }
+
+  @Test
+  public void testHeaderCells() throws IOException {
+    BufferWriter out = new BufferWriter();
+    new Document(out).table_c().thead__(thead -> thead.rows(ROWS.iterator(), 0, CELLS)).__();
+    String html = out.toString();
+    assertEquals(-1, html.indexOf("<td"));
+    assertEquals(4, html.split("<th>", -1).length - 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeFlushRows() throws IOException {
+    new Document(new BufferWriter()).table_c().tbody__(ROWS.iterator(), -1, CELLS);
+  }
+}
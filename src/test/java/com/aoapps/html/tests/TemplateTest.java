@@ -0,0 +1,129 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.Document;
+import com.aoapps.html.Template;
+import com.aoapps.lang.io.function.IOConsumerE;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import org.junit.Test;
+
+/**
+ * @see  Template
+ *
+ * @author  AO Industries, Inc.
+ */
+public class TemplateTest {
+
+  private static final IOConsumerE<Document, IOException> BODY = d -> d.text("Body caf\u00e9");
+
+  private static Template compile() throws IOException {
+    return Template.compile(EncodingContext.DEFAULT, (document, holes) ->
+        holes.attribute(document.div(), "title", 0).__(div -> div
+            .h1__(h1 -> holes.text(1))
+            .p__("Static caf\u00e9")
+            .div__(body -> holes.fragment(2))
+        )
+    );
+  }
+
+  private static void renderDirect(Document document, String title) throws IOException {
+    document.div().title(title).__(div -> div
+        .h1__("Heading")
+        .p__("Static caf\u00e9")
+        .div__(body -> BODY.accept(document))
+    );
+  }
+
+  @Test
+  public void testArgumentCount() throws IOException {
+    assertEquals(3, compile().getArgumentCount());
+  }
+
+  @Test
+  public void testReplayMatchesDirect() throws IOException {
+    BufferWriter expected = new BufferWriter();
+    renderDirect(new Document(expected), "Title");
+    BufferWriter actual = new BufferWriter();
+    compile().writeTo(new Document(actual), "Title", "Heading", BODY);
+    assertEquals(expected.toString(), actual.toString());
+  }
+
+  @Test
+  public void testReplayToOutputStreamMatchesWriter() throws IOException {
+    Template template = compile();
+    EncodingContext encodingContext = EncodingContext.DEFAULT;
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    try (Writer out = new OutputStreamWriter(expected, encodingContext.getCharacterEncoding())) {
+      template.writeTo(new Document(encodingContext, out), "Title", "Heading", BODY);
+    }
+    ByteArrayOutputStream actual = new ByteArrayOutputStream();
+    // Replayed twice, since the encoded segments are created on first replay
+    for (int i = 0; i < 2; i++) {
+      actual.reset();
+      Document document = new Document(encodingContext, actual);
+      template.writeTo(document, "Title", "Heading", BODY);
+      document.flush();
+      assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+    }
+  }
+
+  @Test
+  public void testNullAttributeOmitted() throws IOException {
+    BufferWriter expected = new BufferWriter();
+    new Document(expected).div__(div -> div
+        .h1__("Heading")
+        .p__("Static caf\u00e9")
+        .div__(body -> BODY.accept(div.getDocument()))
+    );
+    BufferWriter actual = new BufferWriter();
+    compile().writeTo(new Document(actual), null, "Heading", BODY);
+    assertEquals(expected.toString(), actual.toString());
+  }
+
+  @Test
+  public void testAttributeEscaped() throws IOException {
+    BufferWriter actual = new BufferWriter();
+    compile().writeTo(new Document(actual), "a&\"<>'", "Heading", null);
+    String html = actual.toString();
+    assertEquals(
+        html,
+        "<div title=\"a&amp;&quot;&lt;&gt;&#39;\">",
+        html.substring(0, html.indexOf('>') + 1)
+    );
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTooFewArguments() throws IOException {
+    compile().writeTo(new Document(new BufferWriter()), "Title", "Heading");
+  }
+}
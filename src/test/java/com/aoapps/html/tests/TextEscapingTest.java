@@ -0,0 +1,227 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.Document;
+import com.aoapps.html.TextContent;
+import java.io.ByteArrayInputStream;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.Test;
+
+/**
+ * Tests the text that is escaped directly by this module.
+ *
+ * @see  com.aoapps.html.TextContent
+ *
+ * @author  AO Industries, Inc.
+ */
+public class TextEscapingTest {
+
+  @FunctionalInterface
+  private static interface Body {
+    void render(TextContent<?> p) throws IOException;
+  }
+
+  @FunctionalInterface
+  private static interface Renderer {
+    String render(Body body) throws IOException;
+  }
+
+  private static String render(Body body) throws IOException {
+    BufferWriter out = new BufferWriter();
+    new Document(out).p__(body::render);
+    return out.toString();
+  }
+
+  /**
+   * Renders with automatic newlines and indentation, twice within a nested block, so the text begins each of its
+   * lines.
+   */
+  private static String renderIndented(Body body) throws IOException {
+    BufferWriter out = new BufferWriter();
+    new Document(out).setAutonli(true).setIndent(true).div__(outer -> outer.div__(inner -> {
+      body.render(inner);
+      inner.text("\n");
+      body.render(inner);
+    }));
+    return out.toString();
+  }
+
+  /**
+   * Renders the given text through each direct path and checks they all match.
+   */
+  private static String text(Renderer renderer, String text) throws IOException {
+    String chars = renderer.render(p -> p.text(text.toCharArray()));
+    char[] padded = ("xx" + text + "yy").toCharArray();
+    assertEquals(chars, renderer.render(p -> p.text(padded, 2, text.length())));
+    assertEquals(chars, renderer.render(p -> p.text(CharBuffer.wrap(text))));
+    assertEquals(chars, renderer.render(p -> p.text(new StringReader(text))));
+    return chars;
+  }
+
+  /**
+   * Renders the given text through each direct path, with and without indentation, and checks they all match.
+   */
+  private static String text(String text) throws IOException {
+    text(TextEscapingTest::renderIndented, text);
+    return text(TextEscapingTest::render, text);
+  }
+
+  @Test
+  public void testMatchesString() throws IOException {
+    String text = "Plain <b>bold</b> & \"quoted\" 'text'\twith\nlines \u00e9\u4e2d";
+    assertEquals(render(p -> p.text(text)), text(text));
+  }
+
+  @Test
+  public void testIndentedMatchesString() throws IOException {
+    for (String text : new String[] {"a", "a\n", "\n", "\na", "a\nb", "<a & b>\n"}) {
+      assertEquals(
+          text.replace("\n", "\\n"),
+          renderIndented(p -> p.text(text)),
+          text(TextEscapingTest::renderIndented, text)
+      );
+    }
+  }
+
+  @Test
+  public void testIndented() throws IOException {
+    assertEquals(
+        "\n<div>\n  <div>\n    a\n    a\n  </div>\n</div>\n",
+        renderIndented(p -> p.text("a".toCharArray()))
+    );
+  }
+
+  @Test
+  public void testIndentedCharBuffer() throws IOException {
+    String text = "a <b>\nc";
+    String expected = renderIndented(p -> p.text(text));
+    // Backed by an array, escaped from the array
+    assertEquals(expected, renderIndented(p -> p.text(CharBuffer.wrap(text.toCharArray()))));
+    CharBuffer offset = CharBuffer.wrap(("xx" + text + "yy").toCharArray(), 2, text.length()).slice();
+    assertEquals(expected, renderIndented(p -> p.text(offset)));
+    // Not backed by an array, escaped through its CharSequence view
+    assertEquals(expected, renderIndented(p -> p.text(CharBuffer.wrap(text))));
+    assertEquals(expected, renderIndented(p -> p.text(CharBuffer.wrap("x" + text, 1, text.length() + 1))));
+  }
+
+  @Test
+  public void testEscaping() throws IOException {
+    assertEquals("<p>&lt;a &amp; b&gt; \"'</p>", text("<a & b> \"'"));
+  }
+
+  @Test
+  public void testSurrogatePair() throws IOException {
+    String pair = "\ud83d\ude00";
+    assertEquals("<p>a" + pair + "b</p>", text("a" + pair + "b"));
+    assertEquals("<p>" + pair + "</p>", text(pair));
+  }
+
+  @Test
+  public void testLoneSurrogates() throws IOException {
+    assertEquals("<p>a\ufffdb</p>", text("a\ud83db"));
+    assertEquals("<p>a\ufffdb</p>", text("a\ude00b"));
+    assertEquals("<p>\ufffd\ufffd</p>", text("\ude00\ud83d"));
+    assertEquals("<p>a\ufffd</p>", text("a\ud83d"));
+    assertEquals("<p>\ufffd</p>", text("\ude00"));
+  }
+
+  @Test
+  public void testPairSplitBetweenReads() throws IOException {
+    for (int prefix = 4090; prefix <= 4100; prefix++) {
+      char[] filler = new char[prefix];
+      Arrays.fill(filler, 'a');
+      String text = new String(filler) + "\ud83d\ude00" + new String(filler);
+      assertEquals("prefix " + prefix, "<p>" + text + "</p>", render(p -> p.text(new StringReader(text))));
+    }
+  }
+
+  /**
+   * A reader that returns one character per read.
+   */
+  private static Reader oneAtATime(String text) {
+    return new FilterReader(new StringReader(text)) {
+      @Override
+      public int read(char[] cbuf, int off, int len) throws IOException {
+        return super.read(cbuf, off, Math.min(len, 1));
+      }
+    };
+  }
+
+  @Test
+  public void testIndentedStreaming() throws IOException {
+    char[] filler = new char[4095];
+    Arrays.fill(filler, 'a');
+    String[] texts = {
+        "a", "\n", "\na", "a\nb\n", "\n\n",
+        // Newline at the end of the first read, so the second read begins a line
+        new String(filler) + "\nb",
+        new String(filler) + "\n\nb\n"
+    };
+    for (String text : texts) {
+      String expected = renderIndented(p -> p.text(text));
+      String message = text.length() > 10 ? "length " + text.length() : text.replace("\n", "\\n");
+      assertEquals(message, expected, renderIndented(p -> p.text(new StringReader(text))));
+      assertEquals(message, expected, renderIndented(p -> p.text(oneAtATime(text))));
+      assertEquals(
+          message,
+          expected,
+          renderIndented(p -> p.text(
+              Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))),
+              StandardCharsets.UTF_8
+          ))
+      );
+    }
+  }
+
+  @Test
+  public void testAllowedControlCharacters() throws IOException {
+    assertEquals("<p>\t\n\r</p>", text("\t\n\r"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNull() throws IOException {
+    text("a\u0000b");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testControlCharacter() throws IOException {
+    render(p -> p.text("a\u0001b".toCharArray()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNonCharacter() throws IOException {
+    render(p -> p.text("a\uffffb".toCharArray()));
+  }
+}
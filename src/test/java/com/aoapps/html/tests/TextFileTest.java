@@ -0,0 +1,83 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.html.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import com.aoapps.html.BufferWriter;
+import com.aoapps.html.Document;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @see  com.aoapps.html.TextContent#textFile(java.nio.file.Path, java.nio.charset.Charset)
+ *
+ * @author  AO Industries, Inc.
+ */
+public class TextFileTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testContentsWritten() throws IOException {
+    Path file = folder.newFile("test.txt").toPath();
+    Files.write(file, "a < b & \u00e9\n".getBytes(StandardCharsets.ISO_8859_1));
+    BufferWriter out = new BufferWriter();
+    new Document(out)
+        .p__(p -> p.textFile(file, StandardCharsets.ISO_8859_1))
+        .p__(p -> p.textFile(null));
+    assertEquals("<p>a &lt; b &amp; \u00e9\n</p><p></p>", out.toString());
+  }
+
+  @Test
+  public void testIndented() throws IOException {
+    Path file = folder.newFile("test.txt").toPath();
+    String text = "a\nb\n";
+    Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+    BufferWriter out = new BufferWriter();
+    new Document(out).setAutonli(true).setIndent(true).div__(div -> div.textFile(file).text("c"));
+    BufferWriter expected = new BufferWriter();
+    new Document(expected).setAutonli(true).setIndent(true).div__(div -> div.text(text).text("c"));
+    assertEquals(expected.toString(), out.toString());
+    assertEquals("\n<div>\n  a\nb\n  c\n</div>\n", out.toString());
+  }
+
+  @Test
+  public void testObjectWritesPath() throws IOException {
+    Path file = folder.newFile("test.txt").toPath();
+    Files.write(file, "contents".getBytes(StandardCharsets.UTF_8));
+    BufferWriter out = new BufferWriter();
+    Object obj = file;
+    new Document(out).p__(p -> p.text(obj));
+    BufferWriter expected = new BufferWriter();
+    new Document(expected).p__(p -> p.text(file.toString()));
+    assertEquals(expected.toString(), out.toString());
+  }
+}